@@ -64,6 +64,12 @@ dependencies {
 
     // Spring Actuator
     implementation("org.springframework.boot:spring-boot-starter-actuator")
+
+    // Local Cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
+    // Search (embedded Lucene)
+    implementation("org.apache.lucene:lucene-core:10.1.0")
 }
 
 tasks.withType<Test> {
@@ -0,0 +1,17 @@
+-- 메시지 검색 스키마 (content_tsv 생성 컬럼 + 삭제되지 않은 메시지만 담는 부분 GIN 인덱스)
+-- 운영 DB는 애플리케이션 기동과 분리해 psql로 실행한다 (prod는 pulsespace.message.search.schema-init: false).
+--   psql "$DB_URL" -v ON_ERROR_STOP=1 -f backend/db/migration/message-search.sql
+-- CREATE INDEX CONCURRENTLY는 트랜잭션 안에서 실행할 수 없으므로 --single-transaction 없이 실행한다.
+-- 두 문장 모두 IF NOT EXISTS라 다시 실행해도 된다.
+
+-- 1) 생성 컬럼 추가
+--    기존 행을 모두 다시 쓰며 그동안 messages에 ACCESS EXCLUSIVE 잠금을 잡는다 → 점검 시간에 실행
+SET lock_timeout = '5s';
+ALTER TABLE messages ADD COLUMN IF NOT EXISTS content_tsv tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple'::regconfig, content)) STORED;
+RESET lock_timeout;
+
+-- 2) 인덱스는 쓰기를 막지 않고 생성
+--    중간에 실패하면 INVALID 인덱스가 남으므로 DROP INDEX CONCURRENTLY idx_message_content_tsv; 후 다시 실행
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_message_content_tsv ON messages USING GIN (content_tsv)
+    WHERE deleted_at IS NULL;
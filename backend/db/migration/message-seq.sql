@@ -0,0 +1,19 @@
+-- 메시지 순번 스키마 (messages.seq, channels.last_message_seq, channel_members.last_read_seq)
+-- prod는 ddl-auto: validate 이므로 이 버전을 배포하기 전에 psql로 먼저 실행한다 (컬럼이 없으면 기동 시 스키마 검증 실패).
+--   psql "$DB_URL" -v ON_ERROR_STOP=1 --single-transaction -f backend/db/migration/message-seq.sql
+-- 모두 IF NOT EXISTS라 다시 실행해도 된다.
+-- 기존 행의 값은 채우지 않는다 → 새 버전 첫 기동 때 MessageSequenceBackfill이 seq IS NULL인 메시지를 찾아 채널 구간별로 채운다.
+
+-- 상수 기본값/NULL 컬럼 추가는 PostgreSQL 11+에서 테이블을 다시 쓰지 않지만 잠깐 ACCESS EXCLUSIVE 잠금을 잡는다
+SET lock_timeout = '5s';
+
+-- 기존 메시지는 NULL로 두어야 백필 대상이 된다 (기본값 없음)
+ALTER TABLE messages ADD COLUMN IF NOT EXISTS seq BIGINT;
+
+-- 새 채널은 0부터 (엔티티는 insertable = false라 기본값이 들어간다), 기존 채널은 백필이 MAX(seq)로 덮어쓴다
+ALTER TABLE channels ADD COLUMN IF NOT EXISTS last_message_seq BIGINT DEFAULT 0;
+
+-- 백필은 last_read_seq IS NULL인 멤버만 채우므로 기본값 없음 (조회 쿼리는 COALESCE(..., 0))
+ALTER TABLE channel_members ADD COLUMN IF NOT EXISTS last_read_seq BIGINT;
+
+RESET lock_timeout;
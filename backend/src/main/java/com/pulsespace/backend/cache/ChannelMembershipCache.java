@@ -0,0 +1,81 @@
+package com.pulsespace.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pulsespace.backend.repository.ChannelMemberRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * 채널 멤버십 캐시 (권한 체크용)
+ * 멤버인 경우만 캐싱하고, 채널/워크스페이스 삭제 시 해당 채널 항목을 비운다.
+ * 삭제 트랜잭션 커밋 전에 비우면 그 사이 조회가 아직 남아 있는 멤버 행으로 다시 캐싱하므로 커밋 이후에 비운다.
+ */
+@Component
+public class ChannelMembershipCache {
+
+    private static final long MAXIMUM_SIZE = 100_000;
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(10);
+
+    private final ChannelMemberRepository channelMemberRepository;
+    private final Cache<MembershipKey, Boolean> members;
+
+    public ChannelMembershipCache(ChannelMemberRepository channelMemberRepository) {
+        this.channelMemberRepository = channelMemberRepository;
+        this.members = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(EXPIRE_AFTER_WRITE)
+                .build();
+    }
+
+    /**
+     * 채널 멤버 여부 조회
+     */
+    public boolean isMember(Long channelId, Long userId) {
+        MembershipKey key = new MembershipKey(channelId, userId);
+        if (members.getIfPresent(key) != null) {
+            return true;
+        }
+
+        // 캐시 미스 - DB 조회 후 멤버인 경우만 저장
+        boolean member = channelMemberRepository.existsByChannelIdAndUserId(channelId, userId);
+        if (member) {
+            members.put(key, Boolean.TRUE);
+        }
+        return member;
+    }
+
+    /**
+     * 채널 멤버십 캐시 제거 (커밋 이후)
+     */
+    public void evictChannel(Long channelId) {
+        afterCommit(() -> members.asMap().keySet().removeIf(key -> key.channelId().equals(channelId)));
+    }
+
+    /**
+     * 여러 채널 멤버십 캐시 제거 (커밋 이후)
+     */
+    public void evictChannels(Collection<Long> channelIds) {
+        afterCommit(() -> members.asMap().keySet().removeIf(key -> channelIds.contains(key.channelId())));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record MembershipKey(Long channelId, Long userId) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.pulsespace.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pulsespace.backend.domain.message.MessageChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 메시지 페이지 ETag용 채널 버전
+ * 채널별 (epoch, 마지막 메시지 ID, 수정/삭제 버전)을 메모리에 두고 커밋 이후 이벤트로 올린다.
+ * 항목이 새로 만들어질 때마다 epoch가 바뀌므로, 만료/재시작 이후에 이전 ETag가 잘못 일치하지 않는다.
+ * 다른 노드의 변경 이벤트는 받지 못하므로 단일 노드(pulsespace.cluster.relay=local)에서만 켠다.
+ */
+@Component
+public class ChannelPageVersions {
+
+    private static final long MAXIMUM_SIZE = 100_000;
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(30);
+
+    private final boolean enabled;
+    private final Cache<Long, Version> versions;
+
+    public ChannelPageVersions(
+            @Value("${pulsespace.message.etag.enabled:true}") boolean enabled,
+            @Value("${pulsespace.cluster.relay:local}") String relay) {
+        this.enabled = enabled && "local".equals(relay);
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+                .build();
+    }
+
+    /**
+     * 현재 채널 버전 태그 (비활성화 시 null)
+     * 페이지 조회보다 먼저 읽어야 조회 중 커밋된 변경이 다음 태그에 반영된다.
+     */
+    public String getTag(Long channelId) {
+        if (!enabled) {
+            return null;
+        }
+        Version version = versions.get(channelId, id -> new Version(ThreadLocalRandom.current().nextLong(), 0, 0));
+        return Long.toHexString(version.epoch()) + "-" + version.lastMessageId() + "-" + version.editVersion();
+    }
+
+    /**
+     * 전송은 마지막 메시지 ID, 수정/삭제는 수정 버전을 올린다 (항목이 없으면 무시)
+     */
+    @TransactionalEventListener
+    public void onMessageChanged(MessageChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        Long messageId = event.message().getId();
+        versions.asMap().computeIfPresent(event.channelId(), (id, version) -> event.isCreated()
+                ? new Version(version.epoch(), Math.max(version.lastMessageId(), messageId), version.editVersion())
+                : new Version(version.epoch(), version.lastMessageId(), version.editVersion() + 1));
+    }
+
+    private record Version(long epoch, long lastMessageId, long editVersion) {
+    }
+}
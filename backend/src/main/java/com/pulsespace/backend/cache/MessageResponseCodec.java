@@ -0,0 +1,123 @@
+package com.pulsespace.backend.cache;
+
+import com.pulsespace.backend.dto.response.MessageResponse;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 공유 캐시용 MessageResponse 바이너리 인코딩
+ * [형식 버전 1B][null 플래그 1B][id, channelId, senderId 8B씩][문자열: 길이 4B + UTF-8][선택 필드]
+ * type은 저장하지 않는다 (페이지 행은 항상 null).
+ */
+public final class MessageResponseCodec {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final int HAS_SENDER_NAME = 1;
+    private static final int HAS_CONTENT = 1 << 1;
+    private static final int HAS_REPLY_TO = 1 << 2;
+    private static final int HAS_CREATED_AT = 1 << 3;
+    private static final int HAS_EDITED_AT = 1 << 4;
+    private static final int HAS_DELETED_AT = 1 << 5;
+
+    private static final int TIME_BYTES = Long.BYTES + Integer.BYTES;
+
+    private MessageResponseCodec() {
+    }
+
+    public static byte[] encode(MessageResponse message) {
+        byte[] senderName = utf8(message.getSenderName());
+        byte[] content = utf8(message.getContent());
+
+        int flags = (senderName != null ? HAS_SENDER_NAME : 0)
+                | (content != null ? HAS_CONTENT : 0)
+                | (message.getReplyToId() != null ? HAS_REPLY_TO : 0)
+                | (message.getCreatedAt() != null ? HAS_CREATED_AT : 0)
+                | (message.getEditedAt() != null ? HAS_EDITED_AT : 0)
+                | (message.getDeletedAt() != null ? HAS_DELETED_AT : 0);
+
+        // 정확한 크기로 한 번만 할당
+        int size = 2 + Long.BYTES * 3
+                + (senderName != null ? Integer.BYTES + senderName.length : 0)
+                + (content != null ? Integer.BYTES + content.length : 0)
+                + (message.getReplyToId() != null ? Long.BYTES : 0)
+                + Integer.bitCount(flags & (HAS_CREATED_AT | HAS_EDITED_AT | HAS_DELETED_AT)) * TIME_BYTES;
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put(FORMAT_VERSION);
+        buffer.put((byte) flags);
+        buffer.putLong(message.getId());
+        buffer.putLong(message.getChannelId());
+        buffer.putLong(message.getSenderId());
+        putBytes(buffer, senderName);
+        putBytes(buffer, content);
+        if (message.getReplyToId() != null) {
+            buffer.putLong(message.getReplyToId());
+        }
+        putTime(buffer, message.getCreatedAt());
+        putTime(buffer, message.getEditedAt());
+        putTime(buffer, message.getDeletedAt());
+        return buffer.array();
+    }
+
+    /**
+     * 형식이 맞지 않으면 null (캐시 미스로 처리)
+     */
+    public static MessageResponse decode(byte[] bytes) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            if (buffer.get() != FORMAT_VERSION) {
+                return null;
+            }
+            int flags = buffer.get();
+
+            long id = buffer.getLong();
+            long channelId = buffer.getLong();
+            long senderId = buffer.getLong();
+            String senderName = (flags & HAS_SENDER_NAME) != 0 ? getString(buffer) : null;
+            String content = (flags & HAS_CONTENT) != 0 ? getString(buffer) : null;
+            Long replyToId = (flags & HAS_REPLY_TO) != 0 ? buffer.getLong() : null;
+            LocalDateTime createdAt = (flags & HAS_CREATED_AT) != 0 ? getTime(buffer) : null;
+            LocalDateTime editedAt = (flags & HAS_EDITED_AT) != 0 ? getTime(buffer) : null;
+            LocalDateTime deletedAt = (flags & HAS_DELETED_AT) != 0 ? getTime(buffer) : null;
+
+            return new MessageResponse(id, channelId, senderId, senderName, content, replyToId,
+                    createdAt, editedAt, deletedAt, deletedAt != null, null);
+        } catch (BufferUnderflowException e) {
+            return null;
+        }
+    }
+
+    private static byte[] utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+        if (bytes != null) {
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private static void putTime(ByteBuffer buffer, LocalDateTime time) {
+        if (time != null) {
+            buffer.putLong(time.toEpochSecond(ZoneOffset.UTC));
+            buffer.putInt(time.getNano());
+        }
+    }
+
+    private static LocalDateTime getTime(ByteBuffer buffer) {
+        return LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,131 @@
+package com.pulsespace.backend.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 읽음 위치(ChannelMember.lastReadMessageId, lastReadSeq) 갱신 버퍼
+ * 병합 모드에서는 읽음 요청마다 UPDATE 하지 않고 (사용자, 채널)별 최대 ID만 메모리에 모아 주기적으로 일괄 반영한다.
+ * 읽음 위치는 앞으로만 이동한다 (더 작은 ID는 무시, UPDATE도 더 큰 값일 때만).
+ * unread 조회는 getPending()으로 아직 반영되지 않은 값을 함께 읽는다.
+ * 읽은 순번(last_read_seq)은 UPDATE 안에서 메시지 PK로 함께 채운다 (안 읽은 수 = 채널 순번 - 읽은 순번)
+ * 그 채널에 실제로 있는 메시지일 때만 반영한다 (다른 채널/존재하지 않는 ID는 무시).
+ */
+@Slf4j
+@Component
+public class ReadMarkerBuffer {
+
+    private static final String UPDATE_LAST_READ_SQL =
+            "UPDATE channel_members cm SET last_read_message_id = m.id, last_read_seq = COALESCE(m.seq, cm.last_read_seq) "
+                    + "FROM messages m WHERE m.id = ? AND m.channel_id = cm.channel_id "
+                    + "AND cm.channel_id = ? AND cm.user_id = ? AND (cm.last_read_message_id IS NULL OR cm.last_read_message_id < m.id)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean coalesce;
+
+    // userId → (channelId → 읽은 메시지 ID), 사용자 단위 변경은 바깥 맵의 compute 안에서만
+    private final Map<Long, Map<Long, Long>> pending = new ConcurrentHashMap<>();
+
+    private final Counter markCounter;
+    private final Counter writeCounter;
+
+    public ReadMarkerBuffer(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${pulsespace.channel.read-marker.coalesce:false}") boolean coalesce) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.coalesce = coalesce;
+        this.markCounter = Counter.builder("pulsespace.read_marker.marks")
+                .description("읽음 처리 요청 수")
+                .register(meterRegistry);
+        this.writeCounter = Counter.builder("pulsespace.read_marker.writes")
+                .description("읽음 위치 UPDATE 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 읽음 위치 갱신
+     * 즉시 모드: 현재 트랜잭션에서 조건부 UPDATE 한 번 (SELECT 없음)
+     * 병합 모드: 메모리에 최대값으로 병합
+     */
+    public void mark(Long channelId, Long userId, Long messageId) {
+        markCounter.increment();
+
+        if (!coalesce) {
+            jdbcTemplate.update(UPDATE_LAST_READ_SQL, messageId, channelId, userId);
+            writeCounter.increment();
+            return;
+        }
+
+        pending.compute(userId, (id, channels) -> {
+            Map<Long, Long> merged = channels != null ? channels : new ConcurrentHashMap<>();
+            merged.merge(channelId, messageId, Math::max);
+            return merged;
+        });
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 읽음 위치 (없으면 null)
+     */
+    public Long getPending(Long channelId, Long userId) {
+        Map<Long, Long> channels = pending.get(userId);
+        return channels != null ? channels.get(channelId) : null;
+    }
+
+    /**
+     * 사용자의 반영 대기 중인 채널 ID 목록
+     */
+    public Set<Long> getPendingChannelIds(Long userId) {
+        Map<Long, Long> channels = pending.get(userId);
+        return channels != null ? Set.copyOf(channels.keySet()) : Set.of();
+    }
+
+    /**
+     * 대기 중인 값을 DB에 일괄 반영 (더 큰 ID로만 변경)
+     */
+    @Scheduled(fixedDelayString = "${pulsespace.channel.read-marker.flush-interval-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // (userId, channelId, messageId)
+        List<long[]> markers = new ArrayList<>();
+        pending.forEach((userId, channels) -> Map.copyOf(channels)
+                .forEach((channelId, messageId) -> markers.add(new long[]{userId, channelId, messageId})));
+        if (markers.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = markers.stream()
+                .map(marker -> new Object[]{marker[2], marker[1], marker[0]})
+                .toList();
+        jdbcTemplate.batchUpdate(UPDATE_LAST_READ_SQL, args);
+        writeCounter.increment(markers.size());
+
+        // 반영한 값만 제거 (그 사이 더 큰 값이 들어왔으면 유지), 빈 사용자는 정리
+        markers.forEach(marker -> pending.computeIfPresent(marker[0], (userId, channels) -> {
+            channels.remove(marker[1], marker[2]);
+            return channels.isEmpty() ? null : channels;
+        }));
+
+        log.debug("read_marker_flushed count={}", markers.size());
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
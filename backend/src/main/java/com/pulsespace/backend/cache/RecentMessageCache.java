@@ -0,0 +1,159 @@
+package com.pulsespace.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pulsespace.backend.domain.message.MessageChangedEvent;
+import com.pulsespace.backend.dto.response.MessageResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 채널 최신 메시지 페이지 캐시
+ * 채널별 최신 PAGE_SIZE개 MessageResponse(내림차순)를 메모리 예산(바이트 추정치) 안에서 보관한다.
+ * 전송/수정/삭제는 커밋 이후 이벤트로 페이지를 직접 고치고, 한가한 채널은 W-TinyLFU로 밀려난다.
+ */
+@Component
+public class RecentMessageCache {
+
+    public static final int PAGE_SIZE = 50;
+
+    // MessageResponse 한 건의 객체/필드 오버헤드 추정치 (문자열 본문 제외)
+    private static final int ROW_OVERHEAD_BYTES = 160;
+
+    private final boolean enabled;
+    private final Cache<Long, List<MessageResponse>> pages;
+
+    public RecentMessageCache(
+            MeterRegistry meterRegistry,
+            @Value("${pulsespace.message.recent-cache.enabled:true}") boolean enabled,
+            @Value("${pulsespace.message.redis-cache.enabled:false}") boolean sharedCacheEnabled,
+            @Value("${pulsespace.message.recent-cache.max-bytes:67108864}") long maxBytes) {
+        // 공유 캐시를 쓰면 다른 노드의 변경을 받지 못하는 노드별 캐시는 끈다
+        this.enabled = enabled && !sharedCacheEnabled;
+        this.pages = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long channelId, List<MessageResponse> page) -> weigh(page))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "recentMessages");
+        Gauge.builder("pulsespace.cache.recent_messages.hit_ratio", pages, cache -> cache.stats().hitRate())
+                .description("채널 첫 페이지 캐시 적중률")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 최신 페이지 조회, 없으면 loader로 채운다
+     * 같은 채널의 이벤트 반영은 로딩이 끝날 때까지 기다리므로, 로딩 중 커밋된 메시지도 빠지지 않는다.
+     */
+    public List<MessageResponse> getLatest(Long channelId, Supplier<List<MessageResponse>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return pages.get(channelId, id -> List.copyOf(loader.get()));
+    }
+
+    /**
+     * 캐시된 최신 페이지만 확인 (없으면 빈 목록, 로딩하지 않음)
+     */
+    public List<MessageResponse> peek(Long channelId) {
+        if (!enabled) {
+            return List.of();
+        }
+        List<MessageResponse> page = pages.asMap().get(channelId);
+        return page != null ? page : List.of();
+    }
+
+    /**
+     * 커밋된 변경을 캐시된 페이지에 반영 (캐시에 없는 채널은 무시)
+     */
+    @TransactionalEventListener
+    public void onMessageChanged(MessageChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        MessageResponse row = event.message().withType(null).withReplyPreview(null);
+        if (event.isCreated()) {
+            pages.asMap().computeIfPresent(event.channelId(), (id, page) -> insert(page, row));
+        } else {
+            pages.asMap().computeIfPresent(event.channelId(), (id, page) -> replace(page, row));
+        }
+    }
+
+    /**
+     * 채널 페이지 제거 (채널/워크스페이스 삭제, 커밋 이후)
+     */
+    public void evictChannels(Collection<Long> channelIds) {
+        afterCommit(() -> pages.invalidateAll(channelIds));
+    }
+
+    /**
+     * ID 내림차순 위치에 삽입 (커밋 순서가 ID 순서와 다를 수 있음), PAGE_SIZE 초과분은 버림
+     */
+    private static List<MessageResponse> insert(List<MessageResponse> page, MessageResponse row) {
+        int index = 0;
+        while (index < page.size() && page.get(index).getId() > row.getId()) {
+            index++;
+        }
+        if (index < page.size() && page.get(index).getId().equals(row.getId())) {
+            return page;
+        }
+        if (index >= PAGE_SIZE) {
+            return page;
+        }
+
+        List<MessageResponse> updated = new ArrayList<>(Math.min(page.size() + 1, PAGE_SIZE));
+        updated.addAll(page.subList(0, index));
+        updated.add(row);
+        updated.addAll(page.subList(index, Math.min(page.size(), PAGE_SIZE - 1)));
+        return List.copyOf(updated);
+    }
+
+    private static List<MessageResponse> replace(List<MessageResponse> page, MessageResponse row) {
+        for (int i = 0; i < page.size(); i++) {
+            if (page.get(i).getId().equals(row.getId())) {
+                List<MessageResponse> updated = new ArrayList<>(page);
+                updated.set(i, row);
+                return List.copyOf(updated);
+            }
+        }
+        return page;
+    }
+
+    private static int weigh(List<MessageResponse> page) {
+        long bytes = 0;
+        for (MessageResponse row : page) {
+            bytes += ROW_OVERHEAD_BYTES + length(row.getContent()) * 2L + length(row.getSenderName()) * 2L;
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
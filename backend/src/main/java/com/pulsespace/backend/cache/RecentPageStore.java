@@ -0,0 +1,34 @@
+package com.pulsespace.backend.cache;
+
+import java.util.List;
+
+/**
+ * 노드 간 공유되는 채널 최신 페이지 저장소 (채널별 상한 있는 리스트, 최신이 앞)
+ * 모든 연산은 원자적이어야 한다.
+ */
+public interface RecentPageStore {
+
+    /**
+     * 버전과 최신 count개 행을 한 번에 읽는다
+     */
+    Page read(Long channelId, int count);
+
+    /**
+     * 버전을 올리고, 페이지가 있으면 같은 행을 지운 뒤 맨 앞에 추가하고 cap개로 자른다
+     */
+    void push(Long channelId, byte[] row, int cap);
+
+    /**
+     * 읽은 이후 버전이 바뀌지 않았고 페이지가 없을 때만 채운다
+     * @return 채웠으면 true
+     */
+    boolean fill(Long channelId, long expectedVersion, List<byte[]> rows);
+
+    /**
+     * 버전을 올리고 페이지 제거
+     */
+    void invalidate(Long channelId);
+
+    record Page(long version, List<byte[]> rows) {
+    }
+}
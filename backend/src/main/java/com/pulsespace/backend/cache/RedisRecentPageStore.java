@@ -0,0 +1,133 @@
+package com.pulsespace.backend.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis 리스트 기반 채널 최신 페이지 저장소
+ * 키: pulsespace:recent:{channelId} (리스트), pulsespace:recent:{channelId}:v (버전)
+ * 해시 태그로 두 키를 같은 슬롯에 두고 Lua 스크립트로 원자적으로 갱신한다.
+ */
+@Component
+@ConditionalOnProperty(name = "pulsespace.message.redis-cache.enabled", havingValue = "true")
+public class RedisRecentPageStore implements RecentPageStore {
+
+    private static final String KEY_PREFIX = "pulsespace:recent:{";
+
+    // 버전 + LRANGE (조회 1회 왕복)
+    private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>("""
+            local rows = redis.call('LRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1)
+            table.insert(rows, 1, redis.call('GET', KEYS[2]) or '0')
+            return rows
+            """, List.class);
+
+    // 버전 증가 + 페이지가 있을 때만 (같은 행을 지운 뒤) LPUSH, LTRIM
+    private static final RedisScript<Long> PUSH_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[4])
+            redis.call('LREM', KEYS[1], 0, ARGV[1])
+            if redis.call('LPUSHX', KEYS[1], ARGV[1]) > 0 then
+                redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[2]) - 1)
+                redis.call('PEXPIRE', KEYS[1], ARGV[3])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // 읽은 버전 그대로이고 페이지가 없을 때만 채움
+    private static final RedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>("""
+            local version = redis.call('GET', KEYS[2]) or '0'
+            if version ~= ARGV[1] or redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            for i = 3, #ARGV do
+                redis.call('RPUSH', KEYS[1], ARGV[i])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final byte[] pageTtlMillis;
+    private final byte[] versionTtlMillis;
+
+    public RedisRecentPageStore(
+            RedisConnectionFactory connectionFactory,
+            @Value("${pulsespace.message.redis-cache.ttl-seconds:3600}") long ttlSeconds) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.afterPropertiesSet();
+        this.redisTemplate = template;
+
+        // 버전 키는 페이지보다 오래 유지 (페이지가 남아 있는 동안 버전이 사라지지 않도록)
+        this.pageTtlMillis = ascii(ttlSeconds * 1000);
+        this.versionTtlMillis = ascii(ttlSeconds * 2000);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Page read(Long channelId, int count) {
+        List<byte[]> result = redisTemplate.execute(READ_SCRIPT, RedisSerializer.byteArray(), RedisSerializer.byteArray(),
+                keys(channelId), ascii(count));
+        if (result == null || result.isEmpty()) {
+            return new Page(0, List.of());
+        }
+        long version = Long.parseLong(new String(result.get(0), StandardCharsets.US_ASCII));
+        return new Page(version, result.subList(1, result.size()));
+    }
+
+    @Override
+    public void push(Long channelId, byte[] row, int cap) {
+        redisTemplate.execute(PUSH_SCRIPT, RedisSerializer.byteArray(), RedisSerializer.byteArray(),
+                keys(channelId), row, ascii(cap), pageTtlMillis, versionTtlMillis);
+    }
+
+    @Override
+    public boolean fill(Long channelId, long expectedVersion, List<byte[]> rows) {
+        if (rows.isEmpty()) {
+            return false;
+        }
+
+        List<Object> args = new ArrayList<>(rows.size() + 2);
+        args.add(ascii(expectedVersion));
+        args.add(pageTtlMillis);
+        args.addAll(rows);
+
+        Long filled = redisTemplate.execute(FILL_SCRIPT, RedisSerializer.byteArray(), RedisSerializer.byteArray(),
+                keys(channelId), args.toArray());
+        return filled != null && filled == 1L;
+    }
+
+    @Override
+    public void invalidate(Long channelId) {
+        redisTemplate.execute(INVALIDATE_SCRIPT, RedisSerializer.byteArray(), RedisSerializer.byteArray(),
+                keys(channelId), versionTtlMillis);
+    }
+
+    private static List<String> keys(Long channelId) {
+        String pageKey = KEY_PREFIX + channelId + "}";
+        return List.of(pageKey, pageKey + ":v");
+    }
+
+    private static byte[] ascii(long value) {
+        return Long.toString(value).getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,163 @@
+package com.pulsespace.backend.cache;
+
+import com.pulsespace.backend.domain.message.MessageChangedEvent;
+import com.pulsespace.backend.dto.response.MessageResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 노드 간 공유 최신 페이지 캐시 (RecentMessageCache 다음 단계)
+ * 전송은 커밋 이후 저장소 리스트 앞에 추가하고, 수정/삭제는 페이지를 무효화한다.
+ * 저장소가 없거나(단일 노드) 장애 시에는 DB loader로 바로 넘어간다.
+ * 활성화되면 노드별 RecentMessageCache(L1)는 꺼진다 (다른 노드의 변경을 받지 못하므로).
+ */
+@Slf4j
+@Component
+public class SharedRecentMessageCache {
+
+    private static final Comparator<MessageResponse> NEWEST_FIRST =
+            Comparator.comparing(MessageResponse::getId).reversed();
+
+    private final RecentPageStore store;
+    private final Counter hits;
+    private final Counter misses;
+
+    public SharedRecentMessageCache(ObjectProvider<RecentPageStore> store, MeterRegistry meterRegistry) {
+        this.store = store.getIfAvailable();
+        this.hits = Counter.builder("pulsespace.cache.recent_messages.shared")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("pulsespace.cache.recent_messages.shared")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 최신 페이지 조회 (조회 1회 왕복), 없으면 loader 결과로 채운다
+     */
+    public List<MessageResponse> getLatest(Long channelId, Supplier<List<MessageResponse>> loader) {
+        if (store == null) {
+            return loader.get();
+        }
+
+        RecentPageStore.Page page;
+        try {
+            page = store.read(channelId, RecentMessageCache.PAGE_SIZE);
+        } catch (RuntimeException e) {
+            log.warn("shared_recent_cache_read_failed channelId={} error={}", channelId, e.getMessage());
+            return loader.get();
+        }
+
+        List<MessageResponse> cached = decode(page.rows());
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+
+        // 중복/손상된 페이지는 지워야 다음 조회가 다시 채울 수 있다 (fill은 페이지가 없을 때만)
+        if (!page.rows().isEmpty()) {
+            log.warn("shared_recent_cache_page_discarded channelId={} rows={}", channelId, page.rows().size());
+            invalidate(channelId);
+        }
+
+        List<MessageResponse> loaded = loader.get();
+
+        // 읽은 뒤 다른 노드에서 변경이 있었으면 채우지 않음 (버전 비교)
+        try {
+            store.fill(channelId, page.version(), loaded.stream().map(MessageResponseCodec::encode).toList());
+        } catch (RuntimeException e) {
+            log.warn("shared_recent_cache_fill_failed channelId={} error={}", channelId, e.getMessage());
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener
+    public void onMessageChanged(MessageChangedEvent event) {
+        if (store == null) {
+            return;
+        }
+
+        if (!event.isCreated()) {
+            invalidate(event.channelId());
+            return;
+        }
+
+        try {
+            store.push(event.channelId(), MessageResponseCodec.encode(event.message()), RecentMessageCache.PAGE_SIZE);
+        } catch (RuntimeException e) {
+            // 반영되지 않은 페이지가 남으면 새 메시지가 빠진 채로 계속 적중하므로 지운다
+            log.warn("shared_recent_cache_push_failed channelId={} error={}", event.channelId(), e.getMessage());
+            invalidate(event.channelId());
+        }
+    }
+
+    /**
+     * 채널 페이지 제거 (채널/워크스페이스 삭제, 커밋 이후)
+     */
+    public void evictChannels(Collection<Long> channelIds) {
+        if (store == null) {
+            return;
+        }
+        afterCommit(() -> channelIds.forEach(this::invalidate));
+    }
+
+    private void invalidate(Long channelId) {
+        try {
+            store.invalidate(channelId);
+        } catch (RuntimeException e) {
+            log.warn("shared_recent_cache_invalidate_failed channelId={} error={}", channelId, e.getMessage());
+        }
+    }
+
+    /**
+     * 비어 있거나, 디코딩할 수 없는 행이나 같은 ID가 두 번 있으면 null (미스)
+     * 노드 간 커밋 순서가 달라 push 순서가 어긋날 수 있으므로 ID 내림차순으로 정렬
+     * (채우기와 커밋 후 push가 겹치면 같은 메시지가 두 번 들어갈 수 있다)
+     */
+    private static List<MessageResponse> decode(List<byte[]> rows) {
+        if (rows.isEmpty()) {
+            return null;
+        }
+
+        List<MessageResponse> messages = new ArrayList<>(rows.size());
+        Set<Long> ids = new HashSet<>();
+        for (byte[] row : rows) {
+            MessageResponse message = MessageResponseCodec.decode(row);
+            if (message == null || !ids.add(message.getId())) {
+                return null;
+            }
+            messages.add(message);
+        }
+        messages.sort(NEWEST_FIRST);
+        return List.copyOf(messages);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
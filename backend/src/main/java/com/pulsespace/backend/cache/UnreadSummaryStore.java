@@ -0,0 +1,348 @@
+package com.pulsespace.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pulsespace.backend.domain.message.MessageChangedEvent;
+import com.pulsespace.backend.dto.response.UnreadSummaryResponse;
+import com.pulsespace.backend.repository.ChannelMemberRepository;
+import com.pulsespace.backend.repository.MessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 사용자별 안 읽은 메시지 요약 (워크스페이스 목록 unread용)
+ * 사용자마다 속한 채널의 (워크스페이스 ID, 읽은 순번)을 두고, 채널 마지막 순번(head)은 채널당 한 벌만 둔다.
+ * 전송은 커밋 이후 이벤트로 head만 올리고, 읽음 처리는 그 사용자 항목만 올린다 → 조회 시 조인 없이 순번 차이 합산
+ * 요약이 없으면 사용자 채널 읽음 상태 한 번 조회로 다시 만들고, 멤버십이 바뀌면 버린다.
+ * 다른 노드의 전송 이벤트는 받지 못하므로 단일 노드(pulsespace.cluster.relay=local)에서만 켠다.
+ */
+@Slf4j
+@Component
+public class UnreadSummaryStore {
+
+    private static final long MAXIMUM_USERS = 100_000;
+    private static final long MAXIMUM_CHANNELS = 200_000;
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(30);
+
+    private final ChannelMemberRepository channelMemberRepository;
+    private final MessageRepository messageRepository;
+    private final ReadMarkerBuffer readMarkerBuffer;
+    private final boolean enabled;
+
+    // userId → (channelId → 읽음 상태)
+    private final Cache<Long, Map<Long, ChannelState>> summaries;
+    // channelId → 마지막 메시지 (ID, 순번)
+    private final Cache<Long, Head> heads;
+    // channelId → 요약에 그 채널이 있는 사용자 (만료된 요약은 조회 때 정리)
+    private final Map<Long, Set<Long>> channelUsers = new ConcurrentHashMap<>();
+
+    private final Counter rebuildCounter;
+
+    public UnreadSummaryStore(
+            ChannelMemberRepository channelMemberRepository,
+            MessageRepository messageRepository,
+            ReadMarkerBuffer readMarkerBuffer,
+            MeterRegistry meterRegistry,
+            @Value("${pulsespace.channel.unread-summary.enabled:true}") boolean enabled,
+            @Value("${pulsespace.cluster.relay:local}") String relay) {
+        this.channelMemberRepository = channelMemberRepository;
+        this.messageRepository = messageRepository;
+        this.readMarkerBuffer = readMarkerBuffer;
+        this.enabled = enabled && "local".equals(relay);
+        this.summaries = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_USERS)
+                .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+                .build();
+        this.heads = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_CHANNELS)
+                .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+                .build();
+        this.rebuildCounter = Counter.builder("pulsespace.unread_summary.rebuilds")
+                .description("안 읽은 요약 재구성 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 요약에 채널이 있는 사용자 (요약이 없는 사용자는 다음 조회 때 새로 만들어지므로 제외)
+     */
+    public List<Long> getSummarizedUserIds(Long channelId) {
+        List<Long> userIds = new ArrayList<>();
+        channelUsers.computeIfPresent(channelId, (id, users) -> {
+            users.removeIf(userId -> !hasChannel(userId, id));
+            userIds.addAll(users);
+            return users.isEmpty() ? null : users;
+        });
+        return userIds;
+    }
+
+    /**
+     * 사용자 요약이 캐시에 있는지
+     */
+    public boolean hasSummary(Long userId) {
+        return summaries.getIfPresent(userId) != null;
+    }
+
+    /**
+     * 사용자의 안 읽은 요약 (비활성화 시 null)
+     */
+    public UnreadSummaryResponse getSummary(Long userId) {
+        if (!enabled) {
+            return null;
+        }
+
+        Map<Long, ChannelState> channels = summaries.get(userId, this::load);
+        UnreadSummaryResponse summary = summarize(channels, heads::getIfPresent, true);
+        if (summary == null) {
+            // 채널 head가 만료됐으면 다시 만든다
+            summaries.invalidate(userId);
+            channels = summaries.get(userId, this::load);
+            summary = summarize(channels, heads::getIfPresent, false);
+        }
+        index(userId, channels);
+        return summary;
+    }
+
+    /**
+     * 사용자의 안 읽은 요약 (비활성화 시 캐시 없이 DB에서 계산)
+     */
+    public UnreadSummaryResponse loadSummary(Long userId) {
+        if (enabled) {
+            return getSummary(userId);
+        }
+
+        Map<Long, Head> loadedHeads = new HashMap<>();
+        return summarize(load(userId, loadedHeads::put), loadedHeads::get, false);
+    }
+
+    /**
+     * 읽음 위치 이동 반영 (요약이 있는 사용자만)
+     * 마지막 메시지를 읽었으면 head 순번, 그 외에는 메시지 PK로 순번 조회
+     */
+    public void markRead(Long channelId, Long userId, Long messageId) {
+        if (!enabled) {
+            return;
+        }
+
+        Map<Long, ChannelState> channels = summaries.getIfPresent(userId);
+        if (channels == null) {
+            return;
+        }
+        if (!channels.containsKey(channelId)) {
+            // 요약 이후에 가입한 채널 - 다음 조회 때 다시 만든다
+            summaries.invalidate(userId);
+            return;
+        }
+
+        Head head = heads.getIfPresent(channelId);
+        Long seq = head != null && messageId == head.lastMessageId()
+                ? Long.valueOf(head.lastSeq())
+                : findSeqs(Map.of(channelId, messageId)).get(channelId);
+        advance(channels, channelId, seq);
+    }
+
+    /**
+     * 일괄 읽음 처리 반영 (channelId → 읽은 순번, 요약이 있는 사용자만)
+     */
+    public void markReadSeqs(Long userId, Map<Long, Long> readSeqs) {
+        if (!enabled) {
+            return;
+        }
+
+        Map<Long, ChannelState> channels = summaries.getIfPresent(userId);
+        if (channels == null) {
+            return;
+        }
+        if (!channels.keySet().containsAll(readSeqs.keySet())) {
+            // 요약 이후에 가입한 채널 - 다음 조회 때 다시 만든다
+            summaries.invalidate(userId);
+            return;
+        }
+
+        readSeqs.forEach((channelId, seq) -> advance(channels, channelId, seq));
+    }
+
+    /**
+     * 전송된 메시지로 채널 head 갱신 (커밋 이후)
+     */
+    @TransactionalEventListener
+    public void onMessageChanged(MessageChangedEvent event) {
+        if (!enabled || !event.isCreated() || event.seq() == null) {
+            return;
+        }
+        mergeHead(event.channelId(), new Head(event.message().getId(), event.seq()));
+    }
+
+    /**
+     * 사용자 요약 제거 (채널 가입 등 멤버십 변경, 커밋 이후)
+     */
+    public void evictUser(Long userId) {
+        afterCommit(() -> summaries.invalidate(userId));
+    }
+
+    /**
+     * 채널이 포함된 요약과 head 제거 (채널/워크스페이스 삭제, 커밋 이후)
+     */
+    public void evictChannels(Collection<Long> channelIds) {
+        afterCommit(() -> {
+            summaries.asMap().values().removeIf(channels -> channelIds.stream().anyMatch(channels::containsKey));
+            heads.invalidateAll(channelIds);
+            channelUsers.keySet().removeAll(channelIds);
+        });
+    }
+
+    private Map<Long, ChannelState> load(Long userId) {
+        return load(userId, this::mergeHead);
+    }
+
+    private Map<Long, ChannelState> load(Long userId, BiConsumer<Long, Head> headSink) {
+        rebuildCounter.increment();
+
+        Map<Long, ChannelState> channels = new ConcurrentHashMap<>();
+        // (channelId, workspaceId, lastMessageId, lastMessageSeq, lastReadSeq)
+        for (Object[] row : channelMemberRepository.findUnreadStatesByUserId(userId)) {
+            Long channelId = (Long) row[0];
+            headSink.accept(channelId, new Head(orZero((Long) row[2]), orZero((Long) row[3])));
+            channels.put(channelId, new ChannelState((Long) row[1], orZero((Long) row[4])));
+        }
+
+        // DB에 반영되지 않은 읽음 위치 (순번은 메시지 PK로 조회)
+        Map<Long, Long> pendingReads = new HashMap<>();
+        for (Long channelId : readMarkerBuffer.getPendingChannelIds(userId)) {
+            Long messageId = readMarkerBuffer.getPending(channelId, userId);
+            if (messageId != null && channels.containsKey(channelId)) {
+                pendingReads.put(channelId, messageId);
+            }
+        }
+        if (!pendingReads.isEmpty()) {
+            findSeqs(pendingReads).forEach((channelId, seq) -> advance(channels, channelId, seq));
+        }
+
+        log.debug("unread_summary_loaded userId={} channels={}", userId, channels.size());
+        return channels;
+    }
+
+    /**
+     * 채널/워크스페이스별 안 읽은 수 (strict면 head가 빠진 채널이 있을 때 null)
+     */
+    private UnreadSummaryResponse summarize(Map<Long, ChannelState> channels, Function<Long, Head> headLookup, boolean strict) {
+        Map<Long, Long> workspaceCounts = new HashMap<>();
+        Map<Long, Long> channelCounts = new HashMap<>();
+
+        for (Map.Entry<Long, ChannelState> entry : channels.entrySet()) {
+            Head head = headLookup.apply(entry.getKey());
+            if (head == null) {
+                if (strict) {
+                    return null;
+                }
+                continue;
+            }
+
+            long unreadCount = head.lastSeq() - entry.getValue().readSeq();
+            if (unreadCount > 0) {
+                channelCounts.put(entry.getKey(), unreadCount);
+                workspaceCounts.merge(entry.getValue().workspaceId(), unreadCount, Long::sum);
+            }
+        }
+        return new UnreadSummaryResponse(workspaceCounts, channelCounts);
+    }
+
+    /**
+     * 저장된 요약의 채널에 사용자 등록
+     * 정리(getSummarizedUserIds)와 같은 채널 잠금 안에서 하므로, 저장 전 요약을 보고 지운 등록도 여기서 다시 들어간다.
+     */
+    private void index(Long userId, Map<Long, ChannelState> channels) {
+        for (Long channelId : channels.keySet()) {
+            channelUsers.compute(channelId, (id, users) -> {
+                Set<Long> indexed = users != null ? users : ConcurrentHashMap.newKeySet();
+                indexed.add(userId);
+                return indexed;
+            });
+        }
+    }
+
+    private boolean hasChannel(Long userId, Long channelId) {
+        Map<Long, ChannelState> channels = summaries.asMap().get(userId);
+        return channels != null && channels.containsKey(channelId);
+    }
+
+    private void advance(Map<Long, ChannelState> channels, Long channelId, Long seq) {
+        if (seq == null) {
+            return;
+        }
+        channels.computeIfPresent(channelId, (id, state) ->
+                seq > state.readSeq() ? new ChannelState(state.workspaceId(), seq) : state);
+    }
+
+    private void mergeHead(Long channelId, Head head) {
+        heads.asMap().merge(channelId, head, (current, next) -> new Head(
+                Math.max(current.lastMessageId(), next.lastMessageId()),
+                Math.max(current.lastSeq(), next.lastSeq())));
+    }
+
+    /**
+     * 읽은 메시지의 순번 (channelId → messageId 를 channelId → seq 로, 그 채널의 메시지가 아니면 제외)
+     */
+    private Map<Long, Long> findSeqs(Map<Long, Long> readMessageIds) {
+        Map<Long, Long> seqs = new HashMap<>();
+        // (id, channelId, seq)
+        for (Object[] row : messageRepository.findSeqsByIdIn(readMessageIds.values())) {
+            Long channelId = (Long) row[1];
+            if (row[2] != null && row[0].equals(readMessageIds.get(channelId))) {
+                seqs.put(channelId, (Long) row[2]);
+            }
+        }
+        return seqs;
+    }
+
+    /**
+     * 채널의 마지막 메시지인지 (캐시된 head 기준, 없으면 false)
+     */
+    public boolean isLastMessage(Long channelId, Long messageId) {
+        Head head = heads.getIfPresent(channelId);
+        return head != null && head.lastMessageId() == messageId;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static long orZero(Long value) {
+        return value != null ? value : 0;
+    }
+
+    private record ChannelState(Long workspaceId, long readSeq) {
+    }
+
+    private record Head(long lastMessageId, long lastSeq) {
+    }
+}
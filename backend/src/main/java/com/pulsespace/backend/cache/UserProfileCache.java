@@ -0,0 +1,70 @@
+package com.pulsespace.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pulsespace.backend.exception.BusinessException;
+import com.pulsespace.backend.exception.ErrorCode;
+import com.pulsespace.backend.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 사용자 표시 정보 캐시
+ * 메시지 응답에 필요한 발신자 이름을 User 엔티티 로딩 없이 제공한다.
+ * 페이지 단위 조회는 캐시에 없는 ID만 모아 IN 쿼리 한 번으로 채운다.
+ * 이름을 바꾸는 경로가 없어 무효화는 하지 않는다 (변경 경로가 생기면 만료 전까지는 이전 이름).
+ */
+@Component
+public class UserProfileCache {
+
+    private static final long MAXIMUM_SIZE = 100_000;
+
+    // 이름은 현재 바뀌지 않지만, DB 직접 수정 같은 변경도 이 시간 안에는 반영되도록 만료로 상한을 둔다
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(30);
+
+    private final UserRepository userRepository;
+    private final Cache<Long, String> names;
+
+    public UserProfileCache(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.names = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(EXPIRE_AFTER_WRITE)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, names, "userProfiles");
+        Gauge.builder("pulsespace.cache.user_profiles.hit_ratio", names, cache -> cache.stats().hitRate())
+                .description("발신자 이름 캐시 적중률")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자 이름 조회
+     */
+    public String getName(Long userId) {
+        return names.get(userId, id -> userRepository.findNameById(id)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND)));
+    }
+
+    /**
+     * 여러 사용자 이름 조회 (캐시에 없는 ID는 IN 쿼리 한 번)
+     * 존재하지 않는 사용자는 결과에서 빠진다.
+     */
+    public Map<Long, String> getNames(Collection<Long> userIds) {
+        return names.getAll(userIds, missing -> {
+            Map<Long, String> loaded = new HashMap<>();
+            for (Object[] row : userRepository.findNamesByIdIn(missing)) {
+                loaded.put((Long) row[0], (String) row[1]);
+            }
+            return loaded;
+        });
+    }
+}
@@ -1,31 +1,98 @@
 package com.pulsespace.backend.config;
 
+import com.pulsespace.backend.messaging.ChannelSubscriptionRegistry;
+import com.pulsespace.backend.messaging.MessageResyncInterceptor;
+import com.pulsespace.backend.messaging.OutboundBufferDecoratorFactory;
+import com.pulsespace.backend.messaging.PreEncodedStompEncoder;
 import com.pulsespace.backend.security.WebSocketAuthInterceptor;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
 import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.messaging.StompSubProtocolHandler;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
 
 @Configuration
 @EnableWebSocketMessageBroker
-@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final WebSocketAuthInterceptor webSocketAuthInterceptor;
+    private final OutboundBufferDecoratorFactory outboundBufferDecoratorFactory;
+    private final MessageResyncInterceptor messageResyncInterceptor;
+    private final boolean virtualThreads;
+
+    public WebSocketConfig(
+            WebSocketAuthInterceptor webSocketAuthInterceptor,
+            OutboundBufferDecoratorFactory outboundBufferDecoratorFactory,
+            MessageResyncInterceptor messageResyncInterceptor,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.webSocketAuthInterceptor = webSocketAuthInterceptor;
+        this.outboundBufferDecoratorFactory = outboundBufferDecoratorFactory;
+        this.messageResyncInterceptor = messageResyncInterceptor;
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * SimpleBroker 구독 레지스트리 교체
+     * /topic/channels/{id} 구독은 채널 ID로 바로 찾는다 (패턴 매칭 없음)
+     */
+    @Bean
+    public static BeanPostProcessor channelSubscriptionRegistryPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof SimpleBrokerMessageHandler handler) {
+                    handler.setSubscriptionRegistry(new ChannelSubscriptionRegistry());
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * STOMP 인코더 교체
+     * 브로드캐스트 프레임의 공통 부분은 한 번만 인코딩하고 구독 헤더만 세션별로 붙인다
+     */
+    @Bean
+    public SmartInitializingSingleton preEncodedStompEncoderInstaller(
+            @Qualifier("subProtocolWebSocketHandler") WebSocketHandler webSocketHandler) {
+        return () -> {
+            if (WebSocketHandlerDecorator.unwrap(webSocketHandler) instanceof SubProtocolWebSocketHandler handler) {
+                PreEncodedStompEncoder encoder = new PreEncodedStompEncoder();
+                handler.getProtocolHandlers().stream()
+                        .filter(StompSubProtocolHandler.class::isInstance)
+                        .forEach(protocolHandler -> ((StompSubProtocolHandler) protocolHandler).setEncoder(encoder));
+            }
+        };
+    }
 
     /**
      * 메시지 브로커 설정
      */
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        // 클라이언트가 구독하는 경로
-        registry.enableSimpleBroker("/topic");
+        // 클라이언트가 구독하는 경로 (/queue는 세션 전용 응답: /user/queue/resync)
+        registry.enableSimpleBroker("/topic", "/queue");
 
         // 클라이언트가 메시지를 보내는 경로
         registry.setApplicationDestinationPrefixes("/app");
+
+        // 가상 스레드 모드에서는 메시지마다 새 스레드라 세션별 전송 순서를 따로 보장
+        if (virtualThreads) {
+            registry.setPreservePublishOrder(true);
+        }
     }
 
     /**
@@ -35,13 +102,42 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws")  // WebSocket 연결 경로
                 .setAllowedOrigins("http://localhost:5173", "https://www.pulsespace.kr", "https://pulsespace.kr");  // CORS
+
+        // 인바운드도 가상 스레드라 같은 세션의 SEND/SUBSCRIBE가 뒤바뀌지 않도록 세션별 수신 순서 보장
+        if (virtualThreads) {
+            registry.setPreserveReceiveOrder(true);
+        }
     }
 
     /**
-     * 인바운드 채널 설정 (JWT 인증 인터셉터 등록)
+     * 세션별 아웃바운드 버퍼 등록
+     * 느린 클라이언트는 자기 큐에만 쌓이고, 한도를 넘으면 정책(pulsespace.websocket.outbound.policy)대로 처리
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.addDecoratorFactory(outboundBufferDecoratorFactory);
+    }
+
+    /**
+     * 인바운드 채널 설정 (JWT 인증 인터셉터, 재연결 동기화 등록)
      */
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(webSocketAuthInterceptor);
+        registration.interceptors(webSocketAuthInterceptor, messageResyncInterceptor);
+
+        // DB 커밋을 기다리는 동안 풀 스레드를 붙잡지 않도록 가상 스레드 사용
+        if (virtualThreads) {
+            registration.executor(new VirtualThreadTaskExecutor("ws-inbound-"));
+        }
+    }
+
+    /**
+     * 아웃바운드 채널 설정
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        if (virtualThreads) {
+            registration.executor(new VirtualThreadTaskExecutor("ws-outbound-"));
+        }
     }
 }
\ No newline at end of file
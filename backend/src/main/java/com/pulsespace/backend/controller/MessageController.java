@@ -4,15 +4,28 @@ import com.pulsespace.backend.domain.message.Message;
 import com.pulsespace.backend.dto.request.MarkAsReadRequest;
 import com.pulsespace.backend.dto.request.UpdateMessageRequest;
 import com.pulsespace.backend.dto.response.MessageResponse;
+import com.pulsespace.backend.dto.response.MessageSearchResponse;
+import com.pulsespace.backend.messaging.MessageBroadcaster;
+import com.pulsespace.backend.service.MessageExportService;
+import com.pulsespace.backend.service.MessageSearchService;
 import com.pulsespace.backend.service.MessageService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.concurrent.Callable;
 
 @RestController
 @RequestMapping("/api/messages")
@@ -20,22 +33,82 @@ import java.util.List;
 public class MessageController {
 
     private final MessageService messageService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final MessageBroadcaster messageBroadcaster;
+    private final MessageExportService messageExportService;
+    private final MessageSearchService messageSearchService;
 
     /**
-     * 채널의 메시지 50개 조회(커서기반 페이지네이션)
+     * 채널의 메시지 조회(커서기반 페이지네이션, ID 내림차순)
+     * cursorId: 이전 페이지, after: 이후 페이지, around: 해당 메시지 주변, size: 1~100 (기본 50)
+     * If-None-Match가 현재 ETag와 같으면 DB 조회 없이 304
      */
     @GetMapping("/channels/{channelId}/messages")
-    public ResponseEntity<List<MessageResponse>> getChannelMessages(@AuthenticationPrincipal Long userId, @PathVariable Long channelId, @RequestParam(required = false) Long cursorId) {
+    public ResponseEntity<List<MessageResponse>> getChannelMessages(@AuthenticationPrincipal Long userId, @PathVariable Long channelId,
+                                                                    @RequestParam(required = false) Long cursorId,
+                                                                    @RequestParam(required = false) Long after,
+                                                                    @RequestParam(required = false) Long around,
+                                                                    @RequestParam(required = false) Integer size,
+                                                                    WebRequest webRequest) {
+        // 변경이 없으면 304 (채널 버전은 메모리에서)
+        String eTag = messageService.getPageTag(userId, channelId, cursorId, after, around, size);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         // 채널의 메시지 목록 조회
-        List<Message> messages = messageService.getChannelMessages(userId, channelId, cursorId);
+        List<MessageResponse> response = messageService.getChannelMessages(userId, channelId, cursorId, after, around, size);
+
+        if (eTag == null) {
+            return ResponseEntity.ok(response);
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(response);
+    }
+
+    /**
+     * 메시지 검색 (속한 채널 전체 또는 channelId 한 채널)
+     * q: 검색어 (websearch 문법: "구문", -제외, or), cursor: 이전 응답의 nextCursor, size: 1~50 (기본 20)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<MessageSearchResponse> searchMessages(@AuthenticationPrincipal Long userId,
+                                                                @RequestParam String q,
+                                                                @RequestParam(required = false) Long channelId,
+                                                                @RequestParam(required = false) String cursor,
+                                                                @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(messageSearchService.search(userId, q, channelId, cursor, size));
+    }
+
+    /**
+     * 채널 메시지 내보내기 (JSON Lines 스트리밍)
+     * format: jsonl(기본) 또는 gzip, afterId: 끊긴 지점부터 이어받기 (마지막으로 받은 메시지 ID)
+     */
+    @GetMapping("/channels/{channelId}/export")
+    public ResponseEntity<StreamingResponseBody> exportMessages(@AuthenticationPrincipal Long userId, @PathVariable Long channelId,
+                                                                @RequestParam(defaultValue = "jsonl") String format,
+                                                                @RequestParam(defaultValue = "0") long afterId,
+                                                                NativeWebRequest webRequest) {
+        boolean gzip = "gzip".equalsIgnoreCase(format);
+
+        // 권한 확인 + 동시 내보내기 제한 (응답 커밋 전)
+        MessageExportService.Permit permit = messageExportService.begin(userId, channelId);
+
+        // 본문이 실행되지 못하고 끝나도(타임아웃, 오류, 연결 끊김) 비동기 요청이 끝나면 자리 반납
+        WebAsyncUtils.getAsyncManager(webRequest).registerCallableInterceptor(permit, new CallableProcessingInterceptor() {
+            @Override
+            public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                permit.release();
+            }
+        });
 
-        // DTO 변환
-        List<MessageResponse> response = messages.stream()
-                .map(message -> MessageResponse.of(message, null))
-                .toList();
+        StreamingResponseBody body = out -> messageExportService.export(permit, channelId, afterId, gzip, out);
 
-        return ResponseEntity.ok(response);
+        String fileName = "channel-" + channelId + (afterId > 0 ? "-after-" + afterId : "") + (gzip ? ".jsonl.gz" : ".jsonl");
+        return ResponseEntity.ok()
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
     }
 
     /**
@@ -59,9 +132,7 @@ public class MessageController {
         Message message = messageService.updateContent(userId, messageId, request.getContent());
 
         // 메시지 수정 후 해당 채널 구독자들에게 전송
-        messagingTemplate.convertAndSend(
-                "/topic/channels/" + message.getChannel().getId(),
-                MessageResponse.of(message, "UPDATED"));
+        messageBroadcaster.broadcast(message.getChannel().getId(), MessageResponse.of(message, "UPDATED"));
 
         return ResponseEntity.noContent().build();
     }
@@ -75,9 +146,7 @@ public class MessageController {
         Message message = messageService.deleteMessage(userId, messageId);
 
         // 메시지 삭제 후 해당 채널 구독자들에게 전송
-        messagingTemplate.convertAndSend(
-                "/topic/channels/" + message.getChannel().getId(),
-                MessageResponse.of(message, "DELETED"));
+        messageBroadcaster.broadcast(message.getChannel().getId(), MessageResponse.of(message, "DELETED"));
 
         return ResponseEntity.noContent().build();
     }
@@ -2,33 +2,76 @@ package com.pulsespace.backend.controller;
 
 import com.pulsespace.backend.dto.request.SendMessageRequest;
 import com.pulsespace.backend.dto.response.MessageResponse;
-import com.pulsespace.backend.domain.message.Message;
+import com.pulsespace.backend.exception.BusinessException;
+import com.pulsespace.backend.exception.ErrorCode;
+import com.pulsespace.backend.exception.ErrorResponse;
+import com.pulsespace.backend.messaging.ChannelSequencer;
+import com.pulsespace.backend.messaging.MessageBatchWriter;
+import com.pulsespace.backend.messaging.MessageBroadcaster;
 import com.pulsespace.backend.service.MessageService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+@Slf4j
 @Controller
 @RequiredArgsConstructor
 public class WebSocketMessageController {
 
+    public static final String ERROR_DESTINATION = "/queue/errors";
+
     private final MessageService messageService;
+    private final MessageBroadcaster messageBroadcaster;
+    private final ObjectProvider<MessageBatchWriter> messageBatchWriter;
+    private final ChannelSequencer channelSequencer;
     private final SimpMessagingTemplate messagingTemplate;
 
     /**
      * WebSocket 메시지 전송
      * 클라이언트: /app/messages로 전송
      * 구독자: /topic/channels/{channelId}로 수신
+     * 실패(권한 없음, 저장 실패, 대기열 초과)는 보낸 사용자의 /user/queue/errors로 알린다.
      */
     @MessageMapping("/messages")
     public void sendMessage(@Payload SendMessageRequest request, Authentication auth) {
         Long userId = (Long) auth.getPrincipal();
 
+        try {
+            // 채널 순서대로 저장 → 전송 (채널 내 순서 보장)
+            channelSequencer.submit(request.getChannelId(), () -> send(userId, request))
+                    .thenCompose(Function.identity())
+                    .exceptionally(e -> {
+                        reportFailure(userId, request, e);
+                        return null;
+                    });
+        } catch (BusinessException e) {
+            reportFailure(userId, request, e);
+        }
+    }
+
+    private CompletableFuture<Void> send(Long userId, SendMessageRequest request) {
+        // write-behind 모드: 배치 커밋 이후 전송
+        // future는 flusher 스레드에서 완료되므로 전송은 채널 순서대로 다시 넘긴다 (flusher가 모든 채널 전송을 떠안지 않도록)
+        MessageBatchWriter batchWriter = messageBatchWriter.getIfAvailable();
+        if (batchWriter != null) {
+            return batchWriter.submit(userId, request.getChannelId(), request.getContent(), request.getReplyToId())
+                    .thenCompose(response -> channelSequencer.<Void>submit(request.getChannelId(), () -> {
+                        messageBroadcaster.broadcast(request.getChannelId(), response);
+                        return null;
+                    }));
+        }
+
         // 메시지 저장
-        Message message = messageService.sendMessage(
+        MessageResponse response = messageService.sendMessage(
                 userId,
                 request.getChannelId(),
                 request.getContent(),
@@ -36,9 +79,23 @@ public class WebSocketMessageController {
         );
 
         // 해당 채널 구독자들에게 전송
-        messagingTemplate.convertAndSend(
-                "/topic/channels/" + request.getChannelId(),
-                MessageResponse.of(message, "CREATED")
-        );
+        messageBroadcaster.broadcast(request.getChannelId(), response);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private void reportFailure(Long userId, SendMessageRequest request, Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+
+        ErrorResponse error;
+        if (cause instanceof BusinessException businessException) {
+            ErrorCode code = businessException.getErrorCode();
+            log.warn("message_send_rejected userId={} channelId={} code={}", userId, request.getChannelId(), code.name());
+            error = new ErrorResponse(code.getStatus(), code.getMessage());
+        } else {
+            log.error("message_send_failed userId={} channelId={} message={}", userId, request.getChannelId(), cause.getMessage(), cause);
+            error = new ErrorResponse(500, "메시지를 전송하지 못했습니다.");
+        }
+
+        messagingTemplate.convertAndSendToUser(String.valueOf(userId), ERROR_DESTINATION, error);
     }
-}
\ No newline at end of file
+}
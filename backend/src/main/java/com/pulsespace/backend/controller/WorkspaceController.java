@@ -6,6 +6,7 @@ import com.pulsespace.backend.dto.request.AddMemberRequest;
 import com.pulsespace.backend.dto.request.CreateWorkspaceRequest;
 import com.pulsespace.backend.dto.request.UpdateMemberRole;
 import com.pulsespace.backend.dto.response.ChannelResponse;
+import com.pulsespace.backend.dto.response.UnreadSummaryResponse;
 import com.pulsespace.backend.dto.response.WorkspaceMemberResponse;
 import com.pulsespace.backend.dto.response.WorkspaceResponse;
 import com.pulsespace.backend.service.ChannelService;
@@ -108,6 +109,17 @@ public class WorkspaceController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 워크스페이스 전체 읽음 처리
+     */
+    @PostMapping("/{workspaceId}/read")
+    public ResponseEntity<UnreadSummaryResponse> markAllAsRead(@AuthenticationPrincipal Long userId, @PathVariable Long workspaceId) {
+        // 내 채널 전체 읽음 처리 후 갱신된 안 읽은 요약 반환
+        UnreadSummaryResponse response = workspaceService.markAllAsRead(userId, workspaceId);
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 워크스페이스 멤버 권한 수정
      */
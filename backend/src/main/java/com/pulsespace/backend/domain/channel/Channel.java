@@ -50,6 +50,10 @@ public class Channel {
     @Column(name = "last_message_id")
     private Long lastMessageId; // 채널 마지막 메시지
 
+    // 채널 내 메시지 순번 카운터 (ChannelSequenceRepository가 JDBC로만 증가, 엔티티 저장 시 덮어쓰지 않음)
+    @Column(name = "last_message_seq", insertable = false, updatable = false)
+    private Long lastMessageSeq; // 채널 마지막 메시지 순번
+
     public void updateLastMessageId(Long messageId) {
         this.lastMessageId = messageId;
     }
@@ -38,6 +38,9 @@ public class ChannelMember {
     @Column(name = "last_read_message_id")
     private Long lastReadMessageId; //마지막으로 읽은 메시지 ID
 
+    @Column(name = "last_read_seq", insertable = false, updatable = false)
+    private Long lastReadSeq; //마지막으로 읽은 메시지 순번 (읽음 처리 UPDATE에서 함께 갱신)
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime joinedAt; //채널 가입 시간
@@ -0,0 +1,11 @@
+package com.pulsespace.backend.domain.channel;
+
+import java.util.List;
+
+/**
+ * 채널 삭제 이벤트 (채널 삭제, 워크스페이스 삭제)
+ * 메시지를 일괄 삭제하므로 메시지별 MessageChangedEvent는 발행되지 않는다.
+ * 트랜잭션 안에서 발행하고, 구독자는 커밋 이후(@TransactionalEventListener)에 반영한다.
+ */
+public record ChannelsDeletedEvent(List<Long> channelIds) {
+}
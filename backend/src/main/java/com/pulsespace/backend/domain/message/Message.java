@@ -45,6 +45,9 @@ public class Message {
 
     private Long replyToId; //답장할 메시지 ID
 
+    @Column(updatable = false)
+    private Long seq;   //채널 내 순번 (1부터 빈 번호 없이 증가)
+
     public void updateContent(String content) {
         this.content = content;
         this.editedAt = LocalDateTime.now();
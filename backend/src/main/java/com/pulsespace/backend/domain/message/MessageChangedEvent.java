@@ -0,0 +1,20 @@
+package com.pulsespace.backend.domain.message;
+
+import com.pulsespace.backend.dto.response.MessageResponse;
+
+/**
+ * 메시지 생성/수정/삭제 이벤트
+ * 트랜잭션 안에서 발행하고, 구독자는 커밋 이후(@TransactionalEventListener)에 반영한다.
+ * message.type: CREATED, UPDATED, DELETED
+ * seq: 생성 시 할당된 채널 내 순번 (수정/삭제는 null)
+ */
+public record MessageChangedEvent(Long channelId, MessageResponse message, Long seq) {
+
+    public MessageChangedEvent(Long channelId, MessageResponse message) {
+        this(channelId, message, null);
+    }
+
+    public boolean isCreated() {
+        return "CREATED".equals(message.getType());
+    }
+}
@@ -17,9 +17,14 @@ public class ChannelResponse {
     private String description;
     private LocalDateTime createdAt;
     private boolean hasUnread;
+    private long unreadCount;   // 안 읽은 메시지 수 (채널 순번 차이)
     private boolean isMember;
 
     public static ChannelResponse of(Channel channel, boolean hasUnread, boolean isMember) {
+        return of(channel, hasUnread, 0, isMember);
+    }
+
+    public static ChannelResponse of(Channel channel, boolean hasUnread, long unreadCount, boolean isMember) {
         return new ChannelResponse(
                 channel.getId(),
                 channel.getWorkspace().getId(),
@@ -28,6 +33,7 @@ public class ChannelResponse {
                 channel.getDescription(),
                 channel.getCreatedAt(),
                 hasUnread,
+                unreadCount,
                 isMember
         );
     }
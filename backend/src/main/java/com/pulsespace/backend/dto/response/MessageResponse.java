@@ -1,8 +1,10 @@
 package com.pulsespace.backend.dto.response;
 
 import com.pulsespace.backend.domain.message.Message;
+import com.pulsespace.backend.repository.MessageRow;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.With;
 
 import java.time.LocalDateTime;
 
@@ -20,14 +22,27 @@ public class MessageResponse {
     private LocalDateTime editedAt;
     private LocalDateTime deletedAt;
     private Boolean isDeleted;
+    @With
     private String type; // CREATED, UPDATED, DELETED
+    @With
+    private ReplyPreviewResponse replyPreview; // 답장 대상 미리보기 (페이지 조회 시에만, 캐시에는 저장하지 않음)
+
+    public MessageResponse(Long id, Long channelId, Long senderId, String senderName, String content, Long replyToId,
+                           LocalDateTime createdAt, LocalDateTime editedAt, LocalDateTime deletedAt, Boolean isDeleted, String type) {
+        this(id, channelId, senderId, senderName, content, replyToId, createdAt, editedAt, deletedAt, isDeleted, type, null);
+    }
 
     public static MessageResponse of(Message message, String type){
+        return of(message, message.getSender().getName(), type);
+    }
+
+    // 발신자 이름을 따로 전달 (sender 프록시 초기화 방지)
+    public static MessageResponse of(Message message, String senderName, String type){
         return new MessageResponse(
                 message.getId(),
                 message.getChannel().getId(),
                 message.getSender().getId(),
-                message.getSender().getName(),
+                senderName,
                 message.getContent(),
                 message.getReplyToId(),
                 message.getCreatedAt(),
@@ -37,4 +52,21 @@ public class MessageResponse {
                 type
         );
     }
-}
\ No newline at end of file
+
+    // 목록 조회 프로젝션 변환 (발신자 이름은 캐시에서)
+    public static MessageResponse from(MessageRow row, String senderName, String type) {
+        return new MessageResponse(
+                row.id(),
+                row.channelId(),
+                row.senderId(),
+                senderName,
+                row.content(),
+                row.replyToId(),
+                row.createdAt(),
+                row.editedAt(),
+                row.deletedAt(),
+                row.deletedAt() != null,
+                type
+        );
+    }
+}
@@ -0,0 +1,36 @@
+package com.pulsespace.backend.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 재연결 동기화 응답 (/user/queue/resync)
+ * BATCH: 놓친 메시지 묶음 (오름차순)
+ * COMPLETE: 동기화 끝, 이후는 실시간 메시지만 적용
+ * RELOAD: 너무 많이 밀렸거나 서버가 바쁨, REST로 최신 메시지를 다시 불러와야 함
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class MessageResyncResponse {
+
+    private String type;
+    private Long channelId;
+    private List<MessageResponse> messages;
+    private Long lastMessageId;
+    private String reason;
+
+    public static MessageResyncResponse batch(Long channelId, List<MessageResponse> messages) {
+        return new MessageResyncResponse("BATCH", channelId, messages, messages.get(messages.size() - 1).getId(), null);
+    }
+
+    public static MessageResyncResponse complete(Long channelId, Long lastMessageId) {
+        return new MessageResyncResponse("COMPLETE", channelId, List.of(), lastMessageId, null);
+    }
+
+    public static MessageResyncResponse reload(Long channelId, String reason) {
+        return new MessageResyncResponse("RELOAD", channelId, List.of(), null, reason);
+    }
+}
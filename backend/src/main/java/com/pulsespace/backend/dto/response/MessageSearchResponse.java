@@ -0,0 +1,18 @@
+package com.pulsespace.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 메시지 검색 결과 (순위순)
+ * nextCursor: 다음 페이지 요청 시 그대로 전달, 마지막 페이지면 null
+ */
+@Getter
+@AllArgsConstructor
+public class MessageSearchResponse {
+
+    private List<MessageResponse> messages;
+    private String nextCursor;
+}
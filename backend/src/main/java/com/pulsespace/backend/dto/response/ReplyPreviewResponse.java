@@ -0,0 +1,43 @@
+package com.pulsespace.backend.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 답장 대상 메시지 미리보기 (발신자 이름 + 앞부분 일부)
+ * 삭제됐거나 찾을 수 없는 메시지는 snippet 없이 isDeleted만 true
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReplyPreviewResponse {
+
+    public static final int SNIPPET_LENGTH = 100;
+
+    private Long messageId;
+    private Long senderId;
+    private String senderName;
+    private String snippet;
+    private Boolean isDeleted;
+
+    public static ReplyPreviewResponse of(MessageResponse message) {
+        if (Boolean.TRUE.equals(message.getIsDeleted())) {
+            return new ReplyPreviewResponse(message.getId(), message.getSenderId(), message.getSenderName(), null, true);
+        }
+        return new ReplyPreviewResponse(message.getId(), message.getSenderId(), message.getSenderName(),
+                snippet(message.getContent()), false);
+    }
+
+    // 원본이 없음 (채널 정리 등으로 행 자체가 사라짐)
+    public static ReplyPreviewResponse missing(Long messageId) {
+        return new ReplyPreviewResponse(messageId, null, null, null, true);
+    }
+
+    // 코드 포인트 기준으로 잘라 서로게이트 쌍(이모지)이 깨지지 않게
+    private static String snippet(String content) {
+        if (content == null || content.codePointCount(0, content.length()) <= SNIPPET_LENGTH) {
+            return content;
+        }
+        return content.substring(0, content.offsetByCodePoints(0, SNIPPET_LENGTH)) + "…";
+    }
+}
@@ -0,0 +1,48 @@
+package com.pulsespace.backend.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 안 읽은 상태 변경분 (/user/queue/unread)
+ * 바뀐 워크스페이스/채널만 담고, 값은 변경 후 안 읽은 수 (0이면 모두 읽음)
+ * 절대값이라 같은 변경분을 여러 번 받아도 결과가 같다.
+ * full이면 전체 상태라 0이 아닌 항목만 담으며, 빠진 항목은 모두 0으로 본다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class UnreadDeltaResponse {
+
+    private Map<Long, Long> workspaces;
+    private Map<Long, Long> channels;
+    private boolean full;
+
+    /**
+     * 이전 요약 대비 변경분 (이전 요약이 없으면 현재 전체)
+     */
+    public static UnreadDeltaResponse between(UnreadSummaryResponse previous, UnreadSummaryResponse current) {
+        return new UnreadDeltaResponse(
+                diff(previous != null ? previous.getWorkspaces() : Map.of(), current.getWorkspaces()),
+                diff(previous != null ? previous.getChannels() : Map.of(), current.getChannels()),
+                previous == null);
+    }
+
+    private static Map<Long, Long> diff(Map<Long, Long> previous, Map<Long, Long> current) {
+        Map<Long, Long> changes = new HashMap<>();
+        current.forEach((id, count) -> {
+            if (!count.equals(previous.get(id))) {
+                changes.put(id, count);
+            }
+        });
+        previous.keySet().forEach(id -> {
+            if (!current.containsKey(id)) {
+                changes.put(id, 0L);
+            }
+        });
+        return changes;
+    }
+}
@@ -0,0 +1,18 @@
+package com.pulsespace.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 사용자의 안 읽은 메시지 요약
+ * 안 읽은 메시지가 있는 워크스페이스/채널만 담는다 (ID → 안 읽은 수)
+ */
+@Getter
+@AllArgsConstructor
+public class UnreadSummaryResponse {
+
+    private Map<Long, Long> workspaces;
+    private Map<Long, Long> channels;
+}
@@ -16,15 +16,21 @@ public class WorkspaceResponse {
     private String ownerName;
     private LocalDateTime createdAt;
     private boolean hasUnread;
+    private long unreadCount;   // 속한 채널의 안 읽은 메시지 수 합
 
     public static WorkspaceResponse of(Workspace workspace, boolean hasUnread) {
+        return of(workspace, hasUnread, 0);
+    }
+
+    public static WorkspaceResponse of(Workspace workspace, boolean hasUnread, long unreadCount) {
         return new WorkspaceResponse(
                 workspace.getId(),
                 workspace.getName(),
                 workspace.getDescription(),
                 workspace.getOwner().getName(),
                 workspace.getCreatedAt(),
-                hasUnread
+                hasUnread,
+                unreadCount
         );
     }
 }
\ No newline at end of file
@@ -13,8 +13,12 @@ public enum ErrorCode {
     FORBIDDEN(403, "권한이 없습니다."),
     DUPLICATE_MEMBER(400, "이미 멤버입니다."),
     DUPLICATE_EMAIL(400, "이미 사용 중인 이메일입니다."),
+    INVALID_PAGE_REQUEST(400, "cursorId, after, around 중 하나만 지정할 수 있습니다."),
+    INVALID_SEARCH_REQUEST(400, "검색어(1~200자) 또는 커서가 올바르지 않습니다."),
     INVALID_PASSWORD(401, "비밀번호가 일치하지 않습니다."),
-    INVALID_TOKEN(401, "유효하지 않은 토큰입니다.");
+    INVALID_TOKEN(401, "유효하지 않은 토큰입니다."),
+    MESSAGE_QUEUE_FULL(503, "메시지 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    EXPORT_BUSY(503, "진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해주세요.");
 
     private final int status;
     private final String message;
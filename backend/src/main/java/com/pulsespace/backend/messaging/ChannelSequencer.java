@@ -0,0 +1,127 @@
+package com.pulsespace.backend.messaging;
+
+import com.pulsespace.backend.exception.BusinessException;
+import com.pulsespace.backend.exception.ErrorCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 채널별 단일 작성자(single-writer) 실행기
+ * 채널마다 작업을 이전 작업 뒤에 이어 붙여(채널별 직렬 체인) 같은 채널의 저장 → 브로드캐스트 순서를 보장한다.
+ * 채널이 고정 lane을 나눠 쓰지 않으므로 한 채널이 DB 커밋을 기다리는 동안에도 다른 채널은 남은 worker에서 실행된다.
+ * 작업 결과와 예외는 반환된 future로 호출자에게 전달된다.
+ */
+@Component
+public class ChannelSequencer {
+
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+
+    private final boolean enabled;
+    private final ExecutorService workers;
+    private final Semaphore capacity;
+
+    // channelId → 마지막으로 이어 붙인 작업 (끝나면 제거)
+    private final Map<Long, CompletableFuture<?>> tails = new ConcurrentHashMap<>();
+
+    private final Timer latencyTimer;
+
+    public ChannelSequencer(
+            MeterRegistry meterRegistry,
+            @Value("${pulsespace.message.sequencer.enabled:false}") boolean enabled,
+            @Value("${pulsespace.message.sequencer.workers:0}") int workerCount,
+            @Value("${pulsespace.message.sequencer.queue-capacity:10000}") int queueCapacity) {
+        this.enabled = enabled;
+
+        // worker 수 미지정 시 코어 수만큼
+        int size = enabled ? (workerCount > 0 ? workerCount : Runtime.getRuntime().availableProcessors()) : 0;
+        this.workers = enabled
+                ? Executors.newFixedThreadPool(size, Thread.ofPlatform().name("channel-worker-", 0).factory())
+                : null;
+        this.capacity = new Semaphore(queueCapacity);
+
+        Gauge.builder("pulsespace.sequencer.queue.depth", capacity, semaphore -> queueCapacity - semaphore.availablePermits())
+                .description("대기 + 실행 중인 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("pulsespace.sequencer.channels", tails, Map::size)
+                .description("작업이 남아 있는 채널 수")
+                .register(meterRegistry);
+        Gauge.builder("pulsespace.sequencer.workers", () -> size)
+                .register(meterRegistry);
+        this.latencyTimer = Timer.builder("pulsespace.sequencer.latency")
+                .description("채널 대기 + 실행 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 채널 순서대로 작업 실행
+     * 비활성화 상태면 호출 스레드에서 바로 실행하고 완료된 future를 반환한다.
+     * 대기 작업이 queue-capacity를 넘으면 MESSAGE_QUEUE_FULL
+     */
+    public <T> CompletableFuture<T> submit(Long channelId, Supplier<T> task) {
+        if (!enabled) {
+            try {
+                return CompletableFuture.completedFuture(task.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        if (!capacity.tryAcquire()) {
+            throw new BusinessException(ErrorCode.MESSAGE_QUEUE_FULL);
+        }
+
+        long enqueuedAt = System.nanoTime();
+        CompletableFuture<T> result = new CompletableFuture<>();
+
+        // 같은 채널의 이전 작업이 끝난 뒤 실행 (이전 작업의 성공/실패와 무관)
+        CompletableFuture<?> tail = tails.compute(channelId, (id, previous) -> {
+            CompletableFuture<?> after = previous != null ? previous : DONE;
+            return after.handleAsync((ignored, error) -> {
+                run(task, result, enqueuedAt);
+                return null;
+            }, workers);
+        });
+
+        tail.whenComplete((ignored, error) -> {
+            tails.remove(channelId, tail);
+            // 종료 중이라 실행되지 못한 작업
+            if (error != null && result.completeExceptionally(error)) {
+                capacity.release();
+            }
+        });
+        return result;
+    }
+
+    private <T> void run(Supplier<T> task, CompletableFuture<T> result, long enqueuedAt) {
+        try {
+            result.complete(task.get());
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        } finally {
+            capacity.release();
+            latencyTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        if (workers == null) {
+            return;
+        }
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,261 @@
+package com.pulsespace.backend.messaging;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.broker.DefaultSubscriptionRegistry;
+import org.springframework.messaging.simp.broker.SubscriptionRegistry;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 채널 ID 기반 구독 레지스트리
+ * /topic/channels/{id} 구독은 채널 ID(long) 키의 맵에 세션별로 보관한다.
+ * 구독 변경은 해당 세션 항목만 바꾸고(세션별 copy-on-write), 조회 결과는 채널마다 하나인 읽기 전용 뷰라
+ * 브로드캐스트마다 할당이 없다.
+ * selector 헤더가 있는 채널 구독과 그 외 목적지는 기본 레지스트리(패턴 매칭, selector 평가)에 위임한다.
+ */
+public class ChannelSubscriptionRegistry implements SubscriptionRegistry {
+
+    private static final String DEFAULT_SELECTOR_HEADER = "selector";
+
+    private static final MultiValueMap<String, String> NO_SUBSCRIPTIONS =
+            CollectionUtils.unmodifiableMultiValueMap(new LinkedMultiValueMap<>());
+
+    private final SubscriptionRegistry fallback;
+    private final String selectorHeaderName;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // channelId -> 구독자 목록
+    private final LongObjectMap<ChannelSubscribers> channels = new LongObjectMap<>();
+
+    // sessionId -> (subscriptionId -> 채널 구독)
+    private final Map<String, Map<String, Subscription>> sessions = new HashMap<>();
+
+    public ChannelSubscriptionRegistry() {
+        this(DEFAULT_SELECTOR_HEADER);
+    }
+
+    public ChannelSubscriptionRegistry(String selectorHeaderName) {
+        this(selectorRegistry(selectorHeaderName), selectorHeaderName);
+    }
+
+    public ChannelSubscriptionRegistry(SubscriptionRegistry fallback, String selectorHeaderName) {
+        this.fallback = fallback;
+        this.selectorHeaderName = selectorHeaderName;
+    }
+
+    private static SubscriptionRegistry selectorRegistry(String selectorHeaderName) {
+        DefaultSubscriptionRegistry registry = new DefaultSubscriptionRegistry();
+        registry.setSelectorHeaderName(selectorHeaderName);
+        return registry;
+    }
+
+    @Override
+    public void registerSubscription(Message<?> subscribeMessage) {
+        MessageHeaders headers = subscribeMessage.getHeaders();
+        Long channelId = MessageBroadcaster.parseChannelId(SimpMessageHeaderAccessor.getDestination(headers));
+        if (channelId == null) {
+            fallback.registerSubscription(subscribeMessage);
+            return;
+        }
+
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(headers);
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+        boolean selector = hasSelector(headers);
+
+        lock.writeLock().lock();
+        try {
+            Map<String, Subscription> subscriptions = sessions.computeIfAbsent(sessionId, id -> new HashMap<>());
+            if (subscriptions.putIfAbsent(subscriptionId, new Subscription(channelId, selector)) != null) {
+                return;
+            }
+
+            ChannelSubscribers subscribers = channels.get(channelId);
+            if (subscribers == null) {
+                subscribers = new ChannelSubscribers();
+                channels.put(channelId, subscribers);
+            }
+            if (selector) {
+                subscribers.selectorCount++;
+            } else {
+                subscribers.add(sessionId, subscriptionId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // selector 평가는 기본 레지스트리가 담당
+        if (selector) {
+            fallback.registerSubscription(subscribeMessage);
+        }
+    }
+
+    @Override
+    public void unregisterSubscription(Message<?> unsubscribeMessage) {
+        MessageHeaders headers = unsubscribeMessage.getHeaders();
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(headers);
+
+        Subscription removed = null;
+        lock.writeLock().lock();
+        try {
+            Map<String, Subscription> subscriptions = sessionId != null ? sessions.get(sessionId) : null;
+            removed = subscriptions != null ? subscriptions.remove(subscriptionId) : null;
+            if (removed != null) {
+                if (subscriptions.isEmpty()) {
+                    sessions.remove(sessionId);
+                }
+                removeSubscriber(removed, sessionId, subscriptionId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (removed == null || removed.selector()) {
+            fallback.unregisterSubscription(unsubscribeMessage);
+        }
+    }
+
+    @Override
+    public void unregisterAllSubscriptions(String sessionId) {
+        lock.writeLock().lock();
+        try {
+            Map<String, Subscription> subscriptions = sessions.remove(sessionId);
+            if (subscriptions != null) {
+                subscriptions.forEach((subscriptionId, subscription) -> removeSubscriber(subscription, sessionId, subscriptionId));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        fallback.unregisterAllSubscriptions(sessionId);
+    }
+
+    @Override
+    public MultiValueMap<String, String> findSubscriptions(Message<?> message) {
+        Long channelId = MessageBroadcaster.parseChannelId(SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+        if (channelId == null) {
+            return fallback.findSubscriptions(message);
+        }
+
+        boolean hasSelectors;
+        MultiValueMap<String, String> view;
+        lock.readLock().lock();
+        try {
+            ChannelSubscribers subscribers = channels.get(channelId);
+            if (subscribers == null) {
+                return NO_SUBSCRIPTIONS;
+            }
+            hasSelectors = subscribers.selectorCount > 0;
+            view = subscribers.view;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (!hasSelectors) {
+            return view;
+        }
+
+        // selector 구독이 있는 채널만 기본 레지스트리 결과와 합친다
+        LinkedMultiValueMap<String, String> merged = new LinkedMultiValueMap<>(view);
+        fallback.findSubscriptions(message).forEach(merged::addAll);
+        return merged;
+    }
+
+    /**
+     * 채널 구독자 수 (모니터링용)
+     */
+    public int getSubscriberCount(Long channelId) {
+        lock.readLock().lock();
+        try {
+            ChannelSubscribers subscribers = channels.get(channelId);
+            return subscribers != null ? subscribers.count + subscribers.selectorCount : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean hasSelector(MessageHeaders headers) {
+        return selectorHeaderName != null
+                && SimpMessageHeaderAccessor.getFirstNativeHeader(selectorHeaderName, headers) != null;
+    }
+
+    private void removeSubscriber(Subscription subscription, String sessionId, String subscriptionId) {
+        ChannelSubscribers subscribers = channels.get(subscription.channelId());
+        if (subscribers == null) {
+            return;
+        }
+
+        if (subscription.selector()) {
+            subscribers.selectorCount--;
+        } else {
+            subscribers.remove(sessionId, subscriptionId);
+        }
+        if (subscribers.isEmpty()) {
+            channels.remove(subscription.channelId());
+        }
+    }
+
+    private record Subscription(long channelId, boolean selector) {
+    }
+
+    /**
+     * 채널 구독자
+     * 세션별 구독 ID 목록은 불변 리스트로 교체하고(세션 단위 copy-on-write), 맵은 동시 순회가 안전한 ConcurrentHashMap이라
+     * 브로커가 락 밖에서 뷰를 순회하는 동안 변경되어도 된다. 변경은 레지스트리 write lock 안에서만 한다.
+     */
+    private static final class ChannelSubscribers {
+
+        private final Map<String, List<String>> bySession = new ConcurrentHashMap<>();
+        private final MultiValueMap<String, String> view =
+                CollectionUtils.unmodifiableMultiValueMap(CollectionUtils.toMultiValueMap(bySession));
+
+        private int count;
+        private int selectorCount;
+
+        void add(String sessionId, String subscriptionId) {
+            bySession.compute(sessionId, (id, current) -> {
+                if (current == null) {
+                    return List.of(subscriptionId);
+                }
+                List<String> updated = new ArrayList<>(current.size() + 1);
+                updated.addAll(current);
+                updated.add(subscriptionId);
+                return List.copyOf(updated);
+            });
+            count++;
+        }
+
+        void remove(String sessionId, String subscriptionId) {
+            List<String> current = bySession.get(sessionId);
+            if (current == null || !current.contains(subscriptionId)) {
+                return;
+            }
+            if (current.size() == 1) {
+                bySession.remove(sessionId);
+            } else {
+                List<String> updated = new ArrayList<>(current);
+                updated.remove(subscriptionId);
+                bySession.put(sessionId, List.copyOf(updated));
+            }
+            count--;
+        }
+
+        boolean isEmpty() {
+            return count == 0 && selectorCount == 0;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.pulsespace.backend.messaging;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 채널 메시지 전달 계층
+ * 브로드캐스트는 채널당 한 번 publish 되고,
+ * 각 노드는 로컬 구독자가 있는 채널만 subscribe 한다.
+ */
+public interface ClusterTransport {
+
+    /**
+     * 채널 메시지 발행 (직렬화된 payload)
+     */
+    void publish(Long channelId, byte[] payload);
+
+    /**
+     * 채널 구독 시작
+     */
+    void subscribe(Long channelId, Consumer<byte[]> listener);
+
+    /**
+     * 채널 구독 해제
+     */
+    void unsubscribe(Long channelId);
+}
@@ -0,0 +1,71 @@
+package com.pulsespace.backend.messaging;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이 노드의 채널 구독 현황
+ * 채널별 로컬 구독 수를 세어 첫 구독/마지막 해제 시점을 알려준다.
+ */
+class LocalChannelSubscriptions {
+
+    // sessionId -> (subscriptionId -> channelId)
+    private final Map<String, Map<String, Long>> sessions = new HashMap<>();
+    private final Map<Long, Integer> counts = new HashMap<>();
+
+    /**
+     * 구독 추가 - 채널의 첫 로컬 구독이면 true
+     */
+    synchronized boolean add(String sessionId, String subscriptionId, Long channelId) {
+        Map<String, Long> subscriptions = sessions.computeIfAbsent(sessionId, id -> new HashMap<>());
+
+        // 같은 구독 ID 중복 요청은 무시
+        if (subscriptions.putIfAbsent(subscriptionId, channelId) != null) {
+            return false;
+        }
+        return counts.merge(channelId, 1, Integer::sum) == 1;
+    }
+
+    /**
+     * 구독 해제 - 채널의 마지막 로컬 구독이었으면 채널 ID, 아니면 null
+     */
+    synchronized Long remove(String sessionId, String subscriptionId) {
+        Map<String, Long> subscriptions = sessions.get(sessionId);
+        if (subscriptions == null) {
+            return null;
+        }
+
+        Long channelId = subscriptions.remove(subscriptionId);
+        if (subscriptions.isEmpty()) {
+            sessions.remove(sessionId);
+        }
+        return channelId != null && decrement(channelId) ? channelId : null;
+    }
+
+    /**
+     * 세션 종료 - 마지막 로컬 구독이었던 채널 ID 목록
+     */
+    synchronized List<Long> removeSession(String sessionId) {
+        List<Long> released = new ArrayList<>();
+        Map<String, Long> subscriptions = sessions.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.values().forEach(channelId -> {
+                if (decrement(channelId)) {
+                    released.add(channelId);
+                }
+            });
+        }
+        return released;
+    }
+
+    synchronized boolean hasSubscribers(Long channelId) {
+        return counts.containsKey(channelId);
+    }
+
+    private boolean decrement(Long channelId) {
+        Integer remaining = counts.computeIfPresent(channelId, (id, count) -> count > 1 ? count - 1 : null);
+        return remaining == null;
+    }
+}
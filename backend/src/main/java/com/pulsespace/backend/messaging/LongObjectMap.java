@@ -0,0 +1,141 @@
+package com.pulsespace.backend.messaging;
+
+import java.util.function.BiConsumer;
+
+/**
+ * long 키 전용 오픈 어드레싱 해시맵 (박싱 없음)
+ * 동기화하지 않으므로 호출하는 쪽에서 락으로 보호해야 한다.
+ */
+final class LongObjectMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] keys;
+    private V[] values;
+    private int size;
+
+    LongObjectMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    @SuppressWarnings("unchecked")
+    LongObjectMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(DEFAULT_CAPACITY, expectedSize * 2 - 1)) << 1;
+        this.keys = new long[capacity];
+        this.values = (V[]) new Object[capacity];
+    }
+
+    V get(long key) {
+        int mask = keys.length - 1;
+        int index = slot(key, mask);
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                return values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    V put(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("null 값은 저장할 수 없습니다.");
+        }
+
+        int mask = keys.length - 1;
+        int index = slot(key, mask);
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                V previous = values[index];
+                values[index] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        values[index] = value;
+
+        // 적재율 50% 초과 시 확장
+        if (++size * 2 > keys.length) {
+            resize(keys.length << 1);
+        }
+        return null;
+    }
+
+    V remove(long key) {
+        int mask = keys.length - 1;
+        int index = slot(key, mask);
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                V previous = values[index];
+                values[index] = null;
+                size--;
+                shiftBack(index, mask);
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void forEach(BiConsumer<Long, V> action) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * 삭제 후 뒤따르는 항목을 당겨 탐색 체인을 유지 (tombstone 없음)
+     */
+    private void shiftBack(int emptied, int mask) {
+        int current = (emptied + 1) & mask;
+        while (values[current] != null) {
+            int home = slot(keys[current], mask);
+
+            // home이 (emptied, current] 구간 밖이면 빈 칸으로 이동
+            boolean between = emptied <= current
+                    ? emptied < home && home <= current
+                    : emptied < home || home <= current;
+            if (!between) {
+                keys[emptied] = keys[current];
+                values[emptied] = values[current];
+                values[current] = null;
+                emptied = current;
+            }
+            current = (current + 1) & mask;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        V[] oldValues = values;
+
+        keys = new long[capacity];
+        values = (V[]) new Object[capacity];
+        int mask = capacity - 1;
+
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int index = slot(oldKeys[i], mask);
+                while (values[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private static int slot(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,247 @@
+package com.pulsespace.backend.messaging;
+
+import com.pulsespace.backend.cache.ChannelMembershipCache;
+import com.pulsespace.backend.cache.UserProfileCache;
+import com.pulsespace.backend.domain.message.MessageChangedEvent;
+import com.pulsespace.backend.dto.response.MessageResponse;
+import com.pulsespace.backend.exception.BusinessException;
+import com.pulsespace.backend.exception.ErrorCode;
+import com.pulsespace.backend.repository.ChannelSequenceRepository;
+import com.pulsespace.backend.repository.MessageBatchRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 메시지 쓰기 지연(write-behind) 배치 저장
+ * 전송 요청을 큐에 모아 한 트랜잭션에서 JDBC batch insert로 커밋하고,
+ * 커밋이 끝난 뒤에 요청 순서대로 각 future를 완료한다.
+ * 한 건 때문에(채널 삭제 후 FK 위반 등) 배치가 롤백되면 한 건씩 다시 저장해 그 메시지만 실패시킨다.
+ * 배치당 채널별 순번 UPDATE + batch insert + 마지막 메시지 batch UPDATE 로, 채널 행 잠금 비용을 배치 전체가 나눠 낸다.
+ * future는 flusher 스레드에서 완료되므로, 완료 후 작업(브로드캐스트)은 호출자가 다른 실행기로 넘긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "pulsespace.message.write-behind.enabled", havingValue = "true")
+public class MessageBatchWriter {
+
+    private static final long POLL_TIMEOUT_MS = 100;
+
+    private final ChannelMembershipCache channelMembershipCache;
+    private final UserProfileCache userProfileCache;
+    private final ChannelSequenceRepository channelSequenceRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MessageBatchRepository messageBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingMessage> queue;
+    private final int batchSize;
+    private final Thread flusher;
+
+    private volatile boolean running = true;
+
+    public MessageBatchWriter(
+            ChannelMembershipCache channelMembershipCache,
+            UserProfileCache userProfileCache,
+            ChannelSequenceRepository channelSequenceRepository,
+            ApplicationEventPublisher eventPublisher,
+            MessageBatchRepository messageBatchRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${pulsespace.message.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${pulsespace.message.write-behind.batch-size:200}") int batchSize) {
+        this.channelMembershipCache = channelMembershipCache;
+        this.userProfileCache = userProfileCache;
+        this.channelSequenceRepository = channelSequenceRepository;
+        this.eventPublisher = eventPublisher;
+        this.messageBatchRepository = messageBatchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flusher = new Thread(this::runFlushLoop, "message-batch-writer");
+    }
+
+    @PostConstruct
+    void start() {
+        flusher.start();
+    }
+
+    /**
+     * 종료 시 큐에 남은 메시지까지 모두 커밋한 뒤 멈춘다
+     * flusher가 끝난 뒤에 들어온 요청(종료 확인 직후 offer)은 저장되지 않으므로 실패로 완료한다.
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        flusher.join();
+
+        List<PendingMessage> leftover = new ArrayList<>();
+        queue.drainTo(leftover);
+        if (!leftover.isEmpty()) {
+            log.warn("message_batch_rejected_on_shutdown count={}", leftover.size());
+            leftover.forEach(pending -> pending.future().completeExceptionally(new BusinessException(ErrorCode.MESSAGE_QUEUE_FULL)));
+        }
+    }
+
+    /**
+     * 메시지 전송 요청 등록
+     * 반환된 future는 해당 메시지가 포함된 배치가 커밋된 뒤 완료된다.
+     */
+    public CompletableFuture<MessageResponse> submit(Long userId, Long channelId, String content, Long replyToId) {
+        // 권한 체크 - 채널 멤버인지
+        if (!channelMembershipCache.isMember(channelId, userId)) {
+            throw new BusinessException(ErrorCode.NOT_MEMBER);
+        }
+
+        PendingMessage pending = new PendingMessage(userId, channelId, content, replyToId, new CompletableFuture<>());
+
+        // 큐가 가득 찼거나 종료 중이면 거절
+        if (!running || !queue.offer(pending)) {
+            throw new BusinessException(ErrorCode.MESSAGE_QUEUE_FULL);
+        }
+        // 넣는 사이에 종료가 시작됐으면 직접 회수 (stop()이 먼저 가져갔으면 그쪽에서 실패 처리)
+        if (!running && queue.remove(pending)) {
+            throw new BusinessException(ErrorCode.MESSAGE_QUEUE_FULL);
+        }
+
+        return pending.future();
+    }
+
+    private void runFlushLoop() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingMessage first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                // 대기 중인 요청을 한 배치로 묶음
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingMessage> batch) {
+        long startTime = System.currentTimeMillis();
+
+        List<MessageResponse> responses;
+        try {
+            responses = transactionTemplate.execute(status -> writeBatch(batch));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                log.error("message_write_failed channelId={} message={}", batch.get(0).channelId(), e.getMessage(), e);
+                batch.get(0).future().completeExceptionally(e);
+                return;
+            }
+
+            // 배치 전체가 롤백됨 → 요청 순서대로 한 건씩 다시 저장 (실패한 메시지만 실패 처리)
+            log.warn("message_batch_failed size={} message={} retry=single", batch.size(), e.getMessage());
+            batch.forEach(pending -> flush(List.of(pending)));
+            return;
+        }
+
+        // 커밋 이후 요청 순서대로 완료
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).future().complete(responses.get(i));
+        }
+
+        log.debug("message_batch_committed size={} duration_ms={}", batch.size(), System.currentTimeMillis() - startTime);
+    }
+
+    private List<MessageResponse> writeBatch(List<PendingMessage> batch) {
+        // 채널별 순번 할당 후 메시지 batch insert (작성 시간은 @CreationTimestamp처럼 저장 시점)
+        long[] seqs = allocateSeqs(batch);
+        List<MessageBatchRepository.NewMessage> rows = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            PendingMessage pending = batch.get(i);
+            rows.add(new MessageBatchRepository.NewMessage(pending.channelId(), pending.userId(), pending.content(),
+                    pending.replyToId(), LocalDateTime.now(), seqs[i]));
+        }
+        long[] ids = messageBatchRepository.insert(rows);
+
+        // 채널별 마지막 메시지 ID 갱신 (배치 내 최대값만, 이미 잠근 채널 행에 JDBC batch 한 번)
+        updateLastMessageIds(batch, ids);
+
+        List<MessageResponse> responses = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            PendingMessage pending = batch.get(i);
+            responses.add(new MessageResponse(
+                    ids[i],
+                    pending.channelId(),
+                    pending.userId(),
+                    userProfileCache.getName(pending.userId()),
+                    pending.content(),
+                    pending.replyToId(),
+                    rows.get(i).createdAt(),
+                    null,
+                    null,
+                    false,
+                    "CREATED"
+            ));
+        }
+
+        // 커밋 이후 최신 페이지 캐시 반영
+        for (int i = 0; i < responses.size(); i++) {
+            MessageResponse response = responses.get(i);
+            eventPublisher.publishEvent(new MessageChangedEvent(response.getChannelId(), response, seqs[i]));
+        }
+
+        return responses;
+    }
+
+    /**
+     * 채널마다 배치 내 메시지 수만큼 순번을 한 번에 할당하고, 배치 순서대로 나눠 준다.
+     * 여러 채널 행을 잠그므로 교착을 피하려고 채널 ID 순으로 할당
+     */
+    private long[] allocateSeqs(List<PendingMessage> batch) {
+        Map<Long, Integer> counts = new TreeMap<>();
+        batch.forEach(pending -> counts.merge(pending.channelId(), 1, Integer::sum));
+
+        // 채널별 다음에 줄 순번
+        Map<Long, Long> nextSeqs = new HashMap<>();
+        counts.forEach((channelId, count) ->
+                nextSeqs.put(channelId, channelSequenceRepository.allocate(channelId, count) - count + 1));
+
+        long[] seqs = new long[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            seqs[i] = nextSeqs.merge(batch.get(i).channelId(), 1L, Long::sum) - 1;
+        }
+        return seqs;
+    }
+
+    private void updateLastMessageIds(List<PendingMessage> batch, long[] ids) {
+        Map<Long, Long> lastMessageIds = new HashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            lastMessageIds.merge(batch.get(i).channelId(), ids[i], Math::max);
+        }
+
+        channelSequenceRepository.updateLastMessageIds(lastMessageIds);
+    }
+
+    private record PendingMessage(
+            Long userId,
+            Long channelId,
+            String content,
+            Long replyToId,
+            CompletableFuture<MessageResponse> future
+    ) {
+    }
+}
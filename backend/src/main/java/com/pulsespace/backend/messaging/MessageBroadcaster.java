@@ -0,0 +1,166 @@
+package com.pulsespace.backend.messaging;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 채널 구독자 브로드캐스트
+ * payload는 한 번만 직렬화하고, 클러스터 모드에서는 ClusterTransport로 채널당 한 번 발행한 뒤
+ * 각 노드가 자신의 로컬 구독자에게만 전달한다.
+ * 클러스터 구독/해제(Redis 왕복)는 구독 수 잠금 밖의 단일 스레드에서 잠금 순서대로 실행한다
+ * → 느린 Redis 호출이 다른 채널의 SUBSCRIBE/DISCONNECT 처리를 막지 않고, 같은 채널의 구독/해제 순서는 유지된다.
+ */
+@Slf4j
+@Component
+public class MessageBroadcaster {
+
+    public static final String CHANNEL_TOPIC_PREFIX = "/topic/channels/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ClusterTransport clusterTransport;
+    private final LocalChannelSubscriptions localSubscriptions = new LocalChannelSubscriptions();
+    // 클러스터 구독/해제 실행 (클러스터 모드에서만)
+    private final ExecutorService subscriptionExecutor;
+
+    @Autowired
+    public MessageBroadcaster(SimpMessagingTemplate messagingTemplate, ObjectProvider<ClusterTransport> clusterTransport) {
+        this(messagingTemplate, clusterTransport.getIfAvailable(),
+                Executors.newSingleThreadExecutor(Thread.ofPlatform().name("cluster-subscription").factory()));
+    }
+
+    MessageBroadcaster(SimpMessagingTemplate messagingTemplate, ClusterTransport clusterTransport, ExecutorService subscriptionExecutor) {
+        this.messagingTemplate = messagingTemplate;
+        this.clusterTransport = clusterTransport;
+        this.subscriptionExecutor = subscriptionExecutor;
+    }
+
+    @PreDestroy
+    void stop() {
+        subscriptionExecutor.shutdown();
+    }
+
+    /**
+     * 채널 구독자에게 전송
+     */
+    public void broadcast(Long channelId, Object payload) {
+        byte[] encoded = encode(payload);
+
+        // 단일 노드: 바로 로컬 전달
+        if (clusterTransport == null) {
+            deliverLocally(channelId, encoded);
+            return;
+        }
+
+        // 클러스터: 발행 후 구독 중인 노드(자신 포함)가 로컬 전달
+        clusterTransport.publish(channelId, encoded);
+    }
+
+    /**
+     * 이 노드의 채널 구독자에게 직렬화된 payload 전달
+     */
+    void deliverLocally(Long channelId, byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        PreEncodedStompEncoder.share(accessor);
+        accessor.setLeaveMutable(true);
+
+        messagingTemplate.send(CHANNEL_TOPIC_PREFIX + channelId, MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+    }
+
+    private byte[] encode(Object payload) {
+        Message<?> message = messagingTemplate.getMessageConverter().toMessage(payload, null);
+        if (message == null || !(message.getPayload() instanceof byte[] bytes)) {
+            throw new IllegalStateException("payload를 직렬화할 수 없습니다: " + payload.getClass().getName());
+        }
+        return bytes;
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        if (clusterTransport == null) {
+            return;
+        }
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long channelId = parseChannelId(accessor.getDestination());
+        if (channelId == null) {
+            return;
+        }
+
+        // 이 노드의 첫 구독자면 클러스터 구독 시작
+        // 구독 수 변경과 작업 등록을 한 잠금 안에서 (동시 해제가 새 구독을 지우지 않도록 등록 순서 = 변경 순서)
+        synchronized (localSubscriptions) {
+            if (localSubscriptions.add(accessor.getSessionId(), accessor.getSubscriptionId(), channelId)) {
+                submit("subscribe", channelId, () -> clusterTransport.subscribe(channelId, payload -> deliverLocally(channelId, payload)));
+            }
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        if (clusterTransport == null) {
+            return;
+        }
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        synchronized (localSubscriptions) {
+            Long released = localSubscriptions.remove(accessor.getSessionId(), accessor.getSubscriptionId());
+            if (released != null) {
+                submit("unsubscribe", released, () -> clusterTransport.unsubscribe(released));
+            }
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        if (clusterTransport == null) {
+            return;
+        }
+
+        synchronized (localSubscriptions) {
+            localSubscriptions.removeSession(event.getSessionId()).forEach(channelId ->
+                    submit("unsubscribe", channelId, () -> clusterTransport.unsubscribe(channelId)));
+        }
+    }
+
+    private void submit(String action, Long channelId, Runnable task) {
+        subscriptionExecutor.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.warn("cluster_subscription_failed action={} channelId={} message={}", action, channelId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * /topic/channels/{channelId} 에서 채널 ID 추출 (형식이 다르면 null)
+     */
+    public static Long parseChannelId(String destination) {
+        if (destination == null || !destination.startsWith(CHANNEL_TOPIC_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(destination.substring(CHANNEL_TOPIC_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
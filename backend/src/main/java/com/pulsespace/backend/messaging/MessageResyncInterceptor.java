@@ -0,0 +1,166 @@
+package com.pulsespace.backend.messaging;
+
+import com.pulsespace.backend.dto.response.MessageResponse;
+import com.pulsespace.backend.dto.response.MessageResyncResponse;
+import com.pulsespace.backend.exception.BusinessException;
+import com.pulsespace.backend.service.MessageService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 재연결 동기화 (resync)
+ * 클라이언트는 /user/queue/resync 를 먼저 구독한 뒤, 채널 SUBSCRIBE에 last-message-id 헤더를 붙인다.
+ * 브로커가 구독을 등록한 직후 시작하므로 이후 커밋된 메시지는 실시간으로, 그 전 메시지는 DB에서 전달된다.
+ *
+ * 클라이언트 규칙: COMPLETE를 받을 때까지 실시간 메시지를 보류하고,
+ * BATCH로 받은 ID는 건너뛴 채 보류한 메시지를 적용한다 (누락/중복 없음).
+ * 누락이 max-gap을 넘거나 동기화 작업이 밀리면 RELOAD를 보낸다.
+ */
+@Slf4j
+@Component
+public class MessageResyncInterceptor implements ExecutorChannelInterceptor {
+
+    public static final String LAST_MESSAGE_ID_HEADER = "last-message-id";
+    public static final String RESYNC_DESTINATION = "/queue/resync";
+
+    private final MessageService messageService;
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplate;
+    private final int pageSize;
+    private final int maxGap;
+    private final ThreadPoolExecutor executor;
+
+    public MessageResyncInterceptor(
+            MessageService messageService,
+            ObjectProvider<SimpMessagingTemplate> messagingTemplate,
+            @Value("${pulsespace.message.resync.page-size:100}") int pageSize,
+            @Value("${pulsespace.message.resync.max-gap:1000}") int maxGap,
+            @Value("${pulsespace.message.resync.concurrency:4}") int concurrency,
+            @Value("${pulsespace.message.resync.queue-capacity:200}") int queueCapacity) {
+        this.messageService = messageService;
+        this.messagingTemplate = messagingTemplate;
+        this.pageSize = pageSize;
+        this.maxGap = maxGap;
+
+        // 동시에 도는 동기화 쿼리 수 제한 (배포 직후 재연결 폭주 대비)
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "message-resync-" + threadIndex.getAndIncrement()));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 브로커가 SUBSCRIBE를 처리(구독 등록)한 뒤 호출된다
+     */
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        if (ex != null || !(handler instanceof SimpleBrokerMessageHandler)) {
+            return;
+        }
+
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.SUBSCRIBE) {
+            return;
+        }
+
+        String lastMessageId = accessor.getFirstNativeHeader(LAST_MESSAGE_ID_HEADER);
+        Long channelId = MessageBroadcaster.parseChannelId(accessor.getDestination());
+        if (lastMessageId == null || channelId == null || !(accessor.getUser() instanceof Authentication auth)) {
+            return;
+        }
+
+        ResyncRequest request;
+        try {
+            request = new ResyncRequest(accessor.getSessionId(), auth, (Long) auth.getPrincipal(), channelId, Long.parseLong(lastMessageId));
+        } catch (NumberFormatException e) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> resync(request));
+        } catch (RejectedExecutionException e) {
+            log.warn("message_resync_rejected sessionId={} channelId={}", request.sessionId(), channelId);
+            send(request, MessageResyncResponse.reload(channelId, "busy"));
+        }
+    }
+
+    private void resync(ResyncRequest request) {
+        try {
+            // 누락이 너무 많으면 전체 재조회 유도
+            if (messageService.hasMoreMessagesAfter(request.userId(), request.channelId(), request.lastMessageId(), maxGap)) {
+                send(request, MessageResyncResponse.reload(request.channelId(), "gap"));
+                return;
+            }
+
+            // keyset 페이지로 끝까지 전달 (동기화 중 새로 커밋된 메시지 포함)
+            Long cursor = request.lastMessageId();
+            int sent = 0;
+            while (true) {
+                List<MessageResponse> page = messageService.getMessagesAfter(request.userId(), request.channelId(), cursor, pageSize);
+                if (!page.isEmpty()) {
+                    send(request, MessageResyncResponse.batch(request.channelId(), page));
+                    cursor = page.get(page.size() - 1).getId();
+                    sent += page.size();
+                }
+                if (page.size() < pageSize) {
+                    break;
+                }
+                // 동기화 중에도 계속 쌓이는 채널이면 중단
+                if (sent > maxGap * 2) {
+                    send(request, MessageResyncResponse.reload(request.channelId(), "gap"));
+                    return;
+                }
+            }
+
+            send(request, MessageResyncResponse.complete(request.channelId(), cursor));
+            log.debug("message_resync_completed sessionId={} channelId={} sent={}", request.sessionId(), request.channelId(), sent);
+        } catch (BusinessException e) {
+            log.warn("message_resync_denied sessionId={} channelId={} error={}", request.sessionId(), request.channelId(), e.getErrorCode());
+        } catch (RuntimeException e) {
+            log.error("message_resync_failed sessionId={} channelId={}", request.sessionId(), request.channelId(), e);
+            send(request, MessageResyncResponse.reload(request.channelId(), "error"));
+        }
+    }
+
+    /**
+     * 구독한 세션에만 전송
+     */
+    private void send(ResyncRequest request, MessageResyncResponse payload) {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(request.sessionId());
+        headers.setLeaveMutable(true);
+
+        messagingTemplate.getObject().convertAndSendToUser(
+                request.user().getName(), RESYNC_DESTINATION, payload, headers.getMessageHeaders());
+    }
+
+    private record ResyncRequest(String sessionId, Principal user, Long userId, Long channelId, Long lastMessageId) {
+    }
+}
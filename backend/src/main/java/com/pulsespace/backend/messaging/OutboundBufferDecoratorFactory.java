@@ -0,0 +1,94 @@
+package com.pulsespace.backend.messaging;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 연결마다 세션을 OutboundBufferSession으로 감싸는 핸들러 데코레이터
+ * 세션별 큐 길이는 게이지로, 버림/종료는 카운터로 내보낸다.
+ * 새 메시지가 오지 않아도 쓰기가 멈춘 세션을 찾도록 전송 제한 시간의 절반 주기로 점검한다.
+ */
+@Component
+public class OutboundBufferDecoratorFactory implements WebSocketHandlerDecoratorFactory {
+
+    private final OutboundBufferSession.Limits limits;
+    private final OutboundBufferMetrics metrics;
+    private final Executor drainExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("ws-outbound-drain-", 0).factory());
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("ws-outbound-watchdog").daemon().factory());
+    private final Map<String, OutboundBufferSession> sessions = new ConcurrentHashMap<>();
+
+    public OutboundBufferDecoratorFactory(
+            MeterRegistry meterRegistry,
+            @Value("${pulsespace.websocket.outbound.policy:DISCONNECT}") OutboundBufferPolicy policy,
+            @Value("${pulsespace.websocket.outbound.max-messages:1000}") int maxMessages,
+            @Value("${pulsespace.websocket.outbound.max-bytes:1048576}") long maxBytes,
+            @Value("${pulsespace.websocket.outbound.send-time-limit-ms:10000}") long sendTimeLimitMs) {
+        this.limits = new OutboundBufferSession.Limits(policy, maxMessages, maxBytes, sendTimeLimitMs);
+        this.metrics = new OutboundBufferMetrics(meterRegistry);
+
+        Gauge.builder("pulsespace.ws.outbound.sessions.backlogged", sessions,
+                        map -> map.values().stream().filter(session -> session.getQueueDepth() > 0).count())
+                .description("아웃바운드 큐가 비어 있지 않은 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("pulsespace.ws.outbound.queue.depth.max", sessions,
+                        map -> map.values().stream().mapToInt(OutboundBufferSession::getQueueDepth).max().orElse(0))
+                .description("가장 밀린 세션의 큐 길이")
+                .register(meterRegistry);
+
+        long checkIntervalMs = Math.max(100, sendTimeLimitMs / 2);
+        watchdog.scheduleWithFixedDelay(this::disconnectStalledSessions, checkIntervalMs, checkIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 쓰기가 멈춘 세션 종료 (소켓 close가 막힐 수 있어 drain 스레드에서 실행)
+     */
+    private void disconnectStalledSessions() {
+        sessions.values().stream()
+                .filter(OutboundBufferSession::isStalled)
+                .forEach(session -> drainExecutor.execute(session::disconnectIfStalled));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        watchdog.shutdownNow();
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                OutboundBufferSession buffered = new OutboundBufferSession(session, limits, drainExecutor, metrics);
+                sessions.put(session.getId(), buffered);
+                super.afterConnectionEstablished(buffered);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                OutboundBufferSession buffered = sessions.remove(session.getId());
+                if (buffered != null) {
+                    buffered.release();
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+}
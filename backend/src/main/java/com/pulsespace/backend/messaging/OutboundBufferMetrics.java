@@ -0,0 +1,40 @@
+package com.pulsespace.backend.messaging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 세션 아웃바운드 버퍼 메트릭
+ */
+public class OutboundBufferMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary depth;
+
+    public OutboundBufferMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.depth = DistributionSummary.builder("pulsespace.ws.outbound.queue.depth")
+                .description("프레임 적재 시점의 세션 큐 길이")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    void recordDepth(int size) {
+        depth.record(size);
+    }
+
+    void dropped(String reason) {
+        Counter.builder("pulsespace.ws.outbound.dropped")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    void disconnected(String reason) {
+        Counter.builder("pulsespace.ws.outbound.disconnected")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+}
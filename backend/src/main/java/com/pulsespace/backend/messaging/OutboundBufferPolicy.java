@@ -0,0 +1,16 @@
+package com.pulsespace.backend.messaging;
+
+/**
+ * 세션 아웃바운드 버퍼가 한도를 넘었을 때의 처리 방식
+ */
+public enum OutboundBufferPolicy {
+
+    /** 가장 오래된 프레임부터 버림 */
+    DROP_OLDEST,
+
+    /** 같은 메시지의 UPDATED/DELETED 이벤트는 마지막 것만 남김, 그래도 넘치면 연결 종료 */
+    COALESCE,
+
+    /** 바로 연결 종료 (클라이언트는 resync 후 재구독), 기본값 */
+    DISCONNECT
+}
@@ -0,0 +1,315 @@
+package com.pulsespace.backend.messaging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세션별 아웃바운드 버퍼
+ * sendMessage는 큐에 넣고 바로 반환하며, 실제 소켓 쓰기는 별도 drain 작업이 한다.
+ * 느린 클라이언트 하나가 브로커 아웃바운드 스레드를 붙잡지 않도록 하고,
+ * 한도(프레임 수, 바이트, 전송 시간)를 넘으면 정책에 따라 버리거나 합치거나 연결을 끊는다.
+ * 버리는 대상은 MESSAGE 프레임뿐이며, 전송 실패나 쓰기 지연으로 끊을 때는 resync 사유로 소켓을 닫는다.
+ */
+@Slf4j
+public class OutboundBufferSession extends WebSocketSessionDecorator {
+
+    /** 연결 종료 사유, 클라이언트는 마지막 메시지 ID로 resync 해야 한다 */
+    public static final CloseStatus RESYNC_STATUS = CloseStatus.SESSION_NOT_RELIABLE.withReason("resync");
+
+    private static final String MESSAGE_FRAME_PREFIX = "MESSAGE\n";
+    private static final byte[] MESSAGE_FRAME_BYTES = MESSAGE_FRAME_PREFIX.getBytes(StandardCharsets.US_ASCII);
+    private static final String ID_FIELD = "\"id\":";
+
+    private final Limits limits;
+    private final Executor drainExecutor;
+    private final OutboundBufferMetrics metrics;
+
+    private final Object lock = new Object();
+    private final Deque<WebSocketMessage<?>> queue = new ArrayDeque<>();
+    private long bufferedBytes;
+    private boolean draining;
+    private long sendStartedAt;
+    private long droppedCount;
+
+    private volatile boolean closed;
+
+    public OutboundBufferSession(WebSocketSession delegate, Limits limits,
+                                 Executor drainExecutor, OutboundBufferMetrics metrics) {
+        super(delegate);
+        this.limits = limits;
+        this.drainExecutor = drainExecutor;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (closed) {
+            return;
+        }
+
+        String disconnectReason = null;
+        boolean startDrain = false;
+
+        synchronized (lock) {
+            // 직전 쓰기가 제한 시간을 넘겨 멈춰 있으면 더 쌓지 않는다
+            if (sendStartedAt > 0 && System.nanoTime() - sendStartedAt > limits.sendTimeLimitNanos()) {
+                disconnectReason = "send_time_limit";
+            } else {
+                queue.addLast(message);
+                bufferedBytes += message.getPayloadLength();
+                metrics.recordDepth(queue.size());
+
+                if (isOverLimit() && !applyPolicy()) {
+                    disconnectReason = "buffer_limit";
+                } else if (!draining) {
+                    draining = true;
+                    startDrain = true;
+                }
+            }
+        }
+
+        if (disconnectReason != null) {
+            disconnect(disconnectReason);
+        } else if (startDrain) {
+            drainExecutor.execute(this::drain);
+        }
+    }
+
+    /**
+     * 한도 초과 시 정책 적용
+     * @return 한도 안으로 들어왔으면 true, 연결을 끊어야 하면 false
+     */
+    private boolean applyPolicy() {
+        return switch (limits.policy()) {
+            case DROP_OLDEST -> dropOldest();
+            case COALESCE -> coalesce();
+            case DISCONNECT -> false;
+        };
+    }
+
+    /**
+     * 오래된 MESSAGE 프레임부터 버림 (RECEIPT/ERROR 등 제어 프레임은 버리지 않는다)
+     */
+    private boolean dropOldest() {
+        Iterator<WebSocketMessage<?>> iterator = queue.iterator();
+        while (isOverLimit() && queue.size() > 1 && iterator.hasNext()) {
+            WebSocketMessage<?> queued = iterator.next();
+            if (!isMessageFrame(queued)) {
+                continue;
+            }
+            iterator.remove();
+            removed(queued);
+            metrics.dropped("drop_oldest");
+        }
+        return !isOverLimit();
+    }
+
+    /**
+     * 뒤에서부터 보면서 같은 메시지 ID의 이전 UPDATED/DELETED 프레임 제거
+     */
+    private boolean coalesce() {
+        Set<Long> seen = new HashSet<>();
+        Iterator<WebSocketMessage<?>> iterator = queue.descendingIterator();
+        while (iterator.hasNext()) {
+            WebSocketMessage<?> queued = iterator.next();
+            Long key = coalesceKey(queued);
+            if (key != null && !seen.add(key)) {
+                iterator.remove();
+                removed(queued);
+                metrics.dropped("coalesced");
+            }
+        }
+        return !isOverLimit();
+    }
+
+    private void removed(WebSocketMessage<?> message) {
+        bufferedBytes -= message.getPayloadLength();
+        if (droppedCount++ == 0) {
+            log.warn("ws_outbound_overflow session_id={} user={} policy={} depth={} bytes={}",
+                    getId(), userName(), limits.policy(), queue.size(), bufferedBytes);
+        }
+    }
+
+    private boolean isOverLimit() {
+        return queue.size() > limits.maxMessages() || bufferedBytes > limits.maxBytes();
+    }
+
+    private void drain() {
+        while (true) {
+            WebSocketMessage<?> message;
+            synchronized (lock) {
+                message = queue.pollFirst();
+                if (message == null || closed) {
+                    draining = false;
+                    sendStartedAt = 0;
+                    return;
+                }
+                bufferedBytes -= message.getPayloadLength();
+                sendStartedAt = System.nanoTime();
+            }
+
+            try {
+                getDelegate().sendMessage(message);
+            } catch (IOException | RuntimeException e) {
+                log.debug("ws_outbound_send_failed session_id={} error={}", getId(), e.getMessage());
+                disconnect("send_failed");
+                return;
+            }
+        }
+    }
+
+    /**
+     * 진행 중인 쓰기가 제한 시간을 넘겼는지 (새 메시지가 없어도 주기적으로 확인)
+     */
+    boolean isStalled() {
+        synchronized (lock) {
+            return !closed && sendStartedAt > 0 && System.nanoTime() - sendStartedAt > limits.sendTimeLimitNanos();
+        }
+    }
+
+    /**
+     * 쓰기가 멈춘 세션이면 resync 사유로 연결 종료
+     */
+    void disconnectIfStalled() {
+        if (isStalled()) {
+            disconnect("send_time_limit");
+        }
+    }
+
+    private void disconnect(String reason) {
+        int depth;
+        synchronized (lock) {
+            depth = queue.size();
+        }
+        // 이미 종료된 세션 (다른 경로에서 먼저 끊음)
+        if (!release()) {
+            return;
+        }
+        log.warn("ws_outbound_disconnect session_id={} user={} reason={} depth={}", getId(), userName(), reason, depth);
+        metrics.disconnected(reason);
+
+        try {
+            getDelegate().close(RESYNC_STATUS);
+        } catch (IOException e) {
+            log.debug("ws_outbound_close_failed session_id={} error={}", getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 버퍼 비우기 (세션 종료 시)
+     * @return 이번 호출로 종료했으면 true, 이미 종료된 세션이면 false
+     */
+    boolean release() {
+        synchronized (lock) {
+            if (closed) {
+                return false;
+            }
+            closed = true;
+            queue.clear();
+            bufferedBytes = 0;
+        }
+        if (droppedCount > 0) {
+            log.info("ws_outbound_session_released session_id={} dropped={}", getId(), droppedCount);
+        }
+        return true;
+    }
+
+    int getQueueDepth() {
+        synchronized (lock) {
+            return queue.size();
+        }
+    }
+
+    private String userName() {
+        Principal principal = getPrincipal();
+        return principal != null ? principal.getName() : "anonymous";
+    }
+
+    /**
+     * 채널 브로드캐스트의 UPDATED/DELETED 프레임이면 메시지 ID, 아니면 null
+     * 본문 JSON의 최상위 "id" 값을 사용한다.
+     */
+    static Long coalesceKey(WebSocketMessage<?> message) {
+        String frame = frameText(message);
+        if (frame == null || !frame.startsWith(MESSAGE_FRAME_PREFIX)) {
+            return null;
+        }
+
+        int bodyStart = frame.indexOf("\n\n");
+        if (bodyStart < 0
+                || (frame.indexOf("\"type\":\"UPDATED\"", bodyStart) < 0 && frame.indexOf("\"type\":\"DELETED\"", bodyStart) < 0)) {
+            return null;
+        }
+
+        int idStart = frame.indexOf(ID_FIELD, bodyStart);
+        if (idStart < 0) {
+            return null;
+        }
+
+        int start = idStart + ID_FIELD.length();
+        int end = start;
+        while (end < frame.length() && Character.isDigit(frame.charAt(end))) {
+            end++;
+        }
+        return end > start ? Long.parseLong(frame, start, end, 10) : null;
+    }
+
+    /**
+     * MESSAGE 프레임인지 (정책으로 버려도 되는 프레임)
+     */
+    static boolean isMessageFrame(WebSocketMessage<?> message) {
+        if (message.getPayload() instanceof String text) {
+            return text.startsWith(MESSAGE_FRAME_PREFIX);
+        }
+        if (message.getPayload() instanceof ByteBuffer buffer) {
+            if (buffer.remaining() < MESSAGE_FRAME_BYTES.length) {
+                return false;
+            }
+            for (int i = 0; i < MESSAGE_FRAME_BYTES.length; i++) {
+                if (buffer.get(buffer.position() + i) != MESSAGE_FRAME_BYTES[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 프레임 문자열 (채널 브로드캐스트는 BinaryMessage로 오므로 한도 초과 시에만 디코딩)
+     */
+    private static String frameText(WebSocketMessage<?> message) {
+        if (message.getPayload() instanceof String text) {
+            return text;
+        }
+        if (message.getPayload() instanceof ByteBuffer buffer) {
+            return StandardCharsets.UTF_8.decode(buffer.duplicate()).toString();
+        }
+        return null;
+    }
+
+    /**
+     * 세션별 아웃바운드 한도
+     */
+    public record Limits(OutboundBufferPolicy policy, int maxMessages, long maxBytes, long sendTimeLimitMs) {
+
+        long sendTimeLimitNanos() {
+            return TimeUnit.MILLISECONDS.toNanos(sendTimeLimitMs);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.pulsespace.backend.messaging;
+
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 브로드캐스트용 STOMP MESSAGE 프레임 인코더
+ * 한 이벤트를 여러 세션에 보낼 때 SimpleBroker가 만든 구독자별 메시지는 헤더 값(참조)과 payload를 공유하므로,
+ * 공통 헤더 + payload 부분은 메시지에 붙인 SharedFrame 홀더에 한 번만 인코딩해 두고
+ * 구독별 헤더(subscription, message-id)만 앞에 붙인다. 스레드와 무관하게(가상 스레드 포함) 재사용된다.
+ * 홀더가 붙은 메시지는 내부적으로 octet-stream으로 표시해 StompSubProtocolHandler가 BinaryMessage로 보내게 하고
+ * (세션별 String 변환 없음), 프레임의 content-type 헤더는 원래 값으로 쓴다.
+ * STOMP는 구독마다 subscription 헤더가 달라야 하므로 수신자당 최종 프레임 배열 하나는 남는다.
+ */
+public class PreEncodedStompEncoder extends StompEncoder {
+
+    /** 공통 부분 캐시 헤더 (MessageBroadcaster가 채널 브로드캐스트에 붙인다) */
+    public static final String SHARED_FRAME_HEADER = "pulsespace.sharedFrame";
+
+    private static final byte[] MESSAGE_COMMAND = "MESSAGE\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SUBSCRIPTION_HEADER = "subscription:".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] MESSAGE_ID_HEADER = "message-id:".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * 브로드캐스트 메시지 헤더에 공통 부분 캐시를 붙이고 바이너리 전송으로 표시
+     */
+    public static void share(SimpMessageHeaderAccessor accessor) {
+        accessor.setHeader(SHARED_FRAME_HEADER, new SharedFrame(accessor.getContentType()));
+        accessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public byte[] encode(Map<String, Object> headers, byte[] payload) {
+        if (!(headers.get(SHARED_FRAME_HEADER) instanceof SharedFrame shared)
+                || SimpMessageHeaderAccessor.getMessageType(headers) == SimpMessageType.HEARTBEAT
+                || headers.get(StompHeaderAccessor.COMMAND_HEADER) != StompCommand.MESSAGE) {
+            return super.encode(headers, payload);
+        }
+
+        Map<String, List<String>> nativeHeaders =
+                (Map<String, List<String>>) headers.get(NativeMessageHeaderAccessor.NATIVE_HEADERS);
+        if (nativeHeaders == null) {
+            return super.encode(headers, payload);
+        }
+
+        String subscription = first(nativeHeaders, StompHeaderAccessor.STOMP_SUBSCRIPTION_HEADER);
+        String messageId = first(nativeHeaders, StompHeaderAccessor.STOMP_MESSAGE_ID_HEADER);
+
+        // 구독별 헤더에 escape가 필요하면 기본 인코딩
+        if (!isPlainAscii(subscription) || !isPlainAscii(messageId)) {
+            return super.encode(headers, payload);
+        }
+
+        byte[] common = shared.bytes(nativeHeaders, payload);
+
+        int length = MESSAGE_COMMAND.length
+                + headerLength(SUBSCRIPTION_HEADER, subscription)
+                + headerLength(MESSAGE_ID_HEADER, messageId)
+                + common.length;
+
+        byte[] frame = new byte[length];
+        int offset = copy(MESSAGE_COMMAND, frame, 0);
+        offset = writeHeader(SUBSCRIPTION_HEADER, subscription, frame, offset);
+        offset = writeHeader(MESSAGE_ID_HEADER, messageId, frame, offset);
+        System.arraycopy(common, 0, frame, offset, common.length);
+        return frame;
+    }
+
+    /**
+     * 공통 헤더 + 빈 줄 + payload + NULL 바이트
+     * content-type은 바이너리 표시 전의 원래 값으로 쓴다
+     */
+    private static byte[] encodeCommon(Map<String, List<String>> nativeHeaders, byte[] payload, MimeType contentType) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length + 128);
+        boolean hasContentLength = false;
+
+        for (Map.Entry<String, List<String>> entry : nativeHeaders.entrySet()) {
+            String name = entry.getKey();
+            if (StompHeaderAccessor.STOMP_SUBSCRIPTION_HEADER.equals(name)
+                    || StompHeaderAccessor.STOMP_MESSAGE_ID_HEADER.equals(name)) {
+                continue;
+            }
+            if (StompHeaderAccessor.STOMP_CONTENT_LENGTH_HEADER.equals(name)) {
+                hasContentLength = true;
+            }
+
+            List<String> values = StompHeaderAccessor.STOMP_CONTENT_TYPE_HEADER.equals(name) && contentType != null
+                    ? List.of(contentType.toString())
+                    : entry.getValue();
+            byte[] encodedName = escape(name).getBytes(StandardCharsets.UTF_8);
+            for (String value : values) {
+                out.writeBytes(encodedName);
+                out.write(':');
+                out.writeBytes(escape(value).getBytes(StandardCharsets.UTF_8));
+                out.write('\n');
+            }
+        }
+
+        if (!hasContentLength && payload.length > 0) {
+            out.writeBytes((StompHeaderAccessor.STOMP_CONTENT_LENGTH_HEADER + ":" + payload.length + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+
+        out.write('\n');
+        out.writeBytes(payload);
+        out.write(0);
+        return out.toByteArray();
+    }
+
+    private static String first(Map<String, List<String>> nativeHeaders, String name) {
+        List<String> values = nativeHeaders.get(name);
+        return values != null && !values.isEmpty() ? values.get(0) : null;
+    }
+
+    private static boolean isPlainAscii(String value) {
+        if (value == null) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80 || c == '\\' || c == ':' || c == '\n' || c == '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int headerLength(byte[] name, String value) {
+        return name.length + value.length() + 1;
+    }
+
+    private static int writeHeader(byte[] name, String value, byte[] frame, int offset) {
+        offset = copy(name, frame, offset);
+        for (int i = 0; i < value.length(); i++) {
+            frame[offset++] = (byte) value.charAt(i);
+        }
+        frame[offset++] = '\n';
+        return offset;
+    }
+
+    private static int copy(byte[] source, byte[] target, int offset) {
+        System.arraycopy(source, 0, target, offset, source.length);
+        return offset + source.length;
+    }
+
+    private static String escape(String value) {
+        if (value.indexOf('\\') < 0 && value.indexOf(':') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        StringBuilder sb = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> sb.append("\\\\");
+                case ':' -> sb.append("\\c");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 메시지별 공통 부분 캐시
+     * 구독자별 메시지가 같은 인스턴스를 공유하며, 처음 인코딩한 스레드의 결과를 모두 재사용한다.
+     * 동시에 처음 인코딩하면 같은 결과를 두 번 만들 수 있지만 어느 쪽을 써도 같다.
+     */
+    public static final class SharedFrame {
+
+        private final MimeType contentType;
+        private volatile byte[] bytes;
+
+        SharedFrame(MimeType contentType) {
+            this.contentType = contentType;
+        }
+
+        byte[] bytes(Map<String, List<String>> nativeHeaders, byte[] payload) {
+            byte[] cached = bytes;
+            if (cached == null) {
+                cached = encodeCommon(nativeHeaders, payload, contentType);
+                bytes = cached;
+            }
+            return cached;
+        }
+
+        byte[] cached() {
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.pulsespace.backend.messaging;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Redis Pub/Sub 기반 노드 간 전달
+ * Redis 채널: pulsespace:channel:{channelId}
+ * 수신 메시지는 단일 dispatch 스레드에서 받은 순서대로 전달한다.
+ * (컨테이너 기본 실행기는 메시지마다 새 스레드라 같은 채널의 순서가 노드 간에 뒤섞인다)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "pulsespace.cluster.relay", havingValue = "redis")
+public class RedisClusterTransport implements ClusterTransport {
+
+    private static final String TOPIC_PREFIX = "pulsespace:channel:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ExecutorService dispatcher;
+    private final Map<Long, MessageListener> listeners = new ConcurrentHashMap<>();
+
+    public RedisClusterTransport(StringRedisTemplate stringRedisTemplate, RedisConnectionFactory connectionFactory) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(connectionFactory);
+        this.dispatcher = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("redis-relay-dispatch").factory());
+        this.listenerContainer.setTaskExecutor(dispatcher);
+    }
+
+    @PostConstruct
+    void start() {
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @PreDestroy
+    void stop() throws Exception {
+        listenerContainer.destroy();
+        dispatcher.shutdown();
+    }
+
+    @Override
+    public void publish(Long channelId, byte[] payload) {
+        stringRedisTemplate.convertAndSend(TOPIC_PREFIX + channelId, new String(payload, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void subscribe(Long channelId, Consumer<byte[]> listener) {
+        listeners.computeIfAbsent(channelId, id -> {
+            MessageListener messageListener = (message, pattern) -> listener.accept(message.getBody());
+            listenerContainer.addMessageListener(messageListener, new ChannelTopic(TOPIC_PREFIX + id));
+            log.debug("cluster_channel_subscribed channelId={}", id);
+            return messageListener;
+        });
+    }
+
+    @Override
+    public void unsubscribe(Long channelId) {
+        MessageListener messageListener = listeners.remove(channelId);
+        if (messageListener != null) {
+            listenerContainer.removeMessageListener(messageListener, new ChannelTopic(TOPIC_PREFIX + channelId));
+            log.debug("cluster_channel_unsubscribed channelId={}", channelId);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.pulsespace.backend.messaging;
+
+import com.pulsespace.backend.cache.UnreadSummaryStore;
+import com.pulsespace.backend.domain.message.MessageChangedEvent;
+import com.pulsespace.backend.dto.response.UnreadDeltaResponse;
+import com.pulsespace.backend.dto.response.UnreadSummaryResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 안 읽은 상태 변경분 push (/user/queue/unread)
+ * 메시지 전송/읽음 처리는 해당 사용자를 dirty로 표시만 하고, 주기적으로 사용자당 한 번씩 요약을 다시 계산해
+ * 마지막으로 보낸 요약과 다른 항목만 보낸다 (바쁜 채널이어도 사용자당 주기마다 최대 한 번)
+ * 구독 직후에는 전체 상태(full, 비어 있어도 전송)를 한 번 보내므로 클라이언트는 배지용 목록 재조회가 필요 없다.
+ * 안 읽은 요약(UnreadSummaryStore)이 꺼져 있으면(여러 노드) 동작하지 않는다.
+ */
+@Slf4j
+@Component
+public class UnreadDeltaPublisher {
+
+    public static final String UNREAD_DESTINATION = "/queue/unread";
+    private static final String USER_UNREAD_DESTINATION = "/user" + UNREAD_DESTINATION;
+
+    private final UnreadSummaryStore unreadSummaryStore;
+    private final UserSessionRegistry userSessionRegistry;
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplate;
+
+    private final Set<Long> dirtyUserIds = ConcurrentHashMap.newKeySet();
+    // userId → 마지막으로 보낸 요약
+    private final Map<Long, UnreadSummaryResponse> lastSent = new ConcurrentHashMap<>();
+
+    private final Counter deltaCounter;
+
+    public UnreadDeltaPublisher(
+            UnreadSummaryStore unreadSummaryStore,
+            UserSessionRegistry userSessionRegistry,
+            ObjectProvider<SimpMessagingTemplate> messagingTemplate,
+            MeterRegistry meterRegistry) {
+        this.unreadSummaryStore = unreadSummaryStore;
+        this.userSessionRegistry = userSessionRegistry;
+        this.messagingTemplate = messagingTemplate;
+        this.deltaCounter = Counter.builder("pulsespace.unread.deltas")
+                .description("전송한 안 읽은 상태 변경분 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자의 안 읽은 상태가 바뀌었음을 표시 (다음 주기에 변경분 전송)
+     */
+    public void markDirty(Long userId) {
+        if (unreadSummaryStore.isEnabled() && userSessionRegistry.isOnline(userId)) {
+            dirtyUserIds.add(userId);
+        }
+    }
+
+    /**
+     * 새 메시지 채널에 속한 접속 사용자 표시 (커밋 이후)
+     */
+    @TransactionalEventListener
+    public void onMessageChanged(MessageChangedEvent event) {
+        if (!unreadSummaryStore.isEnabled() || !event.isCreated()) {
+            return;
+        }
+
+        // 요약에 이 채널이 있는 사용자만 (요약 없는 접속 사용자는 flush에서 다시 만든다)
+        for (Long userId : unreadSummaryStore.getSummarizedUserIds(event.channelId())) {
+            if (userSessionRegistry.isOnline(userId)) {
+                dirtyUserIds.add(userId);
+            }
+        }
+    }
+
+    /**
+     * /user/queue/unread 구독 시 전체 상태를 다시 보낸다
+     */
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long userId = UserSessionRegistry.userId(event.getUser());
+        if (userId == null || !USER_UNREAD_DESTINATION.equals(accessor.getDestination())) {
+            return;
+        }
+
+        lastSent.remove(userId);
+        markDirty(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${pulsespace.channel.unread-push.debounce-ms:500}")
+    public void flush() {
+        // 끊긴 사용자 정리, 요약이 캐시에서 빠진 구독자는 다시 계산 (채널 인덱스에 다시 올라가도록)
+        lastSent.keySet().removeIf(userId -> !userSessionRegistry.isOnline(userId));
+        lastSent.keySet().forEach(userId -> {
+            if (!unreadSummaryStore.hasSummary(userId)) {
+                dirtyUserIds.add(userId);
+            }
+        });
+        if (dirtyUserIds.isEmpty()) {
+            return;
+        }
+
+        SimpMessagingTemplate template = messagingTemplate.getObject();
+        for (Long userId : List.copyOf(dirtyUserIds)) {
+            // 계산 중 들어온 변경은 다음 주기에 반영되도록 먼저 제거
+            dirtyUserIds.remove(userId);
+            if (!userSessionRegistry.isOnline(userId)) {
+                continue;
+            }
+
+            try {
+                UnreadSummaryResponse summary = unreadSummaryStore.getSummary(userId);
+                if (summary == null) {
+                    continue;
+                }
+                UnreadDeltaResponse delta = UnreadDeltaResponse.between(lastSent.put(userId, summary), summary);
+                if (!delta.isFull() && delta.getWorkspaces().isEmpty() && delta.getChannels().isEmpty()) {
+                    continue;
+                }
+
+                template.convertAndSendToUser(String.valueOf(userId), UNREAD_DESTINATION, delta);
+                deltaCounter.increment();
+            } catch (RuntimeException e) {
+                // 다음 전송에서 전체 상태를 다시 보내도록
+                lastSent.remove(userId);
+                log.warn("unread_delta_failed userId={} message={}", userId, e.getMessage());
+            }
+        }
+    }
+}
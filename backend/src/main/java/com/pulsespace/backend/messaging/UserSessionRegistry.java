@@ -0,0 +1,86 @@
+package com.pulsespace.backend.messaging;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 노드에 연결된 사용자별 STOMP 세션 목록
+ * 인증된 CONNECT만 등록하고, 마지막 세션이 끊기면 사용자 항목을 지운다.
+ * 사용자 단위 push(/user/queue/unread) 대상 판단에 쓴다.
+ */
+@Slf4j
+@Component
+public class UserSessionRegistry {
+
+    // userId → sessionId 목록, 사용자 단위 변경은 compute 안에서만
+    private final Map<Long, Set<String>> sessions = new ConcurrentHashMap<>();
+
+    public UserSessionRegistry(MeterRegistry meterRegistry) {
+        Gauge.builder("pulsespace.websocket.users", sessions, Map::size)
+                .description("연결된 사용자 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        Long userId = userId(event.getUser());
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (userId == null || sessionId == null) {
+            return;
+        }
+
+        sessions.compute(userId, (id, current) -> {
+            Set<String> sessionIds = current != null ? current : ConcurrentHashMap.newKeySet();
+            sessionIds.add(sessionId);
+            return sessionIds;
+        });
+        log.debug("user_session_connected userId={} sessionId={}", userId, sessionId);
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Long userId = userId(event.getUser());
+        if (userId == null) {
+            return;
+        }
+
+        sessions.computeIfPresent(userId, (id, sessionIds) -> {
+            sessionIds.remove(event.getSessionId());
+            return sessionIds.isEmpty() ? null : sessionIds;
+        });
+    }
+
+    /**
+     * 이 노드에 세션이 하나라도 있는지
+     */
+    public boolean isOnline(Long userId) {
+        return sessions.containsKey(userId);
+    }
+
+    /**
+     * 연결된 사용자 ID (읽기 전용 뷰)
+     */
+    public Set<Long> getOnlineUserIds() {
+        return Collections.unmodifiableSet(sessions.keySet());
+    }
+
+    /**
+     * STOMP Principal(WebSocketAuthInterceptor가 넣은 인증 정보)에서 사용자 ID
+     */
+    public static Long userId(Principal principal) {
+        return principal instanceof Authentication auth && auth.getPrincipal() instanceof Long userId ? userId : null;
+    }
+}
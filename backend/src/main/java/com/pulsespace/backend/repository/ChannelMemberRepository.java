@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,9 +20,25 @@ public interface ChannelMemberRepository extends JpaRepository<ChannelMember, Lo
     // 사용자의 모든 채널 멤버십 조회
     List<ChannelMember> findByUserId(Long userId);
 
+    // 사용자가 속한 채널 ID (검색 권한 필터)
+    @Query("select cm.channel.id from ChannelMember cm where cm.user.id = :userId")
+    List<Long> findChannelIdsByUserId(@Param("userId") Long userId);
+
     // 특정 채널에서 특정 사용자 멤버십 찾기
     Optional<ChannelMember> findByChannelIdAndUserId(Long channelId, Long userId);
 
+    // 사용자의 전체 채널 읽음 상태 조회 (channelId, workspaceId, lastMessageId, lastMessageSeq, lastReadSeq)
+    @Query("select c.id, c.workspace.id, c.lastMessageId, c.lastMessageSeq, cm.lastReadSeq " +
+            "from ChannelMember cm join cm.channel c " +
+            "where cm.user.id = :userId")
+    List<Object[]> findUnreadStatesByUserId(@Param("userId") Long userId);
+
+    // 지정한 채널들의 읽음 상태 조회 (channelId, workspaceId, lastMessageId, lastReadMessageId, lastMessageSeq, lastReadSeq)
+    @Query("select c.id, c.workspace.id, c.lastMessageId, cm.lastReadMessageId, c.lastMessageSeq, cm.lastReadSeq " +
+            "from ChannelMember cm join cm.channel c " +
+            "where cm.user.id = :userId and c.id in :channelIds")
+    List<Object[]> findReadStatesByUserIdAndChannelIdIn(@Param("userId") Long userId, @Param("channelIds") Collection<Long> channelIds);
+
     // 멤버십 존재 여부 (권한 체크용)
     boolean existsByChannelIdAndUserId(Long channelId, Long userId);
 
@@ -0,0 +1,40 @@
+package com.pulsespace.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 워크스페이스 단위 일괄 읽음 처리 (channel_members.last_read_message_id, last_read_seq)
+ * 사용자가 속한 워크스페이스 채널의 읽음 위치를 UPDATE ... FROM 한 번으로 채널 마지막 메시지까지 옮긴다.
+ * 읽음 위치는 앞으로만 이동한다 (안 읽은 메시지가 있는 채널만 갱신).
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChannelReadRepository {
+
+    private static final String MARK_WORKSPACE_READ_SQL =
+            "UPDATE channel_members cm "
+                    + "SET last_read_message_id = GREATEST(c.last_message_id, cm.last_read_message_id), "
+                    + "last_read_seq = c.last_message_seq "
+                    + "FROM channels c "
+                    + "WHERE cm.channel_id = c.id AND cm.user_id = ? AND c.workspace_id = ? "
+                    + "AND c.last_message_seq > COALESCE(cm.last_read_seq, 0) "
+                    + "RETURNING cm.channel_id, cm.last_read_seq";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 워크스페이스의 내 채널 전체 읽음 처리 후 갱신된 채널의 읽은 순번 반환 (channelId → lastReadSeq)
+     */
+    public Map<Long, Long> markWorkspaceRead(Long userId, Long workspaceId) {
+        Map<Long, Long> readSeqs = new HashMap<>();
+        jdbcTemplate.query(MARK_WORKSPACE_READ_SQL, rs -> {
+            readSeqs.put(rs.getLong("channel_id"), rs.getLong("last_read_seq"));
+        }, userId, workspaceId);
+        return readSeqs;
+    }
+}
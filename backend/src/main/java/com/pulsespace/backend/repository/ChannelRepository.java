@@ -2,6 +2,7 @@ package com.pulsespace.backend.repository;
 
 import com.pulsespace.backend.domain.channel.Channel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,12 +14,16 @@ import java.util.Optional;
 public interface ChannelRepository extends JpaRepository<Channel, Long> {
 
     // 워크스페이스의 채널 조회 (PUBLIC: 전체, PRIVATE: 멤버만, 최신순)
+    // (Channel, hasUnread, isMember, lastReadMessageId, unreadCount) - 안 읽은 수는 순번 차이 (멤버가 아니면 0)
     @Query("SELECT c, " +
             "CASE WHEN cm.id IS NOT NULL " +
             "AND c.lastMessageId IS NOT NULL " +
             "AND (cm.lastReadMessageId IS NULL OR cm.lastReadMessageId < c.lastMessageId) " +
             "THEN true ELSE false END, " +
-            "CASE WHEN cm.id IS NOT NULL THEN true ELSE false END " +
+            "CASE WHEN cm.id IS NOT NULL THEN true ELSE false END, " +
+            "cm.lastReadMessageId, " +
+            "CASE WHEN cm.id IS NOT NULL " +
+            "THEN COALESCE(c.lastMessageSeq, 0L) - COALESCE(cm.lastReadSeq, 0L) ELSE 0L END " +
             "FROM Channel c " +
             "LEFT JOIN ChannelMember cm ON cm.channel = c AND cm.user.id = :userId " +
             "WHERE c.workspace.id = :workspaceId " +
@@ -34,4 +39,10 @@ public interface ChannelRepository extends JpaRepository<Channel, Long> {
 
     // 워크스페이스의 채널 전체 삭제
     void deleteByWorkspaceId(Long workspaceId);
+
+    // 채널 마지막 메시지 갱신 (더 큰 ID로만 변경)
+    @Modifying
+    @Query("update Channel c set c.lastMessageId = :messageId " +
+            "where c.id = :channelId and (c.lastMessageId is null or c.lastMessageId < :messageId)")
+    int updateLastMessageId(@Param("channelId") Long channelId, @Param("messageId") Long messageId);
 }
\ No newline at end of file
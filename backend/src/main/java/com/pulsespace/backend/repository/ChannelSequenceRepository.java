@@ -0,0 +1,87 @@
+package com.pulsespace.backend.repository;
+
+import com.pulsespace.backend.exception.BusinessException;
+import com.pulsespace.backend.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채널별 메시지 순번 할당 (channels.last_message_seq)
+ * UPDATE ... RETURNING 한 번으로 증가와 조회를 같이 하며, 채널 행 잠금은 트랜잭션 끝까지 유지된다.
+ * 그래서 같은 채널의 순번은 커밋 순서대로 붙고, 롤백되면 카운터도 함께 되돌아가 빈 번호가 생기지 않는다.
+ * 단건 전송은 순번, 마지막 메시지 ID, 메시지 INSERT를 한 문장으로 처리해 잠금을 문장 하나 + 커밋 동안만 잡는다.
+ * 안 읽은 메시지 수 = last_message_seq - last_read_seq
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChannelSequenceRepository {
+
+    private static final String ALLOCATE_SQL =
+            "UPDATE channels SET last_message_seq = COALESCE(last_message_seq, 0) + ? WHERE id = ? "
+                    + "RETURNING last_message_seq";
+
+    // 메시지 ID는 채널 행을 잠근 뒤에 뽑으므로 같은 채널에서 ID 순서 = 순번 순서
+    private static final String APPEND_SQL =
+            "WITH c AS (UPDATE channels SET last_message_seq = COALESCE(last_message_seq, 0) + 1, "
+                    + "last_message_id = nextval(pg_get_serial_sequence('messages', 'id')) WHERE id = ? "
+                    + "RETURNING id, last_message_id, last_message_seq) "
+                    + "INSERT INTO messages (id, channel_id, sender_user_id, content, reply_to_id, created_at, seq) "
+                    + "SELECT c.last_message_id, c.id, ?, ?, ?, ?, c.last_message_seq FROM c "
+                    + "RETURNING id, seq";
+
+    private static final String UPDATE_LAST_MESSAGE_SQL =
+            "UPDATE channels SET last_message_id = ? WHERE id = ? AND (last_message_id IS NULL OR last_message_id < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 순번 count개 할당 후 마지막 순번 반환 (할당 범위: 반환값 - count + 1 ~ 반환값)
+     * 호출하는 트랜잭션 안에서 실행해야 한다.
+     */
+    public long allocate(Long channelId, int count) {
+        try {
+            Long last = jdbcTemplate.queryForObject(ALLOCATE_SQL, Long.class, count, channelId);
+            if (last == null) {
+                throw new BusinessException(ErrorCode.CHANNEL_NOT_FOUND);
+            }
+            return last;
+        } catch (EmptyResultDataAccessException e) {
+            throw new BusinessException(ErrorCode.CHANNEL_NOT_FOUND);
+        }
+    }
+
+    /**
+     * 메시지 한 건 저장 (순번 할당 + 채널 마지막 메시지 갱신 + INSERT 를 한 문장으로)
+     */
+    public Appended append(Long channelId, Long senderId, String content, Long replyToId, LocalDateTime createdAt) {
+        List<Appended> rows = jdbcTemplate.query(APPEND_SQL,
+                (rs, rowNum) -> new Appended(rs.getLong("id"), rs.getLong("seq")),
+                channelId, senderId, content, new SqlParameterValue(Types.BIGINT, replyToId), createdAt);
+        if (rows.isEmpty()) {
+            throw new BusinessException(ErrorCode.CHANNEL_NOT_FOUND);
+        }
+        return rows.get(0);
+    }
+
+    /**
+     * 채널 마지막 메시지 ID 일괄 갱신 (channelId → 메시지 ID, 더 큰 ID로만)
+     * 배치 저장에서 allocate()로 이미 잠근 채널 행에 대해 호출한다.
+     */
+    public void updateLastMessageIds(Map<Long, Long> lastMessageIds) {
+        List<Object[]> args = lastMessageIds.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey(), entry.getValue()})
+                .toList();
+        jdbcTemplate.batchUpdate(UPDATE_LAST_MESSAGE_SQL, args);
+    }
+
+    public record Appended(long id, long seq) {
+    }
+}
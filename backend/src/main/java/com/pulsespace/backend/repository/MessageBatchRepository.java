@@ -0,0 +1,68 @@
+package com.pulsespace.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 메시지 JDBC batch insert (write-behind 배치 저장용)
+ * 생성된 ID를 입력 순서대로 돌려주며, 호출하는 트랜잭션 안에서 실행해야 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MessageBatchRepository {
+
+    private static final String INSERT_MESSAGE_SQL =
+            "INSERT INTO messages (channel_id, sender_user_id, content, reply_to_id, created_at, seq) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 메시지 일괄 저장 후 생성된 ID 반환 (입력 순서)
+     */
+    public long[] insert(List<NewMessage> messages) {
+        return jdbcTemplate.execute((ConnectionCallback<long[]>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_MESSAGE_SQL, new String[]{"id"})) {
+                for (NewMessage message : messages) {
+                    ps.setLong(1, message.channelId());
+                    ps.setLong(2, message.senderId());
+                    ps.setString(3, message.content());
+                    ps.setObject(4, message.replyToId(), Types.BIGINT);
+                    ps.setObject(5, message.createdAt());
+                    ps.setLong(6, message.seq());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                long[] ids = new long[messages.size()];
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    int index = 0;
+                    while (keys.next()) {
+                        ids[index++] = keys.getLong(1);
+                    }
+                    if (index != messages.size()) {
+                        throw new IllegalStateException("generated key count mismatch: expected=" + messages.size() + " actual=" + index);
+                    }
+                }
+                return ids;
+            }
+        });
+    }
+
+    public record NewMessage(
+            Long channelId,
+            Long senderId,
+            String content,
+            Long replyToId,
+            LocalDateTime createdAt,
+            long seq
+    ) {
+    }
+}
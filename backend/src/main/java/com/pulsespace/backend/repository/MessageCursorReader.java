@@ -0,0 +1,69 @@
+package com.pulsespace.backend.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * 메시지 전체 순회용 전방향 커서
+ * 읽기 전용 트랜잭션 안에서 fetchSize 단위로 가져오므로(PostgreSQL은 autocommit off일 때만 커서 사용)
+ * 행 수와 관계없이 메모리는 fetchSize만큼만 쓴다.
+ */
+@Repository
+public class MessageCursorReader {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String SELECT_COLUMNS =
+            "SELECT id, channel_id, sender_user_id, content, reply_to_id, created_at, edited_at, deleted_at FROM messages ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public MessageCursorReader(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 채널 메시지를 afterId 이후부터 ID 오름차순으로 순회
+     */
+    public void forEachInChannel(Long channelId, long afterId, Consumer<MessageRow> consumer) {
+        stream(SELECT_COLUMNS + "WHERE channel_id = ? AND id > ? ORDER BY id", consumer, channelId, afterId);
+    }
+
+    /**
+     * 전체 메시지를 afterId 이후부터 ID 오름차순으로 순회
+     */
+    public void forEach(long afterId, Consumer<MessageRow> consumer) {
+        stream(SELECT_COLUMNS + "WHERE id > ? ORDER BY id", consumer, afterId);
+    }
+
+    private void stream(String sql, Consumer<MessageRow> consumer, Object... args) {
+        readOnlyTransaction.executeWithoutResult(status ->
+                jdbcTemplate.query(sql, (RowCallbackHandler) rs -> consumer.accept(mapRow(rs)), args));
+    }
+
+    static MessageRow mapRow(ResultSet rs) throws SQLException {
+        return new MessageRow(
+                rs.getLong("id"),
+                rs.getLong("channel_id"),
+                rs.getLong("sender_user_id"),
+                rs.getString("content"),
+                rs.getObject("reply_to_id", Long.class),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("edited_at", LocalDateTime.class),
+                rs.getObject("deleted_at", LocalDateTime.class)
+        );
+    }
+}
@@ -7,22 +7,44 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface MessageRepository extends JpaRepository<Message, Long> {
 
-    // 채널의 최신 메시지 50개 (내림차순)
-    @Query("select m from Message m join fetch m.sender where m.channel.id = :channelId order by m.id desc")
-    List<Message> findTop50WithSenderByChannelId(@Param("channelId") Long channelId, Pageable pageable);
+    // 목록 조회 공통 select (엔티티 대신 필요한 컬럼만, users 조인 없음)
+    String MESSAGE_ROW_SELECT = "select new com.pulsespace.backend.repository.MessageRow("
+            + "m.id, m.channel.id, m.sender.id, m.content, m.replyToId, m.createdAt, m.editedAt, m.deletedAt) "
+            + "from Message m";
 
-    // 특정 메시지 이후의 새 메시지들 (실시간 동기화)
-    List<Message> findByChannelIdAndIdGreaterThan(Long channelId, Long messageId);
+    // 채널의 최신 메시지 (내림차순, 프로젝션)
+    @Query(MESSAGE_ROW_SELECT + " where m.channel.id = :channelId order by m.id desc")
+    List<MessageRow> findRowsByChannelId(@Param("channelId") Long channelId, Pageable pageable);
 
-    // 특정 메시지 이전의 메시지들 (페이징 - 더 보기)
-    @Query("select m from Message m join fetch m.sender where m.channel.id = :channelId and m.id < :cursorId order by m.id desc")
-    List<Message> findTop50WithSenderByChannelIdAndIdLessThan(@Param("channelId") Long channelId, @Param("cursorId") Long cursorId, Pageable pageable);
+    // 특정 메시지 이후의 새 메시지들 (재연결 동기화, 오름차순 keyset 페이지, 프로젝션)
+    @Query(MESSAGE_ROW_SELECT + " where m.channel.id = :channelId and m.id > :afterId order by m.id asc")
+    List<MessageRow> findRowsByChannelIdAndIdGreaterThan(@Param("channelId") Long channelId, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 특정 메시지 이후 메시지 ID (오프셋 위치의 ID 존재 여부로 누락 개수 상한 확인)
+    @Query("select m.id from Message m where m.channel.id = :channelId and m.id > :afterId order by m.id asc")
+    List<Long> findIdsByChannelIdAndIdGreaterThan(@Param("channelId") Long channelId, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 특정 메시지 이전의 메시지들 (페이징 - 더 보기, 프로젝션)
+    @Query(MESSAGE_ROW_SELECT + " where m.channel.id = :channelId and m.id < :cursorId order by m.id desc")
+    List<MessageRow> findRowsByChannelIdAndIdLessThan(@Param("channelId") Long channelId, @Param("cursorId") Long cursorId, Pageable pageable);
+
+    // 답장 대상 메시지들 (페이지 단위 미리보기, PK IN 조회)
+    @Query(MESSAGE_ROW_SELECT + " where m.channel.id = :channelId and m.id in :ids")
+    List<MessageRow> findRowsByChannelIdAndIdIn(@Param("channelId") Long channelId, @Param("ids") Collection<Long> ids);
+
+    // 메시지 순번 조회 (id, channelId, seq) - 읽음 위치의 순번 계산용, PK IN 조회
+    @Query("select m.id, m.channel.id, m.seq from Message m where m.id in :ids")
+    List<Object[]> findSeqsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 채널에 속한 메시지인지 (PK 조회)
+    boolean existsByIdAndChannelId(Long id, Long channelId);
 
     // 메시지 단건 조회
     @Query("select m from Message m join fetch m.sender where m.id = :messageId")
@@ -0,0 +1,20 @@
+package com.pulsespace.backend.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메시지 목록 조회용 프로젝션
+ * MessageResponse에 필요한 컬럼만 읽으며, 영속성 컨텍스트에 엔티티를 올리지 않는다.
+ * 발신자 이름은 users 조인 없이 UserProfileCache에서 채운다.
+ */
+public record MessageRow(
+        Long id,
+        Long channelId,
+        Long senderId,
+        String content,
+        Long replyToId,
+        LocalDateTime createdAt,
+        LocalDateTime editedAt,
+        LocalDateTime deletedAt
+) {
+}
@@ -0,0 +1,10 @@
+package com.pulsespace.backend.repository;
+
+/**
+ * 검색 결과 행 (메시지 프로젝션 + ts_rank 점수)
+ */
+public record MessageSearchHit(
+        MessageRow row,
+        float rank
+) {
+}
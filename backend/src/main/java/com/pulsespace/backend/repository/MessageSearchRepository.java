@@ -0,0 +1,62 @@
+package com.pulsespace.backend.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 메시지 전문 검색 (content_tsv @@ websearch_to_tsquery)
+ * 후보는 부분 GIN 인덱스(idx_message_content_tsv)로만 찾고, 순위(ts_rank) 내림차순 → ID 내림차순 keyset으로 자른다.
+ * 채널 범위: channelId가 있으면 해당 채널만, 없으면 사용자가 속한 채널 전체 (idx_channel_member_user_id)
+ */
+@Repository
+public class MessageSearchRepository {
+
+    private static final String SEARCH_SELECT =
+            "SELECT id, channel_id, sender_user_id, content, reply_to_id, created_at, edited_at, deleted_at, rank FROM ("
+                    + " SELECT m.id, m.channel_id, m.sender_user_id, m.content, m.reply_to_id, m.created_at, m.edited_at, m.deleted_at,"
+                    + " ts_rank(m.content_tsv, q) AS rank"
+                    + " FROM messages m CROSS JOIN websearch_to_tsquery('simple'::regconfig, ?) q"
+                    + " WHERE m.content_tsv @@ q AND m.deleted_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MessageSearchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 검색 결과 한 페이지 (순위 내림차순, 같은 순위는 ID 내림차순)
+     * afterRank/afterId: 이전 페이지 마지막 결과 (첫 페이지는 null)
+     */
+    public List<MessageSearchHit> search(Long userId, Long channelId, String query, Float afterRank, Long afterId, int limit) {
+        StringBuilder sql = new StringBuilder(SEARCH_SELECT);
+        List<Object> args = new ArrayList<>();
+        args.add(query);
+
+        if (channelId != null) {
+            sql.append(" AND m.channel_id = ?");
+            args.add(channelId);
+        } else {
+            sql.append(" AND m.channel_id IN (SELECT cm.channel_id FROM channel_members cm WHERE cm.user_id = ?)");
+            args.add(userId);
+        }
+        sql.append(") hit");
+
+        // rank는 real(float4)이므로 같은 타입으로 비교해야 경계 결과가 중복/누락되지 않는다
+        if (afterRank != null && afterId != null) {
+            sql.append(" WHERE (hit.rank < CAST(? AS real) OR (hit.rank = CAST(? AS real) AND hit.id < ?))");
+            args.add(afterRank);
+            args.add(afterRank);
+            args.add(afterId);
+        }
+        sql.append(" ORDER BY hit.rank DESC, hit.id DESC LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> new MessageSearchHit(MessageCursorReader.mapRow(rs), rs.getFloat("rank")),
+                args.toArray());
+    }
+}
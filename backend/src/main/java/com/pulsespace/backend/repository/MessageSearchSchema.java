@@ -0,0 +1,45 @@
+package com.pulsespace.backend.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메시지 검색용 스키마 (JPA 매핑 밖의 컬럼/인덱스)
+ * content_tsv: content에서 생성되는 tsvector 컬럼 (STORED, 애플리케이션은 쓰지 않음)
+ * idx_message_content_tsv: 삭제되지 않은 메시지만 담는 부분 GIN 인덱스
+ * 로컬 개발용: Hibernate DDL 이후(모든 싱글톤 생성 후)에 실행되며, IF NOT EXISTS라 매 기동마다 실행해도 된다.
+ * 운영은 schema-init을 끄고 db/migration/message-search.sql을 점검 시간에 따로 실행한다
+ * (생성 컬럼을 처음 추가할 때 테이블 전체를 다시 쓰므로 기동 경로에 두지 않는다).
+ * 형태소 사전이 없는 한국어를 고려해 'simple' 설정 (어간 추출 없이 공백/구두점 기준 토큰)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "pulsespace.message.search.schema-init", havingValue = "true")
+public class MessageSearchSchema implements SmartInitializingSingleton {
+
+    private static final String ADD_COLUMN =
+            "ALTER TABLE messages ADD COLUMN IF NOT EXISTS content_tsv tsvector "
+                    + "GENERATED ALWAYS AS (to_tsvector('simple'::regconfig, content)) STORED";
+
+    // 쓰기를 막지 않도록 CONCURRENTLY (트랜잭션 밖, 자동 커밋으로 실행)
+    private static final String CREATE_INDEX =
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_message_content_tsv ON messages USING GIN (content_tsv) "
+                    + "WHERE deleted_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MessageSearchSchema(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long startTime = System.currentTimeMillis();
+        jdbcTemplate.execute(ADD_COLUMN);
+        jdbcTemplate.execute(CREATE_INDEX);
+        log.info("message_search_schema_ready duration_ms={}", System.currentTimeMillis() - startTime);
+    }
+}
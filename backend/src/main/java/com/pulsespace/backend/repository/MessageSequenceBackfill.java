@@ -0,0 +1,103 @@
+package com.pulsespace.backend.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 메시지 순번 컬럼 도입 전 데이터 채우기 (messages.seq, channels.last_message_seq, channel_members.last_read_seq)
+ * 순번 없는 메시지가 있을 때만 실행되며, 채널 ID 구간(batch-channels개)마다 따로 커밋해 한 트랜잭션이 테이블 전체를 잡지 않는다.
+ * 구간마다 advisory lock을 잡고 다시 확인하므로 여러 인스턴스가 동시에 떠도 같은 구간은 한 번만 반영된다.
+ * 웹 서버 시작 전(모든 싱글톤 생성 후)에 끝나므로 새 메시지 순번과 겹치지 않는다.
+ * 컬럼 자체는 배포 전에 db/migration/message-seq.sql로 추가해 둔다.
+ */
+@Slf4j
+@Component
+public class MessageSequenceBackfill implements SmartInitializingSingleton {
+
+    private static final String LOCK = "SELECT pg_advisory_xact_lock(5365714266)";
+
+    private static final String HAS_ANY_MISSING =
+            "SELECT EXISTS (SELECT 1 FROM messages WHERE seq IS NULL)";
+
+    private static final String NEXT_CHANNELS =
+            "SELECT id FROM channels WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String HAS_MISSING =
+            "SELECT EXISTS (SELECT 1 FROM messages WHERE seq IS NULL AND channel_id BETWEEN ? AND ?)";
+
+    private static final String FILL_MESSAGES =
+            "UPDATE messages m SET seq = s.seq "
+                    + "FROM (SELECT id, ROW_NUMBER() OVER (PARTITION BY channel_id ORDER BY id) AS seq "
+                    + "FROM messages WHERE channel_id BETWEEN ? AND ?) s "
+                    + "WHERE m.id = s.id AND m.seq IS NULL";
+
+    private static final String FILL_CHANNELS =
+            "UPDATE channels c SET last_message_seq = "
+                    + "COALESCE((SELECT MAX(m.seq) FROM messages m WHERE m.channel_id = c.id), 0) "
+                    + "WHERE c.id BETWEEN ? AND ?";
+
+    private static final String FILL_MEMBERS =
+            "UPDATE channel_members cm SET last_read_seq = "
+                    + "(SELECT m.seq FROM messages m WHERE m.id = cm.last_read_message_id AND m.channel_id = cm.channel_id) "
+                    + "WHERE cm.channel_id BETWEEN ? AND ? AND cm.last_read_message_id IS NOT NULL AND cm.last_read_seq IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchChannels;
+
+    public MessageSequenceBackfill(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${pulsespace.message.seq-backfill.batch-channels:100}") int batchChannels) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchChannels = batchChannels;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(HAS_ANY_MISSING, Boolean.class))) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        long[] totals = new long[3];
+        // 채널 ID 순으로 batchChannels개씩 구간을 나눠 반영
+        List<Long> channelIds = jdbcTemplate.queryForList(NEXT_CHANNELS, Long.class, 0L, batchChannels);
+        while (!channelIds.isEmpty()) {
+            long to = channelIds.get(channelIds.size() - 1);
+            int[] counts = fill(channelIds.get(0), to);
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] += counts[i];
+            }
+            channelIds = jdbcTemplate.queryForList(NEXT_CHANNELS, Long.class, to, batchChannels);
+        }
+        log.info("message_seq_backfilled messages={} channels={} members={} duration_ms={}",
+                totals[0], totals[1], totals[2], System.currentTimeMillis() - startTime);
+    }
+
+    // 채널 ID 구간 [from, to] 한 트랜잭션 (messages, channels, members 반영 수)
+    private int[] fill(long from, long to) {
+        int[] counts = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute(LOCK);
+            // 잠금 대기 중 다른 인스턴스가 끝냈으면 건너뜀
+            if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(HAS_MISSING, Boolean.class, from, to))) {
+                return new int[3];
+            }
+            return new int[]{
+                    jdbcTemplate.update(FILL_MESSAGES, from, to),
+                    jdbcTemplate.update(FILL_CHANNELS, from, to),
+                    jdbcTemplate.update(FILL_MEMBERS, from, to)
+            };
+        });
+        log.debug("message_seq_backfill_batch fromChannelId={} toChannelId={} messages={}", from, to, counts[0]);
+        return counts;
+    }
+}
@@ -2,8 +2,12 @@ package com.pulsespace.backend.repository;
 
 import com.pulsespace.backend.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +18,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // 이메일 존재 여부 (회원가입 중복 체크)
     boolean existsByEmail(String email);
+
+    // 사용자 이름만 조회 (발신자 표시용)
+    @Query("select u.name from User u where u.id = :userId")
+    Optional<String> findNameById(@Param("userId") Long userId);
+
+    // 여러 사용자 이름 조회 (row[0]=id, row[1]=name)
+    @Query("select u.id, u.name from User u where u.id in :userIds")
+    List<Object[]> findNamesByIdIn(@Param("userIds") Collection<Long> userIds);
 }
\ No newline at end of file
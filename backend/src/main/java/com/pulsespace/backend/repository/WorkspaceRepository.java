@@ -6,25 +6,37 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface WorkspaceRepository extends JpaRepository<Workspace, Long> {
 
-    // 워크스페이스 조회
+    // 워크스페이스 조회 (Workspace, unreadCount) - 속한 채널의 순번 차이 합, 0보다 크면 unread
     @Query("SELECT w, " +
-            "CASE WHEN EXISTS (" +
-            "SELECT c FROM Channel c " +
+            "(SELECT COALESCE(SUM(c.lastMessageSeq - COALESCE(cm.lastReadSeq, 0L)), 0L) FROM Channel c " +
             "JOIN ChannelMember cm ON cm.channel.id = c.id AND cm.user.id = :userId " +
             "WHERE c.workspace.id = w.id " +
-            "AND c.lastMessageId IS NOT NULL " +
-            "AND (cm.lastReadMessageId IS NULL OR cm.lastReadMessageId < c.lastMessageId)" +
-            ") THEN true ELSE false END " +
+            "AND c.lastMessageSeq > COALESCE(cm.lastReadSeq, 0L)" +
+            ") " +
             "FROM WorkspaceMember wm " +
             "JOIN wm.workspace w " +
             "WHERE wm.user.id = :userId")
     List<Object[]> findWorkspacesWithUnreadByUserId(@Param("userId") Long userId);
 
+    // 워크스페이스 조회 (지정한 채널은 unread 집계에서 제외)
+    @Query("SELECT w, " +
+            "(SELECT COALESCE(SUM(c.lastMessageSeq - COALESCE(cm.lastReadSeq, 0L)), 0L) FROM Channel c " +
+            "JOIN ChannelMember cm ON cm.channel.id = c.id AND cm.user.id = :userId " +
+            "WHERE c.workspace.id = w.id " +
+            "AND c.id NOT IN :excludedChannelIds " +
+            "AND c.lastMessageSeq > COALESCE(cm.lastReadSeq, 0L)" +
+            ") " +
+            "FROM WorkspaceMember wm " +
+            "JOIN wm.workspace w " +
+            "WHERE wm.user.id = :userId")
+    List<Object[]> findWorkspacesWithUnreadByUserIdExcludingChannels(@Param("userId") Long userId, @Param("excludedChannelIds") Collection<Long> excludedChannelIds);
+
     // 소유자로 워크스페이스 찾기
     List<Workspace> findByOwnerId(Long ownerId);
 }
\ No newline at end of file
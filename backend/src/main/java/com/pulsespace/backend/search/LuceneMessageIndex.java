@@ -0,0 +1,535 @@
+package com.pulsespace.backend.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pulsespace.backend.domain.channel.ChannelsDeletedEvent;
+import com.pulsespace.backend.domain.message.MessageChangedEvent;
+import com.pulsespace.backend.dto.response.MessageResponse;
+import com.pulsespace.backend.repository.ChannelMemberRepository;
+import com.pulsespace.backend.repository.MessageCursorReader;
+import com.pulsespace.backend.repository.MessageRow;
+import com.pulsespace.backend.repository.MessageSearchHit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongField;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LRUQueryCache;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.PointInSetQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryCachingPolicy;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.UsageTrackingQueryCachingPolicy;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 내장 Lucene 메시지 검색 인덱스 (주 DB에 검색 부하를 주지 않음)
+ * 메시지 전송/수정/삭제 이벤트로 색인하고, SearcherManager가 refresh 주기마다 NRT로 새 검색기를 연다.
+ * 로컬 디스크에 주기적으로 커밋하며 마지막 색인 메시지 ID를 커밋 데이터로 남기므로,
+ * 재시작 시에는 그 이후 메시지만 messages 테이블에서 이어서 색인한다.
+ * ID는 커밋 순서와 다르게 보일 수 있으므로 이어받기는 워터마크보다 catch-up-overlap 만큼 앞에서 다시 읽고,
+ * 색인에 실패한 이벤트는 재시도하며 그동안 워터마크는 가장 오래된 실패 이전에 머문다.
+ * 권한 필터는 사용자별 채널 집합 쿼리이고, 세그먼트별 비트셋으로 캐시되어 같은 채널 집합끼리 공유된다.
+ * 채널/워크스페이스 삭제는 메시지 이벤트 없이 일괄 삭제되므로 ChannelsDeletedEvent로 채널 단위 문서를 지운다.
+ * 다른 노드의 변경 이벤트는 받지 못하므로 단일 노드(pulsespace.cluster.relay=local)에서만 켠다.
+ * 주의: 중단 동안의 수정/삭제는 이어받기에 포함되지 않는다 (reindex-on-start로 전체 재색인)
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("'${pulsespace.message.search.engine:postgres}' == 'lucene' && '${pulsespace.cluster.relay:local}' == 'local'")
+public class LuceneMessageIndex {
+
+    private static final String KEY = "key";
+    private static final String ID = "id";
+    private static final String CHANNEL_ID = "channel_id";
+    private static final String SENDER_ID = "sender_id";
+    private static final String CONTENT = "content";
+    private static final String REPLY_TO_ID = "reply_to_id";
+    private static final String CREATED_AT = "created_at";
+    private static final String EDITED_AT = "edited_at";
+
+    private static final String LAST_MESSAGE_ID = "last_message_id";
+
+    // 점수 내림차순 → ID 내림차순 (PostgreSQL 검색과 같은 "순위:ID" 커서)
+    private static final Sort SORT = new Sort(SortField.FIELD_SCORE, new SortedNumericSortField(ID, SortField.Type.LONG, true));
+
+    private static final int MAX_QUERY_TERMS = 32;
+    private static final int MAX_PENDING_RETRIES = 100_000;
+    private static final int QUERY_CACHE_MAX_QUERIES = 10_000;
+    private static final long QUERY_CACHE_MAX_BYTES = 64L * 1024 * 1024;
+
+    // 참여/탈퇴는 이벤트가 없으므로 짧은 만료로 반영 (채널 삭제는 이벤트로 즉시 비움)
+    private static final Duration MEMBERSHIP_TTL = Duration.ofSeconds(30);
+
+    private final MessageCursorReader messageCursorReader;
+    private final ChannelMemberRepository channelMemberRepository;
+    private final boolean reindexOnStart;
+    private final long catchUpOverlap;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final Cache<Long, Query> membershipFilters;
+
+    // 이 ID까지는 색인됨 (커밋 데이터로 저장)
+    private final AtomicLong lastIndexedId = new AtomicLong();
+    // 색인에 실패해 재시도할 이벤트 (메시지 ID → 마지막 이벤트)
+    private final Map<Long, MessageChangedEvent> failedEvents = new ConcurrentHashMap<>();
+    // 재시도 대기가 넘쳐 버린 가장 오래된 메시지 ID (재시작 전까지 워터마크를 그 이전에 고정)
+    private final AtomicLong lowestDroppedId = new AtomicLong(Long.MAX_VALUE);
+    // 문서 삭제에 실패해 재시도할 채널 ID
+    private final Set<Long> failedChannelDeletes = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready;
+
+    private final Counter upsertCounter;
+    private final Counter deleteCounter;
+    private final Counter reindexCounter;
+    private final Counter failureCounter;
+    private final Timer indexTimer;
+
+    public LuceneMessageIndex(
+            MessageCursorReader messageCursorReader,
+            ChannelMemberRepository channelMemberRepository,
+            MeterRegistry meterRegistry,
+            @Value("${pulsespace.message.search.lucene.path:./data/search-index}") String path,
+            @Value("${pulsespace.message.search.lucene.reindex-on-start:false}") boolean reindexOnStart,
+            @Value("${pulsespace.message.search.lucene.catch-up-overlap:1000}") long catchUpOverlap) {
+        this.messageCursorReader = messageCursorReader;
+        this.channelMemberRepository = channelMemberRepository;
+        this.reindexOnStart = reindexOnStart;
+        this.catchUpOverlap = catchUpOverlap;
+
+        try {
+            this.directory = FSDirectory.open(Path.of(path));
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            this.searcherManager = new SearcherManager(writer, new FilterCachingSearcherFactory());
+        } catch (IOException e) {
+            throw new UncheckedIOException("search index open failed: " + path, e);
+        }
+
+        this.membershipFilters = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(MEMBERSHIP_TTL)
+                .build();
+
+        this.upsertCounter = Counter.builder("pulsespace.search.index.documents")
+                .description("검색 인덱스 반영 건수")
+                .tag("op", "upsert")
+                .register(meterRegistry);
+        this.deleteCounter = Counter.builder("pulsespace.search.index.documents")
+                .description("검색 인덱스 반영 건수")
+                .tag("op", "delete")
+                .register(meterRegistry);
+        this.reindexCounter = Counter.builder("pulsespace.search.index.documents")
+                .description("검색 인덱스 반영 건수")
+                .tag("op", "reindex")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("pulsespace.search.index.failures")
+                .description("검색 인덱스 반영 실패 수 (재시도 대상)")
+                .register(meterRegistry);
+        this.indexTimer = Timer.builder("pulsespace.search.index.latency")
+                .description("메시지 이벤트 한 건 색인 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("pulsespace.search.index.docs", writer, w -> w.getDocStats().numDocs)
+                .description("검색 인덱스 문서 수")
+                .register(meterRegistry);
+        Gauge.builder("pulsespace.search.index.retry_pending", failedEvents, Map::size)
+                .description("재시도 대기 중인 색인 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기동 후 색인 준비 (별도 스레드)
+     * 커밋이 있으면 그 이후만 이어서, 없거나 reindex-on-start면 전체 재색인
+     * 준비가 끝나기 전까지 검색은 PostgreSQL로 처리된다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread.ofPlatform().daemon().name("search-reindex").start(() -> {
+            try {
+                Long committedId = committedLastMessageId();
+                if (reindexOnStart || committedId == null) {
+                    rebuild();
+                } else {
+                    catchUp(Math.max(0, committedId - catchUpOverlap));
+                }
+                ready = true;
+            } catch (RuntimeException | IOException e) {
+                log.error("search_index_start_failed message={}", e.getMessage(), e);
+            }
+        });
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 전체 재색인 (messages 테이블을 커서로 스트리밍)
+     * 진행 중 커밋된 지점부터는 재시작 후 이어받기로 계속된다.
+     */
+    public void rebuild() throws IOException {
+        long startTime = System.currentTimeMillis();
+        writer.deleteAll();
+        lastIndexedId.set(0);
+        long rows = stream(0);
+        commit();
+        searcherManager.maybeRefreshBlocking();
+        log.info("search_index_rebuilt rows={} duration_ms={}", rows, System.currentTimeMillis() - startTime);
+    }
+
+    private void catchUp(long afterId) throws IOException {
+        long startTime = System.currentTimeMillis();
+        lastIndexedId.set(afterId);
+        long rows = stream(afterId);
+        commit();
+        searcherManager.maybeRefreshBlocking();
+        log.info("search_index_caught_up afterId={} rows={} duration_ms={}", afterId, rows, System.currentTimeMillis() - startTime);
+    }
+
+    private long stream(long afterId) {
+        long[] rows = {0};
+        messageCursorReader.forEach(afterId, row -> {
+            try {
+                if (row.deletedAt() != null) {
+                    writer.deleteDocuments(new Term(KEY, Long.toString(row.id())));
+                } else {
+                    writer.updateDocument(new Term(KEY, Long.toString(row.id())), document(row.id(), row.channelId(),
+                            row.senderId(), row.content(), row.replyToId(), row.createdAt(), row.editedAt()));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            lastIndexedId.accumulateAndGet(row.id(), Math::max);
+            reindexCounter.increment();
+            rows[0]++;
+        });
+        return rows[0];
+    }
+
+    /**
+     * 커밋된 메시지 변경을 색인 (검색 노출은 다음 refresh 이후)
+     * 실패하면 재시도 대상으로 남긴다 (같은 메시지의 이전 실패는 최신 이벤트로 대체)
+     */
+    @TransactionalEventListener
+    public void onMessageChanged(MessageChangedEvent event) {
+        Long messageId = event.message().getId();
+        long startTime = System.nanoTime();
+        try {
+            // 같은 메시지의 재시도와 순서가 뒤바뀌지 않도록 키 단위로 반영
+            failedEvents.compute(messageId, (id, previous) -> apply(event) ? null : event);
+        } finally {
+            indexTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 삭제된 채널의 문서 제거 (검색 노출은 다음 refresh 이후)
+     * 채널 집합 필터도 비우고, 그 채널의 재시도 대기 이벤트는 버린다.
+     */
+    @TransactionalEventListener
+    public void onChannelsDeleted(ChannelsDeletedEvent event) {
+        membershipFilters.invalidateAll();
+        if (event.channelIds().isEmpty()) {
+            return;
+        }
+        Set<Long> channelIds = Set.copyOf(event.channelIds());
+        failedEvents.values().removeIf(failed -> channelIds.contains(failed.channelId()));
+        if (!deleteChannels(channelIds)) {
+            failedChannelDeletes.addAll(channelIds);
+        }
+    }
+
+    /**
+     * 실패한 색인 이벤트, 채널 문서 삭제 재시도 (대기 중인 동안 커밋 워터마크는 가장 오래된 실패 이전)
+     */
+    @Scheduled(fixedDelayString = "${pulsespace.message.search.lucene.retry-interval-ms:5000}")
+    public void retryFailed() {
+        if (!failedChannelDeletes.isEmpty()) {
+            Set<Long> channelIds = Set.copyOf(failedChannelDeletes);
+            if (deleteChannels(channelIds)) {
+                failedChannelDeletes.removeAll(channelIds);
+            }
+        }
+        if (failedEvents.isEmpty()) {
+            return;
+        }
+        int before = failedEvents.size();
+        for (Long messageId : List.copyOf(failedEvents.keySet())) {
+            failedEvents.computeIfPresent(messageId, (id, event) -> apply(event) ? null : event);
+        }
+        log.info("search_index_retried count={} remaining={}", before, failedEvents.size());
+    }
+
+    // 반영했거나 더 재시도하지 않으면 true
+    private boolean apply(MessageChangedEvent event) {
+        MessageResponse message = event.message();
+        try {
+            Term key = new Term(KEY, Long.toString(message.getId()));
+            if (Boolean.TRUE.equals(message.getIsDeleted())) {
+                writer.deleteDocuments(key);
+                deleteCounter.increment();
+            } else {
+                writer.updateDocument(key, document(message.getId(), message.getChannelId(), message.getSenderId(),
+                        message.getContent(), message.getReplyToId(), message.getCreatedAt(), message.getEditedAt()));
+                upsertCounter.increment();
+            }
+            // 재색인 중에는 스트림이 워터마크를 관리 (앞지르면 재시작 시 중간이 빠짐)
+            if (ready) {
+                lastIndexedId.accumulateAndGet(message.getId(), Math::max);
+            }
+            return true;
+        } catch (IOException | AlreadyClosedException e) {
+            failureCounter.increment();
+            log.warn("search_index_failed messageId={} message={}", message.getId(), e.getMessage());
+            // 재시도 대기가 넘치면 버리고, 워터마크를 그 이전에 고정해 재시작 시 이어받기로 복구
+            if (failedEvents.size() >= MAX_PENDING_RETRIES) {
+                lowestDroppedId.accumulateAndGet(message.getId(), Math::min);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private boolean deleteChannels(Set<Long> channelIds) {
+        try {
+            writer.deleteDocuments(LongPoint.newSetQuery(CHANNEL_ID, channelIds));
+            log.info("search_index_channels_deleted channelIds={}", channelIds);
+            return true;
+        } catch (IOException | AlreadyClosedException e) {
+            failureCounter.increment();
+            log.warn("search_index_channel_delete_failed channelIds={} message={}", channelIds, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 검색 (점수 → ID 내림차순, afterRank/afterId 이후)
+     * channelId가 있으면 해당 채널만 (권한 확인은 호출 측), 없으면 사용자가 속한 채널 전체
+     */
+    public List<MessageSearchHit> search(Long userId, Long channelId, String queryText, Float afterRank, Long afterId, int limit) throws IOException {
+        Query text = textQuery(queryText);
+        Query filter = channelId != null ? LongPoint.newExactQuery(CHANNEL_ID, channelId) : membershipFilter(userId);
+        if (text == null || filter == null) {
+            return List.of();
+        }
+
+        Query query = new BooleanQuery.Builder()
+                .add(text, BooleanClause.Occur.MUST)
+                .add(filter, BooleanClause.Occur.FILTER)
+                .build();
+        FieldDoc after = afterRank != null && afterId != null
+                ? new FieldDoc(Integer.MAX_VALUE, afterRank, new Object[]{afterRank, afterId})
+                : null;
+
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            TopFieldDocs top = searcher.searchAfter(after, query, limit, SORT, true);
+            StoredFields storedFields = searcher.storedFields();
+            List<MessageSearchHit> hits = new ArrayList<>(top.scoreDocs.length);
+            for (ScoreDoc scoreDoc : top.scoreDocs) {
+                float score = (Float) ((FieldDoc) scoreDoc).fields[0];
+                hits.add(new MessageSearchHit(row(storedFields.document(scoreDoc.doc)), score));
+            }
+            return hits;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${pulsespace.message.search.lucene.refresh-interval-ms:1000}")
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException | AlreadyClosedException e) {
+            log.warn("search_index_refresh_failed message={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 로컬 디스크 스냅샷 (재시작 시 이어받기 기준)
+     */
+    @Scheduled(fixedDelayString = "${pulsespace.message.search.lucene.commit-interval-ms:60000}")
+    public void commit() {
+        try {
+            writer.setLiveCommitData(Map.of(LAST_MESSAGE_ID, Long.toString(committableId())).entrySet());
+            writer.commit();
+        } catch (IOException | AlreadyClosedException e) {
+            log.warn("search_index_commit_failed message={}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        commit();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    // 재시도 대기 중이거나 버린 가장 오래된 메시지 이전까지만 색인된 것으로 기록
+    private long committableId() {
+        long watermark = Math.min(lastIndexedId.get(), lowestDroppedId.get() - 1);
+        for (Long messageId : failedEvents.keySet()) {
+            watermark = Math.min(watermark, messageId - 1);
+        }
+        return Math.max(0, watermark);
+    }
+
+    private Long committedLastMessageId() throws IOException {
+        if (!DirectoryReader.indexExists(directory) || writer.getLiveCommitData() == null) {
+            return null;
+        }
+        for (Map.Entry<String, String> entry : writer.getLiveCommitData()) {
+            if (LAST_MESSAGE_ID.equals(entry.getKey())) {
+                return Long.parseLong(entry.getValue());
+            }
+        }
+        return null;
+    }
+
+    // 속한 채널이 없으면 null
+    private Query membershipFilter(Long userId) {
+        Query filter = membershipFilters.get(userId, id -> {
+            long[] channelIds = channelMemberRepository.findChannelIdsByUserId(id).stream()
+                    .mapToLong(Long::longValue)
+                    .sorted()
+                    .toArray();
+            return channelIds.length == 0 ? new MatchNoDocsQuery() : LongPoint.newSetQuery(CHANNEL_ID, channelIds);
+        });
+        return filter instanceof MatchNoDocsQuery ? null : filter;
+    }
+
+    // 분석기로 나눈 토큰을 모두 포함 (AND)
+    private Query textQuery(String queryText) throws IOException {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        int terms = 0;
+        try (TokenStream tokens = analyzer.tokenStream(CONTENT, queryText)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken() && terms < MAX_QUERY_TERMS) {
+                builder.add(new TermQuery(new Term(CONTENT, term.toString())), BooleanClause.Occur.MUST);
+                terms++;
+            }
+            tokens.end();
+        }
+        return terms > 0 ? builder.build() : null;
+    }
+
+    private static Document document(Long id, Long channelId, Long senderId, String content, Long replyToId,
+                                     LocalDateTime createdAt, LocalDateTime editedAt) {
+        Document document = new Document();
+        document.add(new StringField(KEY, Long.toString(id), Field.Store.NO));
+        document.add(new LongField(ID, id, Field.Store.YES));
+        document.add(new LongPoint(CHANNEL_ID, channelId));
+        document.add(new StoredField(CHANNEL_ID, channelId));
+        document.add(new StoredField(SENDER_ID, senderId));
+        document.add(new TextField(CONTENT, content != null ? content : "", Field.Store.YES));
+        if (replyToId != null) {
+            document.add(new StoredField(REPLY_TO_ID, replyToId));
+        }
+        if (createdAt != null) {
+            document.add(new StoredField(CREATED_AT, createdAt.toString()));
+        }
+        if (editedAt != null) {
+            document.add(new StoredField(EDITED_AT, editedAt.toString()));
+        }
+        return document;
+    }
+
+    private static MessageRow row(Document document) {
+        return new MessageRow(
+                document.getField(ID).numericValue().longValue(),
+                document.getField(CHANNEL_ID).numericValue().longValue(),
+                document.getField(SENDER_ID).numericValue().longValue(),
+                document.get(CONTENT),
+                document.getField(REPLY_TO_ID) != null ? document.getField(REPLY_TO_ID).numericValue().longValue() : null,
+                document.get(CREATED_AT) != null ? LocalDateTime.parse(document.get(CREATED_AT)) : null,
+                document.get(EDITED_AT) != null ? LocalDateTime.parse(document.get(EDITED_AT)) : null,
+                null
+        );
+    }
+
+    /**
+     * 채널 집합 필터는 처음부터 비트셋 캐시, 나머지는 기본 정책 (반복 사용되는 것만)
+     */
+    private static final class FilterCachingSearcherFactory extends SearcherFactory {
+
+        private final LRUQueryCache queryCache = new LRUQueryCache(QUERY_CACHE_MAX_QUERIES, QUERY_CACHE_MAX_BYTES);
+        private final QueryCachingPolicy defaultPolicy = new UsageTrackingQueryCachingPolicy();
+        private final QueryCachingPolicy policy = new QueryCachingPolicy() {
+            @Override
+            public void onUse(Query query) {
+                defaultPolicy.onUse(query);
+            }
+
+            @Override
+            public boolean shouldCache(Query query) throws IOException {
+                return query instanceof PointInSetQuery || defaultPolicy.shouldCache(query);
+            }
+        };
+
+        @Override
+        public IndexSearcher newSearcher(IndexReader reader, IndexReader previousReader) {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            searcher.setQueryCache(queryCache);
+            searcher.setQueryCachingPolicy(policy);
+            return searcher;
+        }
+    }
+}
@@ -1,7 +1,13 @@
 package com.pulsespace.backend.service;
 
+import com.pulsespace.backend.cache.ChannelMembershipCache;
+import com.pulsespace.backend.cache.ReadMarkerBuffer;
+import com.pulsespace.backend.cache.RecentMessageCache;
+import com.pulsespace.backend.cache.SharedRecentMessageCache;
+import com.pulsespace.backend.cache.UnreadSummaryStore;
 import com.pulsespace.backend.domain.channel.Channel;
 import com.pulsespace.backend.domain.channel.ChannelMember;
+import com.pulsespace.backend.domain.channel.ChannelsDeletedEvent;
 import com.pulsespace.backend.domain.user.User;
 import com.pulsespace.backend.domain.workspace.Workspace;
 import com.pulsespace.backend.domain.workspace.WorkspaceMember;
@@ -11,6 +17,7 @@ import com.pulsespace.backend.exception.ErrorCode;
 import com.pulsespace.backend.repository.*;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -26,6 +33,12 @@ public class ChannelService {
     private final WorkspaceMemberRepository workspaceMemberRepository;
     private final UserRepository userRepository;
     private final MessageRepository messageRepository;
+    private final ChannelMembershipCache channelMembershipCache;
+    private final ReadMarkerBuffer readMarkerBuffer;
+    private final UnreadSummaryStore unreadSummaryStore;
+    private final RecentMessageCache recentMessageCache;
+    private final SharedRecentMessageCache sharedRecentMessageCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 채널 생성
@@ -60,6 +73,9 @@ public class ChannelService {
                 .build();
         channelMember = channelMemberRepository.save(channelMember);
 
+        // 안 읽은 요약에 새 채널이 포함되도록 다시 만든다
+        unreadSummaryStore.evictUser(userId);
+
         // 반환
         return channel;
     }
@@ -74,15 +90,42 @@ public class ChannelService {
             throw new BusinessException(ErrorCode.NOT_MEMBER);
         }
 
-        // 채널 목록 + hasUnread 조회
+        // 채널 목록 + hasUnread + 안 읽은 수 조회
         List<Object[]> results = channelRepository.findVisibleChannelsWithUnreadByWorkspaceIdAndUserId(workspaceId, userId);
 
         // Object[] 파싱
         return results.stream()
-                .map(row -> ChannelResponse.of((Channel) row[0], (boolean) row[1], (boolean) row[2]))
+                .map(row -> {
+                    Channel channel = (Channel) row[0];
+                    boolean isMember = (boolean) row[2];
+                    boolean hasUnread = (boolean) row[1];
+                    long unreadCount = Math.max(((Number) row[4]).longValue(), 0);
+
+                    // 아직 DB에 반영되지 않은 읽음 위치가 있으면 그 값으로 판단
+                    // (마지막 메시지와 순번은 전송 시 바로 반영되지만 반영 전 읽음 위치의 순번은 모르므로, 끝까지 읽었을 때만 0)
+                    Long pendingLastReadId = readMarkerBuffer.getPending(channel.getId(), userId);
+                    if (isMember && pendingLastReadId != null) {
+                        hasUnread = isUnread(channel.getLastMessageId(), max((Long) row[3], pendingLastReadId));
+                        if (!hasUnread) {
+                            unreadCount = 0;
+                        }
+                    }
+
+                    return ChannelResponse.of(channel, hasUnread, unreadCount, isMember);
+                })
                 .toList();
     }
 
+    private boolean isUnread(Long lastMessageId, Long lastReadMessageId) {
+        return lastMessageId != null && (lastReadMessageId == null || lastReadMessageId < lastMessageId);
+    }
+
+    private Long max(Long a, Long b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return Math.max(a, b);
+    }
+
     /**
      * 채널 멤버 추가
      */
@@ -119,6 +162,9 @@ public class ChannelService {
                 .user(user)
                 .role(ChannelMember.ChannelRole.MEMBER)
                 .build());
+
+        // 안 읽은 요약에 새 채널이 포함되도록 다시 만든다
+        unreadSummaryStore.evictUser(user.getId());
     }
 
     /**
@@ -175,5 +221,14 @@ public class ChannelService {
 
         // 채널 삭제(관련 데이터 모두 삭제)
         channelRepository.delete(channel);
+
+        // 멤버십 캐시, 안 읽은 요약, 최신 페이지 캐시 제거
+        channelMembershipCache.evictChannel(channelId);
+        unreadSummaryStore.evictChannels(List.of(channelId));
+        recentMessageCache.evictChannels(List.of(channelId));
+        sharedRecentMessageCache.evictChannels(List.of(channelId));
+
+        // 검색 인덱스 등 채널 단위로 정리 (커밋 이후)
+        eventPublisher.publishEvent(new ChannelsDeletedEvent(List.of(channelId)));
     }
 }
@@ -0,0 +1,124 @@
+package com.pulsespace.backend.service;
+
+import com.pulsespace.backend.cache.ChannelMembershipCache;
+import com.pulsespace.backend.cache.UserProfileCache;
+import com.pulsespace.backend.dto.response.MessageResponse;
+import com.pulsespace.backend.exception.BusinessException;
+import com.pulsespace.backend.exception.ErrorCode;
+import com.pulsespace.backend.repository.MessageCursorReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 채널 메시지 내보내기 (JSON Lines, 선택적으로 gzip)
+ * DB 커서에서 읽은 행을 바로 응답 스트림에 쓰므로 메모리는 일정하고,
+ * 소켓이 막히면 write가 블록되어 커서 읽기도 같이 멈춘다 (backpressure).
+ * 줄마다 메시지 ID가 있으므로 끊기면 마지막 ID를 afterId로 다시 요청하면 된다.
+ */
+@Slf4j
+@Service
+public class MessageExportService {
+
+    private static final int FLUSH_INTERVAL_ROWS = 1000;
+
+    private final MessageCursorReader messageCursorReader;
+    private final ChannelMembershipCache channelMembershipCache;
+    private final UserProfileCache userProfileCache;
+    private final ObjectWriter lineWriter;
+    private final Semaphore permits;
+
+    public MessageExportService(
+            MessageCursorReader messageCursorReader,
+            ChannelMembershipCache channelMembershipCache,
+            UserProfileCache userProfileCache,
+            JsonMapper jsonMapper,
+            @Value("${pulsespace.message.export.max-concurrent:2}") int maxConcurrent) {
+        this.messageCursorReader = messageCursorReader;
+        this.channelMembershipCache = channelMembershipCache;
+        this.userProfileCache = userProfileCache;
+        this.lineWriter = jsonMapper.writerFor(MessageResponse.class);
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 내보내기 시작 (스트리밍 전, 응답이 커밋되기 전에 호출)
+     * 권한 확인 후 동시 내보내기 자리를 잡는다. 넘으면 EXPORT_BUSY (긴 읽기 트랜잭션이 커넥션을 오래 잡으므로)
+     * 잡은 자리는 export()가 끝날 때 반납되며, 스트리밍이 시작되지 못한 경우(타임아웃, 연결 끊김)를 위해
+     * 호출자도 비동기 요청 완료 시 release()를 불러야 한다 (여러 번 불러도 한 번만 반납).
+     */
+    public Permit begin(Long userId, Long channelId) {
+        if (!channelMembershipCache.isMember(channelId, userId)) {
+            throw new BusinessException(ErrorCode.NOT_MEMBER);
+        }
+        if (!permits.tryAcquire()) {
+            throw new BusinessException(ErrorCode.EXPORT_BUSY);
+        }
+        return new Permit();
+    }
+
+    /**
+     * afterId 이후 메시지를 ID 오름차순 JSON Lines로 기록
+     */
+    public void export(Permit permit, Long channelId, long afterId, boolean gzip, OutputStream out) throws IOException {
+        long startTime = System.currentTimeMillis();
+        long[] written = {0};
+        try {
+            OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024) : out;
+
+            messageCursorReader.forEachInChannel(channelId, afterId, row -> {
+                String senderName = userProfileCache.getNames(Set.of(row.senderId())).get(row.senderId());
+                try {
+                    target.write(lineWriter.writeValueAsBytes(MessageResponse.from(row, senderName, null)));
+                    target.write('\n');
+                    if (++written[0] % FLUSH_INTERVAL_ROWS == 0) {
+                        target.flush();
+                    }
+                } catch (IOException e) {
+                    // 클라이언트 연결 끊김 → 커서 중단
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            if (target instanceof GZIPOutputStream gzipStream) {
+                gzipStream.finish();
+            }
+            target.flush();
+
+            log.info("message_export_completed channelId={} afterId={} rows={} duration_ms={}",
+                    channelId, afterId, written[0], System.currentTimeMillis() - startTime);
+        } catch (UncheckedIOException e) {
+            log.info("message_export_aborted channelId={} afterId={} rows={}", channelId, afterId, written[0]);
+            throw e.getCause();
+        } finally {
+            permit.release();
+        }
+    }
+
+    /**
+     * 동시 내보내기 자리 (한 번만 반납)
+     */
+    public final class Permit {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit() {
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+}
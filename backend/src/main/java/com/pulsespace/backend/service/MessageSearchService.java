@@ -0,0 +1,150 @@
+package com.pulsespace.backend.service;
+
+import com.pulsespace.backend.cache.ChannelMembershipCache;
+import com.pulsespace.backend.cache.UserProfileCache;
+import com.pulsespace.backend.dto.response.MessageResponse;
+import com.pulsespace.backend.dto.response.MessageSearchResponse;
+import com.pulsespace.backend.exception.BusinessException;
+import com.pulsespace.backend.exception.ErrorCode;
+import com.pulsespace.backend.repository.MessageSearchHit;
+import com.pulsespace.backend.repository.MessageSearchRepository;
+import com.pulsespace.backend.search.LuceneMessageIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메시지 전문 검색 (PostgreSQL tsvector + GIN, engine=lucene이면 내장 Lucene 인덱스 우선)
+ * 사용자가 속한 채널만 검색하며, 결과는 순위 → ID 내림차순 keyset 페이지
+ * 커서는 "순위:ID" 문자열로 클라이언트가 그대로 돌려준다.
+ * Lucene 인덱스가 준비 전이거나 실패하면 PostgreSQL로 처리한다.
+ */
+@Slf4j
+@Service
+public class MessageSearchService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    // 인덱스 계획이 깨졌는지 바로 보이도록 느린 검색은 따로 기록
+    private static final long SLOW_QUERY_MS = 500;
+
+    private final MessageSearchRepository messageSearchRepository;
+    private final ObjectProvider<LuceneMessageIndex> luceneMessageIndex;
+    private final ChannelMembershipCache channelMembershipCache;
+    private final UserProfileCache userProfileCache;
+    private final Timer postgresTimer;
+    private final Timer luceneTimer;
+
+    public MessageSearchService(
+            MessageSearchRepository messageSearchRepository,
+            ObjectProvider<LuceneMessageIndex> luceneMessageIndex,
+            ChannelMembershipCache channelMembershipCache,
+            UserProfileCache userProfileCache,
+            MeterRegistry meterRegistry) {
+        this.messageSearchRepository = messageSearchRepository;
+        this.luceneMessageIndex = luceneMessageIndex;
+        this.channelMembershipCache = channelMembershipCache;
+        this.userProfileCache = userProfileCache;
+        this.postgresTimer = queryTimer(meterRegistry, "postgres");
+        this.luceneTimer = queryTimer(meterRegistry, "lucene");
+    }
+
+    /**
+     * 메시지 검색
+     * channelId: 특정 채널로 제한 (없으면 속한 채널 전체), cursor: 이전 응답의 nextCursor
+     */
+    public MessageSearchResponse search(Long userId, String query, Long channelId, String cursor, Integer size) {
+        String trimmed = query != null ? query.strip() : "";
+        if (trimmed.isEmpty() || trimmed.length() > MAX_QUERY_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_SEARCH_REQUEST);
+        }
+
+        // 권한 체크 - 채널 멤버인지 (캐시)
+        if (channelId != null && !channelMembershipCache.isMember(channelId, userId)) {
+            throw new BusinessException(ErrorCode.NOT_MEMBER);
+        }
+
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Float afterRank = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            int separator = cursor.lastIndexOf(':');
+            try {
+                afterRank = Float.parseFloat(cursor.substring(0, separator));
+                afterId = Long.parseLong(cursor.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new BusinessException(ErrorCode.INVALID_SEARCH_REQUEST);
+            }
+        }
+
+        // 다음 페이지 존재 여부는 한 건 더 읽어서 판단
+        List<MessageSearchHit> hits = find(userId, channelId, trimmed, afterRank, afterId, pageSize + 1);
+
+        boolean hasNext = hits.size() > pageSize;
+        List<MessageSearchHit> page = hasNext ? hits.subList(0, pageSize) : hits;
+
+        Set<Long> senderIds = new HashSet<>();
+        page.forEach(hit -> senderIds.add(hit.row().senderId()));
+        Map<Long, String> senderNames = page.isEmpty() ? Map.of() : userProfileCache.getNames(senderIds);
+
+        List<MessageResponse> messages = page.stream()
+                .map(hit -> MessageResponse.from(hit.row(), senderNames.get(hit.row().senderId()), null))
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            MessageSearchHit last = page.get(page.size() - 1);
+            nextCursor = last.rank() + ":" + last.row().id();
+        }
+        return new MessageSearchResponse(messages, nextCursor);
+    }
+
+    private List<MessageSearchHit> find(Long userId, Long channelId, String query, Float afterRank, Long afterId, int limit) {
+        LuceneMessageIndex index = luceneMessageIndex.getIfAvailable();
+        if (index != null && index.isReady()) {
+            long startTime = System.nanoTime();
+            try {
+                return index.search(userId, channelId, query, afterRank, afterId, limit);
+            } catch (IOException | RuntimeException e) {
+                log.warn("message_search_lucene_failed userId={} message={}", userId, e.getMessage());
+            } finally {
+                record(luceneTimer, startTime, userId, channelId, query);
+            }
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            return messageSearchRepository.search(userId, channelId, query, afterRank, afterId, limit);
+        } finally {
+            record(postgresTimer, startTime, userId, channelId, query);
+        }
+    }
+
+    private static void record(Timer timer, long startTime, Long userId, Long channelId, String query) {
+        long elapsedNanos = System.nanoTime() - startTime;
+        timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (elapsedNanos / 1_000_000 >= SLOW_QUERY_MS) {
+            log.warn("message_search_slow userId={} channelId={} query_length={} duration_ms={}",
+                    userId, channelId, query.length(), elapsedNanos / 1_000_000);
+        }
+    }
+
+    private static Timer queryTimer(MeterRegistry meterRegistry, String engine) {
+        return Timer.builder("pulsespace.search.query")
+                .description("메시지 검색 쿼리 시간")
+                .tag("engine", engine)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+}
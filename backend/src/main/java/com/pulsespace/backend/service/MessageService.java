@@ -1,98 +1,220 @@
 package com.pulsespace.backend.service;
 
-import com.pulsespace.backend.domain.channel.Channel;
-import com.pulsespace.backend.domain.channel.ChannelMember;
+import com.pulsespace.backend.cache.ChannelMembershipCache;
+import com.pulsespace.backend.cache.ChannelPageVersions;
+import com.pulsespace.backend.cache.ReadMarkerBuffer;
+import com.pulsespace.backend.cache.RecentMessageCache;
+import com.pulsespace.backend.cache.SharedRecentMessageCache;
+import com.pulsespace.backend.cache.UnreadSummaryStore;
+import com.pulsespace.backend.cache.UserProfileCache;
 import com.pulsespace.backend.domain.message.Message;
-import com.pulsespace.backend.domain.user.User;
+import com.pulsespace.backend.domain.message.MessageChangedEvent;
+import com.pulsespace.backend.dto.response.MessageResponse;
+import com.pulsespace.backend.dto.response.ReplyPreviewResponse;
 import com.pulsespace.backend.exception.BusinessException;
 import com.pulsespace.backend.exception.ErrorCode;
-import com.pulsespace.backend.repository.ChannelMemberRepository;
-import com.pulsespace.backend.repository.ChannelRepository;
+import com.pulsespace.backend.messaging.UnreadDeltaPublisher;
+import com.pulsespace.backend.repository.ChannelSequenceRepository;
 import com.pulsespace.backend.repository.MessageRepository;
-import com.pulsespace.backend.repository.UserRepository;
+import com.pulsespace.backend.repository.MessageRow;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class MessageService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final MessageRepository messageRepository;
-    private final ChannelRepository channelRepository;
-    private final ChannelMemberRepository channelMemberRepository;
-    private final UserRepository userRepository;
+    private final ChannelSequenceRepository channelSequenceRepository;
+    private final ChannelMembershipCache channelMembershipCache;
+    private final UserProfileCache userProfileCache;
+    private final ReadMarkerBuffer readMarkerBuffer;
+    private final UnreadSummaryStore unreadSummaryStore;
+    private final UnreadDeltaPublisher unreadDeltaPublisher;
+    private final RecentMessageCache recentMessageCache;
+    private final SharedRecentMessageCache sharedRecentMessageCache;
+    private final ChannelPageVersions channelPageVersions;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 메시지 전송
+     * 순번 할당 + 채널 마지막 메시지 갱신 + INSERT 를 한 문장으로 (채널 행 잠금은 그 문장부터 커밋까지)
      */
     @Transactional
-    public Message sendMessage(Long userId, Long channelId, String content, Long replyToId) {
-        // 권한 체크 - 채널 멤버인지
-        if (!channelMemberRepository.existsByChannelIdAndUserId(channelId, userId)) {
+    public MessageResponse sendMessage(Long userId, Long channelId, String content, Long replyToId) {
+        // 권한 체크 - 채널 멤버인지 (캐시)
+        if (!channelMembershipCache.isMember(channelId, userId)) {
             throw new BusinessException(ErrorCode.NOT_MEMBER);
         }
 
-        // User, Channel 찾기
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        // 메시지 저장 (작성 시간은 @CreationTimestamp처럼 저장 시점)
+        LocalDateTime createdAt = LocalDateTime.now();
+        ChannelSequenceRepository.Appended appended =
+                channelSequenceRepository.append(channelId, userId, content, replyToId, createdAt);
 
-        Channel channel = channelRepository.findById(channelId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CHANNEL_NOT_FOUND));
+        MessageResponse response = new MessageResponse(
+                appended.id(),
+                channelId,
+                userId,
+                userProfileCache.getName(userId),
+                content,
+                replyToId,
+                createdAt,
+                null,
+                null,
+                false,
+                "CREATED"
+        );
 
-        // Message 생성
-        Message message = Message.builder()
-                .channel(channel)
-                .sender(user)
-                .content(content)
-                .replyToId(replyToId)  // null 가능
-                .build();
+        // 커밋 이후 최신 페이지 캐시 반영
+        eventPublisher.publishEvent(new MessageChangedEvent(channelId, response, appended.seq()));
 
-        // 메시지 저장
-        messageRepository.save(message);
+        return response;
+    }
 
-        // 저장 후 ID 업데이트
-        channel.updateLastMessageId(message.getId());
+    /**
+     * 채널의 메시지 50개 조회(커서기반 페이지네이션)
+     */
+    @Transactional(readOnly = true)
+    public List<MessageResponse> getChannelMessages(Long userId, Long channelId, Long cursorId) {
+        return getChannelMessages(userId, channelId, cursorId, null, null, null);
+    }
 
-        return message;
+    /**
+     * 채널 메시지 페이지 조회 (항상 ID 내림차순)
+     * cursorId: 이전 메시지, afterId: 이후 메시지, aroundId: 해당 메시지 포함 앞뒤 창, 모두 없으면 최신
+     * 각 방향은 idx_message_channel_id (channel_id, id DESC) 범위 스캔 한 번으로 끝난다.
+     * 커서 없는 첫 페이지는 최신 메시지 캐시(로컬 → Redis 공유)에서 SQL 없이 응답
+     * 답장 미리보기는 캐시에 넣지 않고 응답 직전에 페이지 단위로 붙인다 (원본 수정/삭제 시 낡지 않도록)
+     */
+    @Transactional(readOnly = true)
+    public List<MessageResponse> getChannelMessages(Long userId, Long channelId, Long cursorId, Long afterId, Long aroundId, Integer size) {
+        // 권한 체크 - 채널 멤버인지 (캐시)
+        if (!channelMembershipCache.isMember(channelId, userId)) {
+            throw new BusinessException(ErrorCode.NOT_MEMBER);
+        }
+
+        // 기준은 하나만
+        if ((cursorId != null ? 1 : 0) + (afterId != null ? 1 : 0) + (aroundId != null ? 1 : 0) > 1) {
+            throw new BusinessException(ErrorCode.INVALID_PAGE_REQUEST);
+        }
+
+        int pageSize = clampPageSize(size);
+
+        // 이전 페이지 (더 보기)
+        if (cursorId != null) {
+            return withReplyPreviews(channelId, toResponses(messageRepository.findRowsByChannelIdAndIdLessThan(channelId, cursorId, PageRequest.of(0, pageSize)), null));
+        }
+
+        // 이후 페이지 (점프 후 아래로 스크롤), 오름차순으로 읽어 뒤집음
+        if (afterId != null) {
+            return withReplyPreviews(channelId, newestFirst(messageRepository.findRowsByChannelIdAndIdGreaterThan(channelId, afterId, PageRequest.of(0, pageSize))));
+        }
+
+        // 특정 메시지 주변 (첫 안 읽은 메시지, 답장 대상으로 이동)
+        if (aroundId != null) {
+            int newerSize = pageSize / 2;
+            List<MessageResponse> window = new ArrayList<>(pageSize);
+            if (newerSize > 0) {
+                window.addAll(newestFirst(messageRepository.findRowsByChannelIdAndIdGreaterThan(channelId, aroundId, PageRequest.of(0, newerSize))));
+            }
+            // aroundId 자신 포함 (id < aroundId + 1)
+            window.addAll(toResponses(messageRepository.findRowsByChannelIdAndIdLessThan(channelId, aroundId + 1, PageRequest.of(0, pageSize - newerSize)), null));
+            return withReplyPreviews(channelId, window);
+        }
+
+        // 캐시 페이지보다 크게 요청하면 DB
+        if (pageSize > RecentMessageCache.PAGE_SIZE) {
+            return withReplyPreviews(channelId, toResponses(messageRepository.findRowsByChannelId(channelId, PageRequest.of(0, pageSize)), null));
+        }
+
+        // 최신 페이지 (캐시)
+        List<MessageResponse> latest = recentMessageCache.getLatest(channelId, () -> sharedRecentMessageCache.getLatest(channelId, () -> toResponses(
+                messageRepository.findRowsByChannelId(channelId, PageRequest.of(0, RecentMessageCache.PAGE_SIZE)), null)));
+        return withReplyPreviews(channelId, latest.size() > pageSize ? latest.subList(0, pageSize) : latest);
     }
 
     /**
-     * 채널의 메시지 50개 조회(커서기반 페이지네이션)
+     * 메시지 페이지 ETag (DB 조회 없음, 비활성화 시 null)
+     * 채널 버전(마지막 메시지 ID + 수정/삭제 버전)과 조회 조건으로 만든다.
+     */
+    public String getPageTag(Long userId, Long channelId, Long cursorId, Long afterId, Long aroundId, Integer size) {
+        // 권한 체크 - 채널 멤버인지 (캐시)
+        if (!channelMembershipCache.isMember(channelId, userId)) {
+            throw new BusinessException(ErrorCode.NOT_MEMBER);
+        }
+
+        String version = channelPageVersions.getTag(channelId);
+        if (version == null) {
+            return null;
+        }
+        return "\"m" + channelId + "-" + version + "-" + cursorId + "-" + afterId + "-" + aroundId + "-" + clampPageSize(size) + "\"";
+    }
+
+    /**
+     * 특정 메시지 이후 메시지 조회 (재연결 동기화, 오름차순)
      */
     @Transactional(readOnly = true)
-    public List<Message> getChannelMessages(Long userId, Long channelId, Long cursorId) {
-        // 권한 체크
-        if (!channelMemberRepository.existsByChannelIdAndUserId(channelId, userId)) {
+    public List<MessageResponse> getMessagesAfter(Long userId, Long channelId, Long afterId, int size) {
+        // 권한 체크 - 채널 멤버인지 (캐시)
+        if (!channelMembershipCache.isMember(channelId, userId)) {
             throw new BusinessException(ErrorCode.NOT_MEMBER);
         }
 
-        // cursorId 없으면 최신 50개, 있으면 cursor 이전 50개
-        if (cursorId == null) {
-            return messageRepository.findTop50WithSenderByChannelId(channelId, PageRequest.of(0, 50));
-        } else {
-            return messageRepository.findTop50WithSenderByChannelIdAndIdLessThan(channelId, cursorId, PageRequest.of(0, 50));
+        return withReplyPreviews(channelId, toResponses(messageRepository.findRowsByChannelIdAndIdGreaterThan(channelId, afterId, PageRequest.of(0, size)), "CREATED"));
+    }
+
+    /**
+     * 특정 메시지 이후 메시지가 limit개를 넘는지 확인
+     * limit번째(0부터) 위치의 ID 하나만 조회하므로 COUNT 없이 인덱스 범위만 읽는다
+     */
+    @Transactional(readOnly = true)
+    public boolean hasMoreMessagesAfter(Long userId, Long channelId, Long afterId, int limit) {
+        // 권한 체크 - 채널 멤버인지 (캐시), 멤버가 아니면 DB를 읽지 않는다
+        if (!channelMembershipCache.isMember(channelId, userId)) {
+            throw new BusinessException(ErrorCode.NOT_MEMBER);
         }
+
+        return !messageRepository.findIdsByChannelIdAndIdGreaterThan(channelId, afterId, PageRequest.of(limit, 1)).isEmpty();
     }
 
     /**
      * 읽음 처리
+     * 읽음 위치는 앞으로만 이동하며, 병합 모드면 메모리에 모아 주기적으로 일괄 UPDATE
      */
     @Transactional
     public void markAsRead(Long userId, Long channelId, Long messageId) {
-        // ChannelMember 찾기
-        ChannelMember member = channelMemberRepository
-                .findByChannelIdAndUserId(channelId, userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_MEMBER));
+        // 권한 체크 - 채널 멤버인지 (캐시)
+        if (!channelMembershipCache.isMember(channelId, userId)) {
+            throw new BusinessException(ErrorCode.NOT_MEMBER);
+        }
 
-        // Entity의 메서드 호출
-        member.updateLastReadMessage(messageId);
+        // 이 채널의 메시지인지 (다른 채널/존재하지 않는 ID가 읽음 위치로 남지 않도록, 마지막 메시지면 조회 생략)
+        if (!unreadSummaryStore.isLastMessage(channelId, messageId)
+                && !messageRepository.existsByIdAndChannelId(messageId, channelId)) {
+            throw new BusinessException(ErrorCode.MESSAGE_NOT_FOUND);
+        }
+
+        readMarkerBuffer.mark(channelId, userId, messageId);
+        unreadSummaryStore.markRead(channelId, userId, messageId);
 
-        // 저장 (JPA 변경 감지)
-        channelMemberRepository.save(member);
+        // 다른 기기에도 읽음 반영 (사용자 단위로 모아서 전송)
+        unreadDeltaPublisher.markDirty(userId);
     }
 
     /**
@@ -117,6 +239,9 @@ public class MessageService {
         // 메시지 업데이트
         message.updateContent(content);
 
+        // 커밋 이후 최신 페이지 캐시 반영
+        eventPublisher.publishEvent(new MessageChangedEvent(message.getChannel().getId(), MessageResponse.of(message, "UPDATED")));
+
         return message;
     }
 
@@ -142,6 +267,82 @@ public class MessageService {
         // 메시지 삭제
         message.delete();
 
+        // 커밋 이후 최신 페이지 캐시 반영
+        eventPublisher.publishEvent(new MessageChangedEvent(message.getChannel().getId(), MessageResponse.of(message, "DELETED")));
+
         return message;
     }
-}
\ No newline at end of file
+
+    private static int clampPageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private List<MessageResponse> newestFirst(List<MessageRow> ascendingRows) {
+        List<MessageResponse> responses = new ArrayList<>(toResponses(ascendingRows, null));
+        Collections.reverse(responses);
+        return responses;
+    }
+
+    // 답장 미리보기도 페이지 단위로 한 번에: 같은 페이지 → 최신 페이지 캐시 → 남은 ID만 IN 쿼리 1회
+    private List<MessageResponse> withReplyPreviews(Long channelId, List<MessageResponse> page) {
+        Set<Long> replyToIds = new HashSet<>();
+        page.forEach(message -> {
+            if (message.getReplyToId() != null) {
+                replyToIds.add(message.getReplyToId());
+            }
+        });
+        if (replyToIds.isEmpty()) {
+            return page;
+        }
+
+        Map<Long, MessageResponse> targets = new HashMap<>();
+        collectReplyTargets(page, replyToIds, targets);
+        if (targets.size() < replyToIds.size()) {
+            collectReplyTargets(recentMessageCache.peek(channelId), replyToIds, targets);
+        }
+        if (targets.size() < replyToIds.size()) {
+            List<Long> missingIds = replyToIds.stream().filter(id -> !targets.containsKey(id)).toList();
+            toResponses(messageRepository.findRowsByChannelIdAndIdIn(channelId, missingIds), null)
+                    .forEach(target -> targets.put(target.getId(), target));
+        }
+
+        List<MessageResponse> responses = new ArrayList<>(page.size());
+        for (MessageResponse message : page) {
+            if (message.getReplyToId() == null) {
+                responses.add(message);
+                continue;
+            }
+            MessageResponse target = targets.get(message.getReplyToId());
+            responses.add(message.withReplyPreview(target != null
+                    ? ReplyPreviewResponse.of(target)
+                    : ReplyPreviewResponse.missing(message.getReplyToId())));
+        }
+        return responses;
+    }
+
+    private static void collectReplyTargets(List<MessageResponse> source, Set<Long> replyToIds, Map<Long, MessageResponse> targets) {
+        for (MessageResponse message : source) {
+            if (replyToIds.contains(message.getId())) {
+                targets.putIfAbsent(message.getId(), message);
+            }
+        }
+    }
+
+    // 발신자 이름은 페이지 단위로 한 번에 (캐시 미스만 IN 쿼리)
+    private List<MessageResponse> toResponses(List<MessageRow> rows, String type) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> senderIds = new HashSet<>();
+        rows.forEach(row -> senderIds.add(row.senderId()));
+        Map<Long, String> senderNames = userProfileCache.getNames(senderIds);
+
+        return rows.stream()
+                .map(row -> MessageResponse.from(row, senderNames.get(row.senderId()), type))
+                .toList();
+    }
+}
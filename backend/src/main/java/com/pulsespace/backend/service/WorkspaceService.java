@@ -1,18 +1,30 @@
 package com.pulsespace.backend.service;
 
+import com.pulsespace.backend.cache.ChannelMembershipCache;
+import com.pulsespace.backend.cache.ReadMarkerBuffer;
+import com.pulsespace.backend.cache.RecentMessageCache;
+import com.pulsespace.backend.cache.SharedRecentMessageCache;
+import com.pulsespace.backend.cache.UnreadSummaryStore;
 import com.pulsespace.backend.domain.channel.Channel;
+import com.pulsespace.backend.domain.channel.ChannelsDeletedEvent;
 import com.pulsespace.backend.domain.user.User;
 import com.pulsespace.backend.domain.workspace.Workspace;
 import com.pulsespace.backend.domain.workspace.WorkspaceMember;
+import com.pulsespace.backend.dto.response.UnreadSummaryResponse;
 import com.pulsespace.backend.dto.response.WorkspaceResponse;
 import com.pulsespace.backend.exception.BusinessException;
 import com.pulsespace.backend.exception.ErrorCode;
+import com.pulsespace.backend.messaging.UnreadDeltaPublisher;
 import com.pulsespace.backend.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +36,14 @@ public class WorkspaceService {
     private final ChannelRepository channelRepository;
     private final ChannelMemberRepository channelMemberRepository;
     private final MessageRepository messageRepository;
+    private final ChannelMembershipCache channelMembershipCache;
+    private final ReadMarkerBuffer readMarkerBuffer;
+    private final UnreadSummaryStore unreadSummaryStore;
+    private final RecentMessageCache recentMessageCache;
+    private final SharedRecentMessageCache sharedRecentMessageCache;
+    private final ChannelReadRepository channelReadRepository;
+    private final UnreadDeltaPublisher unreadDeltaPublisher;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 워크스페이스 생성
@@ -59,15 +79,96 @@ public class WorkspaceService {
      */
     @Transactional(readOnly = true)
     public List<WorkspaceResponse> getMyWorkspaces(Long userId) {
-        // 워크스페이스 목록 + hasUnread 조회
-        List<Object[]> results = workspaceRepository.findWorkspacesWithUnreadByUserId(userId);
+        // 메모리 요약이 있으면 unread 집계 쿼리 없이 응답 (워크스페이스 목록만 조회)
+        UnreadSummaryResponse summary = unreadSummaryStore.getSummary(userId);
+        if (summary != null) {
+            return workspaceMemberRepository.findByUserId(userId).stream()
+                    .map(member -> {
+                        long unreadCount = summary.getWorkspaces().getOrDefault(member.getWorkspace().getId(), 0L);
+                        return WorkspaceResponse.of(member.getWorkspace(), unreadCount > 0, unreadCount);
+                    })
+                    .toList();
+        }
+
+        // DB에 반영되지 않은 이 사용자의 읽음 위치가 있는 채널
+        Set<Long> pendingChannelIds = readMarkerBuffer.getPendingChannelIds(userId);
+
+        if (pendingChannelIds.isEmpty()) {
+            // 워크스페이스 목록 + 안 읽은 수 조회
+            List<Object[]> results = workspaceRepository.findWorkspacesWithUnreadByUserId(userId);
+
+            // Object[] 파싱
+            return results.stream()
+                    .map(row -> {
+                        long unreadCount = ((Number) row[1]).longValue();
+                        return WorkspaceResponse.of((Workspace) row[0], unreadCount > 0, unreadCount);
+                    })
+                    .toList();
+        }
+
+        // 대기 채널은 DB 집계에서 제외하고 메모리 값으로 따로 계산
+        List<Object[]> results = workspaceRepository.findWorkspacesWithUnreadByUserIdExcludingChannels(userId, pendingChannelIds);
+        Map<Long, Long> pendingUnreadCounts = countPendingUnread(userId, pendingChannelIds);
 
-        // Object[] 파싱
         return results.stream()
-                .map(row -> WorkspaceResponse.of((Workspace) row[0], (boolean) row[1]))
+                .map(row -> {
+                    Workspace workspace = (Workspace) row[0];
+                    long unreadCount = ((Number) row[1]).longValue() + pendingUnreadCounts.getOrDefault(workspace.getId(), 0L);
+                    return WorkspaceResponse.of(workspace, unreadCount > 0, unreadCount);
+                })
                 .toList();
     }
 
+    /**
+     * 대기 채널의 워크스페이스별 안 읽은 수
+     * 채널 순번은 전송 트랜잭션에서 바로 반영되므로 DB 값 그대로 쓰고,
+     * 반영 전 읽음 위치는 순번을 모르므로 끝까지 읽었을 때만 0으로 본다 (flush 후 정확한 값)
+     */
+    private Map<Long, Long> countPendingUnread(Long userId, Set<Long> channelIds) {
+        Map<Long, Long> unreadCounts = new HashMap<>();
+
+        // (channelId, workspaceId, lastMessageId, lastReadMessageId, lastMessageSeq, lastReadSeq)
+        for (Object[] row : channelMemberRepository.findReadStatesByUserIdAndChannelIdIn(userId, channelIds)) {
+            Long lastMessageId = (Long) row[2];
+            Long lastReadMessageId = max((Long) row[3], readMarkerBuffer.getPending((Long) row[0], userId));
+
+            if (lastMessageId != null && (lastReadMessageId == null || lastReadMessageId < lastMessageId)) {
+                long unreadCount = Math.max(seq((Long) row[4]) - seq((Long) row[5]), 0);
+                unreadCounts.merge((Long) row[1], unreadCount, Long::sum);
+            }
+        }
+        return unreadCounts;
+    }
+
+    private long seq(Long seq) {
+        return seq != null ? seq : 0;
+    }
+
+    private Long max(Long a, Long b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return Math.max(a, b);
+    }
+
+    /**
+     * 워크스페이스 전체 읽음 처리
+     * 채널마다 markAsRead 하지 않고 UPDATE 한 번으로 내 채널 읽음 위치를 마지막 메시지까지 옮긴 뒤
+     * 갱신된 안 읽은 요약을 반환하고, 다른 기기에는 변경분을 한 번만 보낸다.
+     */
+    @Transactional
+    public UnreadSummaryResponse markAllAsRead(Long userId, Long workspaceId) {
+        // 권한 체크 - 워크스페이스 멤버인지
+        if (!workspaceMemberRepository.existsByWorkspaceIdAndUserId(workspaceId, userId)) {
+            throw new BusinessException(ErrorCode.NOT_MEMBER);
+        }
+
+        Map<Long, Long> readSeqs = channelReadRepository.markWorkspaceRead(userId, workspaceId);
+        unreadSummaryStore.markReadSeqs(userId, readSeqs);
+        unreadDeltaPublisher.markDirty(userId);
+
+        return unreadSummaryStore.loadSummary(userId);
+    }
+
     /**
      * 워크스페이스 멤버 추가
      */
@@ -160,6 +261,15 @@ public class WorkspaceService {
 
         // 워크스페이스 삭제(관련 데이터 모두 삭제)
         workspaceRepository.delete(workspace);
+
+        // 멤버십 캐시, 안 읽은 요약, 최신 페이지 캐시 제거
+        channelMembershipCache.evictChannels(channelIds);
+        unreadSummaryStore.evictChannels(channelIds);
+        recentMessageCache.evictChannels(channelIds);
+        sharedRecentMessageCache.evictChannels(channelIds);
+
+        // 검색 인덱스 등 채널 단위로 정리 (커밋 이후)
+        eventPublisher.publishEvent(new ChannelsDeletedEvent(channelIds));
     }
 
     /**
@@ -0,0 +1,51 @@
+package com.pulsespace.backend.cache;
+
+import com.pulsespace.backend.repository.ChannelMemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChannelMembershipCacheTest {
+
+    @Mock
+    private ChannelMemberRepository channelMemberRepository;
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("채널 삭제 트랜잭션 중에는 캐시를 유지하고 커밋 이후에 비움")
+    void evictsAfterCommit() {
+        // given
+        ChannelMembershipCache cache = new ChannelMembershipCache(channelMemberRepository);
+        given(channelMemberRepository.existsByChannelIdAndUserId(1L, 7L)).willReturn(true, false);
+        cache.isMember(1L, 7L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when - 커밋 전 삭제 요청, 그 사이 다른 요청이 조회
+        cache.evictChannel(1L);
+        boolean beforeCommit = cache.isMember(1L, 7L);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        boolean afterCommit = cache.isMember(1L, 7L);
+
+        // then
+        assertThat(beforeCommit).isTrue();
+        assertThat(afterCommit).isFalse();
+        verify(channelMemberRepository, times(2)).existsByChannelIdAndUserId(1L, 7L);
+    }
+}
@@ -0,0 +1,49 @@
+package com.pulsespace.backend.cache;
+
+import com.pulsespace.backend.domain.message.MessageChangedEvent;
+import com.pulsespace.backend.dto.response.MessageResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChannelPageVersionsTest {
+
+    private final ChannelPageVersions versions = new ChannelPageVersions(true, "local");
+
+    @Test
+    @DisplayName("변경이 없으면 같은 태그")
+    void stableWithoutChanges() {
+        assertThat(versions.getTag(1L)).isEqualTo(versions.getTag(1L));
+    }
+
+    @Test
+    @DisplayName("전송, 수정, 삭제마다 태그가 바뀜")
+    void changesOnEveryEvent() {
+        // given
+        String initial = versions.getTag(1L);
+
+        // when
+        versions.onMessageChanged(event(10L, "CREATED"));
+        String afterSend = versions.getTag(1L);
+        versions.onMessageChanged(event(5L, "UPDATED"));
+        String afterUpdate = versions.getTag(1L);
+        versions.onMessageChanged(event(5L, "DELETED"));
+        String afterDelete = versions.getTag(1L);
+
+        // then
+        assertThat(afterSend).isNotEqualTo(initial);
+        assertThat(afterUpdate).isNotEqualTo(afterSend);
+        assertThat(afterDelete).isNotEqualTo(afterUpdate);
+    }
+
+    @Test
+    @DisplayName("클러스터 모드에서는 비활성화")
+    void disabledInCluster() {
+        assertThat(new ChannelPageVersions(true, "redis").getTag(1L)).isNull();
+    }
+
+    private static MessageChangedEvent event(Long messageId, String type) {
+        return new MessageChangedEvent(1L, new MessageResponse(messageId, 1L, 1L, "홍길동", "내용", null, null, null, null, false, type));
+    }
+}
@@ -0,0 +1,49 @@
+package com.pulsespace.backend.cache;
+
+import com.pulsespace.backend.dto.response.MessageResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MessageResponseCodecTest {
+
+    @Test
+    @DisplayName("인코딩 후 디코딩하면 type을 제외한 모든 필드가 같다")
+    void roundTrip() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2026, 3, 1, 9, 30, 15, 123_456_789);
+        MessageResponse message = new MessageResponse(10L, 1L, 2L, "홍길동", "안녕하세요 👋", 7L,
+                createdAt, createdAt.plusMinutes(1), createdAt.plusMinutes(2), true, "DELETED");
+
+        // when
+        MessageResponse decoded = MessageResponseCodec.decode(MessageResponseCodec.encode(message));
+
+        // then
+        assertThat(decoded).usingRecursiveComparison().ignoringFields("type").isEqualTo(message);
+        assertThat(decoded.getType()).isNull();
+    }
+
+    @Test
+    @DisplayName("null 필드는 공간을 차지하지 않는다")
+    void omitsNullFields() {
+        // given
+        MessageResponse message = new MessageResponse(10L, 1L, 2L, null, null, null, null, null, null, false, null);
+
+        // when
+        byte[] encoded = MessageResponseCodec.encode(message);
+
+        // then
+        assertThat(encoded).hasSize(2 + Long.BYTES * 3);
+        assertThat(MessageResponseCodec.decode(encoded)).usingRecursiveComparison().isEqualTo(message);
+    }
+
+    @Test
+    @DisplayName("형식이 다르면 null")
+    void rejectsUnknownFormat() {
+        assertThat(MessageResponseCodec.decode(new byte[]{9, 0})).isNull();
+        assertThat(MessageResponseCodec.decode(new byte[]{1, 0, 1})).isNull();
+    }
+}
@@ -0,0 +1,86 @@
+package com.pulsespace.backend.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReadMarkerBufferTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ReadMarkerBuffer buffer(boolean coalesce) {
+        return new ReadMarkerBuffer(jdbcTemplate, new SimpleMeterRegistry(), coalesce);
+    }
+
+    @Test
+    @DisplayName("병합 모드: 같은 채널의 읽음 요청은 최대값 하나로 모아 한 번에 UPDATE")
+    @SuppressWarnings("unchecked")
+    void mergesToMaxAndFlushesOnce() {
+        // given
+        ReadMarkerBuffer buffer = buffer(true);
+        for (long messageId = 1; messageId <= 100; messageId++) {
+            buffer.mark(1L, 7L, messageId);
+        }
+        buffer.mark(1L, 7L, 50L); // 뒤로 가는 요청은 무시
+        buffer.mark(2L, 7L, 3L);
+
+        // when
+        assertThat(buffer.getPending(1L, 7L)).isEqualTo(100L);
+        buffer.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), args.capture());
+        assertThat(args.getValue()).hasSize(2)
+                .anySatisfy(row -> assertThat(row).containsExactly(100L, 1L, 7L));
+        assertThat(buffer.getPendingChannelIds(7L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반영 중 더 큰 값이 들어오면 제거하지 않고 다음 flush에 반영")
+    void keepsNewerValueDuringFlush() {
+        // given
+        ReadMarkerBuffer buffer = buffer(true);
+        buffer.mark(1L, 7L, 10L);
+        willAnswer(invocation -> {
+            buffer.mark(1L, 7L, 20L);
+            return new int[]{1};
+        }).given(jdbcTemplate).batchUpdate(anyString(), anyList());
+
+        // when
+        buffer.flush();
+
+        // then
+        assertThat(buffer.getPending(1L, 7L)).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("즉시 모드: 조건부 UPDATE 한 번 (SELECT 없음)")
+    void updatesImmediately() {
+        // given
+        ReadMarkerBuffer buffer = buffer(false);
+
+        // when
+        buffer.mark(1L, 7L, 10L);
+
+        // then
+        verify(jdbcTemplate).update(anyString(), eq(10L), eq(1L), eq(7L));
+        assertThat(buffer.getPending(1L, 7L)).isNull();
+    }
+}
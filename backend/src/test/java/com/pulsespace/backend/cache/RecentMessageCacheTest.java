@@ -0,0 +1,131 @@
+package com.pulsespace.backend.cache;
+
+import com.pulsespace.backend.domain.message.MessageChangedEvent;
+import com.pulsespace.backend.dto.response.MessageResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecentMessageCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RecentMessageCache cache = new RecentMessageCache(meterRegistry, true, false, 64 * 1024 * 1024);
+
+    @Test
+    @DisplayName("두 번째 조회부터 loader 없이 응답하고 적중률을 기록")
+    void servesFromCache() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        cache.getLatest(1L, () -> {
+            loads.incrementAndGet();
+            return List.of(row(2L, "CREATED"), row(1L, "CREATED"));
+        });
+        List<MessageResponse> result = cache.getLatest(1L, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(result).extracting(MessageResponse::getId).containsExactly(2L, 1L);
+        assertThat(meterRegistry.get("pulsespace.cache.recent_messages.hit_ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("공유(Redis) 캐시를 쓰면 노드별 캐시는 꺼짐")
+    void disabledWithSharedCache() {
+        // given
+        RecentMessageCache nodeCache = new RecentMessageCache(meterRegistry, true, true, 64 * 1024 * 1024);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        nodeCache.getLatest(1L, () -> {
+            loads.incrementAndGet();
+            return List.of(row(1L, "CREATED"));
+        });
+        nodeCache.getLatest(1L, () -> {
+            loads.incrementAndGet();
+            return List.of(row(1L, "CREATED"));
+        });
+
+        // then
+        assertThat(loads).hasValue(2);
+        assertThat(nodeCache.peek(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("새 메시지는 ID 순서 위치에 넣고 페이지 크기를 유지")
+    void insertsNewMessage() {
+        // given
+        List<MessageResponse> full = LongStream.iterate(100, id -> id - 1)
+                .limit(RecentMessageCache.PAGE_SIZE)
+                .mapToObj(id -> row(id, null))
+                .toList();
+        cache.getLatest(1L, () -> full);
+
+        // when
+        cache.onMessageChanged(new MessageChangedEvent(1L, row(101L, "CREATED")));
+
+        // then
+        List<MessageResponse> result = cache.getLatest(1L, List::of);
+        assertThat(result).hasSize(RecentMessageCache.PAGE_SIZE);
+        assertThat(result.get(0).getId()).isEqualTo(101L);
+        assertThat(result.get(0).getType()).isNull();
+        assertThat(result.get(RecentMessageCache.PAGE_SIZE - 1).getId()).isEqualTo(52L);
+    }
+
+    @Test
+    @DisplayName("수정/삭제는 같은 ID 행을 교체")
+    void replacesUpdatedMessage() {
+        // given
+        cache.getLatest(1L, () -> List.of(row(2L, null), row(1L, null)));
+        MessageResponse deleted = new MessageResponse(1L, 1L, 1L, "홍길동", "내용", null,
+                LocalDateTime.now(), null, LocalDateTime.now(), true, "DELETED");
+
+        // when
+        cache.onMessageChanged(new MessageChangedEvent(1L, deleted));
+
+        // then
+        List<MessageResponse> result = cache.getLatest(1L, List::of);
+        assertThat(result.get(1).getIsDeleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("삭제된 채널의 페이지만 제거")
+    void evictsDeletedChannels() {
+        // given
+        cache.getLatest(1L, () -> List.of(row(1L, "CREATED")));
+        cache.getLatest(2L, () -> List.of(row(2L, "CREATED")));
+
+        // when
+        cache.evictChannels(List.of(1L));
+
+        // then
+        assertThat(cache.peek(1L)).isEmpty();
+        assertThat(cache.peek(2L)).extracting(MessageResponse::getId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 채널의 변경은 무시")
+    void ignoresUncachedChannel() {
+        // when
+        cache.onMessageChanged(new MessageChangedEvent(2L, row(1L, "CREATED")));
+
+        // then
+        assertThat(cache.getLatest(2L, List::of)).isEmpty();
+    }
+
+    private static MessageResponse row(Long id, String type) {
+        return new MessageResponse(id, 1L, 1L, "홍길동", "내용 " + id, null,
+                LocalDateTime.now(), null, null, false, type);
+    }
+}
@@ -0,0 +1,194 @@
+package com.pulsespace.backend.cache;
+
+import com.pulsespace.backend.domain.message.MessageChangedEvent;
+import com.pulsespace.backend.dto.response.MessageResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SharedRecentMessageCacheTest {
+
+    private final InMemoryRecentPageStore store = new InMemoryRecentPageStore();
+    private final SharedRecentMessageCache cache = cacheOnNode();
+
+    @Test
+    @DisplayName("다른 노드가 채운 페이지를 DB 조회 없이 사용")
+    void sharesPageAcrossNodes() {
+        // given
+        SharedRecentMessageCache otherNode = cacheOnNode();
+        otherNode.getLatest(1L, () -> List.of(row(2L, null), row(1L, null)));
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        List<MessageResponse> result = cache.getLatest(1L, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        // then
+        assertThat(loads).hasValue(0);
+        assertThat(result).extracting(MessageResponse::getId).containsExactly(2L, 1L);
+        assertThat(result.get(0).getContent()).isEqualTo("내용 2");
+    }
+
+    @Test
+    @DisplayName("전송은 페이지 앞에 추가, 수정/삭제는 무효화")
+    void appliesChanges() {
+        // given
+        cache.getLatest(1L, () -> List.of(row(1L, null)));
+
+        // when
+        cache.onMessageChanged(new MessageChangedEvent(1L, row(2L, "CREATED")));
+
+        // then
+        assertThat(cache.getLatest(1L, List::of)).extracting(MessageResponse::getId).containsExactly(2L, 1L);
+
+        // when
+        cache.onMessageChanged(new MessageChangedEvent(1L, row(1L, "UPDATED")));
+
+        // then
+        assertThat(cache.getLatest(1L, List::of)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("DB 조회 중 다른 노드에서 전송이 있으면 오래된 페이지로 채우지 않음")
+    void skipsStaleFill() {
+        // when - 조회 도중 다른 노드의 전송이 커밋됨
+        cache.getLatest(1L, () -> {
+            cache.onMessageChanged(new MessageChangedEvent(1L, row(2L, "CREATED")));
+            return List.of(row(1L, null));
+        });
+
+        // then
+        assertThat(store.pages).doesNotContainKey(1L);
+    }
+
+    @Test
+    @DisplayName("채운 페이지에 이미 있는 메시지가 push되어도 한 번만 남음")
+    void dedupesPushedRow() {
+        // given - 조회로 채운 뒤 같은 메시지의 커밋 후 push가 도착
+        cache.getLatest(1L, () -> List.of(row(2L, null), row(1L, null)));
+
+        // when - type은 저장하지 않으므로 같은 행으로 인코딩된다
+        cache.onMessageChanged(new MessageChangedEvent(1L, row(2L, "CREATED")));
+
+        // then
+        assertThat(store.pages.get(1L)).hasSize(2);
+        assertThat(cache.getLatest(1L, List::of)).extracting(MessageResponse::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("같은 ID가 두 번 있는 페이지는 쓰지 않고 지운 뒤 DB 결과로 응답")
+    void discardsPageWithDuplicateIds() {
+        // given - 내용이 다른 같은 ID 행 (인코딩이 달라 push에서 걸러지지 않은 경우)
+        cache.getLatest(1L, () -> List.of(row(1L, null)));
+        MessageResponse edited = new MessageResponse(1L, 1L, 1L, "홍길동", "수정 전 전송", null,
+                LocalDateTime.of(2026, 1, 1, 12, 0), null, null, false, null);
+        store.push(1L, MessageResponseCodec.encode(edited), RecentMessageCache.PAGE_SIZE);
+
+        // when
+        List<MessageResponse> result = cache.getLatest(1L, () -> List.of(row(1L, null)));
+
+        // then
+        assertThat(result).extracting(MessageResponse::getId).containsExactly(1L);
+        assertThat(store.pages).doesNotContainKey(1L);
+    }
+
+    @Test
+    @DisplayName("커밋 후 push가 실패하면 페이지를 지워 새 메시지가 빠진 페이지가 남지 않음")
+    void invalidatesWhenPushFails() {
+        // given
+        cache.getLatest(1L, () -> List.of(row(1L, null)));
+        store.failPush = true;
+
+        // when
+        cache.onMessageChanged(new MessageChangedEvent(1L, row(2L, "CREATED")));
+
+        // then
+        assertThat(store.pages).doesNotContainKey(1L);
+    }
+
+    @Test
+    @DisplayName("삭제된 채널의 공유 페이지 제거")
+    void evictsDeletedChannels() {
+        // given
+        cache.getLatest(1L, () -> List.of(row(1L, null)));
+        cache.getLatest(2L, () -> List.of(row(2L, null)));
+
+        // when
+        cache.evictChannels(List.of(1L));
+
+        // then
+        assertThat(store.pages).doesNotContainKey(1L).containsKey(2L);
+    }
+
+    private SharedRecentMessageCache cacheOnNode() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("recentPageStore", store);
+        return new SharedRecentMessageCache(beanFactory.getBeanProvider(RecentPageStore.class), new SimpleMeterRegistry());
+    }
+
+    private static MessageResponse row(Long id, String type) {
+        return new MessageResponse(id, 1L, 1L, "홍길동", "내용 " + id, null,
+                LocalDateTime.of(2026, 1, 1, 12, 0), null, null, false, type);
+    }
+
+    /**
+     * RedisRecentPageStore의 Lua 스크립트와 같은 동작을 하는 메모리 구현
+     */
+    private static class InMemoryRecentPageStore implements RecentPageStore {
+
+        private final Map<Long, LinkedList<byte[]>> pages = new HashMap<>();
+        private final Map<Long, Long> versions = new HashMap<>();
+        private boolean failPush;
+
+        @Override
+        public synchronized Page read(Long channelId, int count) {
+            List<byte[]> rows = pages.getOrDefault(channelId, new LinkedList<>());
+            return new Page(versions.getOrDefault(channelId, 0L), new ArrayList<>(rows.subList(0, Math.min(count, rows.size()))));
+        }
+
+        @Override
+        public synchronized void push(Long channelId, byte[] row, int cap) {
+            if (failPush) {
+                throw new IllegalStateException("redis unavailable");
+            }
+            versions.merge(channelId, 1L, Long::sum);
+            LinkedList<byte[]> rows = pages.get(channelId);
+            if (rows != null) {
+                rows.removeIf(existing -> Arrays.equals(existing, row));
+                rows.addFirst(row);
+                while (rows.size() > cap) {
+                    rows.removeLast();
+                }
+            }
+        }
+
+        @Override
+        public synchronized boolean fill(Long channelId, long expectedVersion, List<byte[]> rows) {
+            if (rows.isEmpty() || versions.getOrDefault(channelId, 0L) != expectedVersion || pages.containsKey(channelId)) {
+                return false;
+            }
+            pages.put(channelId, new LinkedList<>(rows));
+            return true;
+        }
+
+        @Override
+        public synchronized void invalidate(Long channelId) {
+            versions.merge(channelId, 1L, Long::sum);
+            pages.remove(channelId);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.pulsespace.backend.cache;
+
+import com.pulsespace.backend.domain.channel.Channel;
+import com.pulsespace.backend.domain.channel.ChannelMember;
+import com.pulsespace.backend.domain.message.MessageChangedEvent;
+import com.pulsespace.backend.domain.user.User;
+import com.pulsespace.backend.domain.workspace.Workspace;
+import com.pulsespace.backend.domain.workspace.WorkspaceMember;
+import com.pulsespace.backend.dto.response.MessageResponse;
+import com.pulsespace.backend.dto.response.UnreadSummaryResponse;
+import com.pulsespace.backend.repository.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 PostgreSQL(local 프로필, localhost:5432)에서 무작위 전송/읽음/가입 이력을 만들고
+ * 메모리 요약을 워크스페이스/채널 unread 집계 쿼리와 비교, DB가 없으면 건너뜀 (테스트 데이터는 롤백)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.password=${DB_PASSWORD:}",
+        "jwt.secret=${JWT_SECRET:pulsespace-test-secret-pulsespace-test-secret-0123456789}",
+        "jwt.expiration=${JWT_EXPIRATION:3600000}",
+        "jwt.refresh-expiration=${JWT_REFRESH_EXPIRATION:1209600000}"
+})
+@ActiveProfiles("local")
+@EnabledIf("isDatabaseAvailable")
+@Transactional
+class UnreadSummaryStoreQueryTest {
+
+    private static final String URL = "jdbc:postgresql://localhost:5432/pulsespace";
+    private static final int USERS = 4;
+    private static final int WORKSPACES = 2;
+    private static final int CHANNELS = 6;
+    private static final int STEPS = 300;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private WorkspaceMemberRepository workspaceMemberRepository;
+
+    @Autowired
+    private ChannelRepository channelRepository;
+
+    @Autowired
+    private ChannelMemberRepository channelMemberRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private ChannelSequenceRepository channelSequenceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    static boolean isDatabaseAvailable() {
+        try (Connection ignored = DriverManager.getConnection(URL, "pulsespace", System.getenv().getOrDefault("DB_PASSWORD", ""))) {
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    @Test
+    @DisplayName("무작위 이력에서 메모리 요약이 실제 워크스페이스/채널 unread 집계 쿼리와 같음")
+    void matchesRepositoryQueries() {
+        // given - 사용자는 모든 워크스페이스 멤버, 채널 가입은 무작위
+        Random random = new Random(1);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(userRepository.save(User.builder()
+                    .email("unread-" + System.nanoTime() + "-" + i + "@test.com")
+                    .passwordHash("test123")
+                    .name("사용자" + i)
+                    .build()));
+        }
+        List<Workspace> workspaces = new ArrayList<>();
+        for (int i = 0; i < WORKSPACES; i++) {
+            Workspace workspace = workspaceRepository.save(Workspace.builder().name("워크스페이스" + i).owner(users.get(0)).build());
+            users.forEach(user -> workspaceMemberRepository.save(WorkspaceMember.builder()
+                    .workspace(workspace)
+                    .user(user)
+                    .role(WorkspaceMember.MemberRole.MEMBER)
+                    .build()));
+            workspaces.add(workspace);
+        }
+        List<Channel> channels = new ArrayList<>();
+        for (int i = 0; i < CHANNELS; i++) {
+            channels.add(channelRepository.save(Channel.builder()
+                    .workspace(workspaces.get(i % WORKSPACES))
+                    .name("채널" + i)
+                    .visibility(Channel.ChannelVisibility.PUBLIC)
+                    .build()));
+        }
+        Map<Long, List<Long>> memberships = new HashMap<>();
+        for (User user : users) {
+            memberships.put(user.getId(), new ArrayList<>());
+            for (Channel channel : channels) {
+                if (random.nextBoolean()) {
+                    join(user, channel, memberships);
+                }
+            }
+        }
+        channelMemberRepository.flush();
+
+        ReadMarkerBuffer readMarkerBuffer = new ReadMarkerBuffer(jdbcTemplate, new SimpleMeterRegistry(), false);
+        UnreadSummaryStore store = new UnreadSummaryStore(channelMemberRepository, messageRepository, readMarkerBuffer,
+                new SimpleMeterRegistry(), true, "local");
+        Map<Long, List<Long>> channelMessages = new HashMap<>();
+
+        for (int step = 0; step < STEPS; step++) {
+            // when
+            int action = random.nextInt(100);
+            User user = users.get(random.nextInt(USERS));
+            if (action < 50) {
+                // 전송 (실제 순번 할당 + INSERT 한 문장)
+                Channel channel = channels.get(random.nextInt(CHANNELS));
+                LocalDateTime createdAt = LocalDateTime.now();
+                ChannelSequenceRepository.Appended appended =
+                        channelSequenceRepository.append(channel.getId(), user.getId(), "메시지" + step, null, createdAt);
+                channelMessages.computeIfAbsent(channel.getId(), id -> new ArrayList<>()).add(appended.id());
+                MessageResponse response = new MessageResponse(appended.id(), channel.getId(), user.getId(), user.getName(),
+                        "메시지" + step, null, createdAt, null, null, false, "CREATED");
+                store.onMessageChanged(new MessageChangedEvent(channel.getId(), response, appended.seq()));
+            } else if (action < 85) {
+                // 읽음 (절반은 마지막 메시지, 나머지는 중간 위치)
+                List<Long> joined = memberships.get(user.getId());
+                if (joined.isEmpty()) {
+                    continue;
+                }
+                Long channelId = joined.get(random.nextInt(joined.size()));
+                List<Long> messages = channelMessages.getOrDefault(channelId, List.of());
+                if (messages.isEmpty()) {
+                    continue;
+                }
+                Long messageId = random.nextBoolean()
+                        ? messages.get(messages.size() - 1)
+                        : messages.get(random.nextInt(messages.size()));
+                readMarkerBuffer.mark(channelId, user.getId(), messageId);
+                store.markRead(channelId, user.getId(), messageId);
+            } else if (action < 92) {
+                Channel channel = channels.get(random.nextInt(CHANNELS));
+                if (!memberships.get(user.getId()).contains(channel.getId())) {
+                    join(user, channel, memberships);
+                    channelMemberRepository.flush();
+                    store.evictUser(user.getId());
+                }
+            } else {
+                store.evictUser(user.getId());
+            }
+
+            // then
+            Long userId = users.get(random.nextInt(USERS)).getId();
+            UnreadSummaryResponse summary = store.getSummary(userId);
+            assertThat(summary.getWorkspaces())
+                    .as("step=%d userId=%d", step, userId)
+                    .isEqualTo(workspaceUnreadCounts(userId));
+            assertThat(summary.getChannels())
+                    .as("step=%d userId=%d", step, userId)
+                    .isEqualTo(channelUnreadCounts(userId, workspaces));
+        }
+    }
+
+    private void join(User user, Channel channel, Map<Long, List<Long>> memberships) {
+        channelMemberRepository.save(ChannelMember.builder()
+                .channel(channel)
+                .user(user)
+                .role(ChannelMember.ChannelRole.MEMBER)
+                .build());
+        memberships.get(user.getId()).add(channel.getId());
+    }
+
+    // (Workspace, unreadCount) - 0은 요약에 없으므로 제외
+    private Map<Long, Long> workspaceUnreadCounts(Long userId) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : workspaceRepository.findWorkspacesWithUnreadByUserId(userId)) {
+            long unreadCount = ((Number) row[1]).longValue();
+            if (unreadCount > 0) {
+                counts.put(((Workspace) row[0]).getId(), unreadCount);
+            }
+        }
+        return counts;
+    }
+
+    // (Channel, hasUnread, isMember, lastReadMessageId, unreadCount) - 가입한 채널의 0 아닌 값만
+    private Map<Long, Long> channelUnreadCounts(Long userId, List<Workspace> workspaces) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Workspace workspace : workspaces) {
+            for (Object[] row : channelRepository.findVisibleChannelsWithUnreadByWorkspaceIdAndUserId(workspace.getId(), userId)) {
+                long unreadCount = ((Number) row[4]).longValue();
+                if ((boolean) row[2] && unreadCount > 0) {
+                    counts.put(((Channel) row[0]).getId(), unreadCount);
+                }
+            }
+        }
+        return counts;
+    }
+}
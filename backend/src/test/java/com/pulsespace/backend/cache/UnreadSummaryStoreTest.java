@@ -0,0 +1,298 @@
+package com.pulsespace.backend.cache;
+
+import com.pulsespace.backend.domain.message.MessageChangedEvent;
+import com.pulsespace.backend.dto.response.MessageResponse;
+import com.pulsespace.backend.dto.response.UnreadSummaryResponse;
+import com.pulsespace.backend.repository.ChannelMemberRepository;
+import com.pulsespace.backend.repository.MessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class UnreadSummaryStoreTest {
+
+    private static final int WORKSPACES = 3;
+    private static final int CHANNELS = 8;
+    private static final int USERS = 4;
+
+    @Mock
+    private ChannelMemberRepository channelMemberRepository;
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private ReadMarkerBuffer readMarkerBuffer;
+
+    private UnreadSummaryStore store(String relay) {
+        return new UnreadSummaryStore(channelMemberRepository, messageRepository,
+                readMarkerBuffer, new SimpleMeterRegistry(), true, relay);
+    }
+
+    @Test
+    @DisplayName("무작위 전송/읽음/가입/만료 이력에서 항상 워크스페이스 unread 집계 쿼리와 같은 결과")
+    void matchesQueryOnRandomHistories() {
+        Database[] current = new Database[1];
+        given(channelMemberRepository.findUnreadStatesByUserId(anyLong()))
+                .willAnswer(invocation -> current[0].unreadStates(invocation.getArgument(0)));
+        given(messageRepository.findSeqsByIdIn(anyCollection()))
+                .willAnswer(invocation -> current[0].seqs(invocation.getArgument(0)));
+
+        for (long seed = 1; seed <= 20; seed++) {
+            // given
+            Database db = new Database(new Random(seed));
+            current[0] = db;
+            UnreadSummaryStore store = store("local");
+            Random random = db.random;
+
+            for (int step = 0; step < 500; step++) {
+                // when
+                int action = random.nextInt(100);
+                if (action < 50) {
+                    db.send(store);
+                } else if (action < 85) {
+                    db.read(store);
+                } else if (action < 92) {
+                    db.join(store);
+                } else {
+                    store.evictUser(1L + random.nextInt(USERS));
+                }
+
+                // then
+                long userId = 1L + random.nextInt(USERS);
+                UnreadSummaryResponse summary = store.getSummary(userId);
+                assertThat(summary.getWorkspaces())
+                        .as("seed=%d step=%d userId=%d", seed, step, userId)
+                        .isEqualTo(db.workspaceUnreadCounts(userId));
+                assertThat(summary.getChannels())
+                        .as("seed=%d step=%d userId=%d", seed, step, userId)
+                        .isEqualTo(db.channelUnreadCounts(userId));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("여러 노드(relay=redis)에서는 비활성화")
+    void disabledWithClusterRelay() {
+        // given
+        UnreadSummaryStore store = store("redis");
+
+        // when
+        UnreadSummaryResponse summary = store.getSummary(1L);
+
+        // then
+        assertThat(summary).isNull();
+        verifyNoInteractions(channelMemberRepository);
+    }
+
+    @Test
+    @DisplayName("반영 전 읽음 위치는 재구성 시 메시지 순번으로 반영")
+    void appliesPendingReadMarkersOnRebuild() {
+        // given - 채널 10: 마지막 순번 5, DB 읽은 순번 1, 버퍼에 순번 4인 메시지(40) 읽음 대기
+        given(channelMemberRepository.findUnreadStatesByUserId(7L))
+                .willReturn(List.<Object[]>of(new Object[]{10L, 100L, 50L, 5L, 1L}));
+        given(readMarkerBuffer.getPendingChannelIds(7L)).willReturn(Set.of(10L));
+        given(readMarkerBuffer.getPending(10L, 7L)).willReturn(40L);
+        given(messageRepository.findSeqsByIdIn(anyCollection())).willReturn(List.<Object[]>of(new Object[]{40L, 10L, 4L}));
+
+        // when
+        UnreadSummaryResponse summary = store("local").getSummary(7L);
+
+        // then
+        assertThat(summary.getChannels()).containsExactly(Map.entry(10L, 1L));
+        assertThat(summary.getWorkspaces()).containsExactly(Map.entry(100L, 1L));
+    }
+
+    @Test
+    @DisplayName("채널별 알림 대상은 요약에 그 채널이 있는 사용자만, 요약이 빠지면 제외")
+    void indexesSummarizedUsersByChannel() {
+        // given - 사용자 7은 채널 10, 11 / 사용자 8은 요약 없음
+        given(channelMemberRepository.findUnreadStatesByUserId(7L)).willReturn(List.of(
+                new Object[]{10L, 100L, 50L, 5L, 1L},
+                new Object[]{11L, 100L, null, null, null}));
+        UnreadSummaryStore store = store("local");
+        store.getSummary(7L);
+
+        // when
+        List<Long> beforeEviction = store.getSummarizedUserIds(10L);
+        store.evictUser(7L);
+        List<Long> afterEviction = store.getSummarizedUserIds(10L);
+
+        // then
+        assertThat(beforeEviction).containsExactly(7L);
+        assertThat(store.getSummarizedUserIds(12L)).isEmpty();
+        assertThat(afterEviction).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 채널의 메시지로는 읽음 위치를 옮기지 않음")
+    void ignoresMessageFromOtherChannel() {
+        // given - 채널 10: 마지막 순번 5, 읽은 순번 1 / 메시지 90은 채널 20의 순번 9
+        given(channelMemberRepository.findUnreadStatesByUserId(7L))
+                .willReturn(List.<Object[]>of(new Object[]{10L, 100L, 50L, 5L, 1L}));
+        given(messageRepository.findSeqsByIdIn(anyCollection())).willReturn(List.<Object[]>of(new Object[]{90L, 20L, 9L}));
+        UnreadSummaryStore store = store("local");
+        store.getSummary(7L);
+
+        // when
+        store.markRead(10L, 7L, 90L);
+
+        // then
+        assertThat(store.getSummary(7L).getChannels()).containsExactly(Map.entry(10L, 4L));
+    }
+
+    @Test
+    @DisplayName("일괄 읽음 처리한 채널은 0으로, 다른 워크스페이스는 그대로")
+    void marksReadSeqsInBulk() {
+        // given - 워크스페이스 100: 채널 10(5/1), 11(3/0) / 워크스페이스 200: 채널 20(4/2)
+        given(channelMemberRepository.findUnreadStatesByUserId(7L)).willReturn(List.<Object[]>of(
+                new Object[]{10L, 100L, 50L, 5L, 1L},
+                new Object[]{11L, 100L, 30L, 3L, null},
+                new Object[]{20L, 200L, 40L, 4L, 2L}));
+        UnreadSummaryStore store = store("local");
+        store.getSummary(7L);
+
+        // when
+        store.markReadSeqs(7L, Map.of(10L, 5L, 11L, 3L));
+        UnreadSummaryResponse summary = store.getSummary(7L);
+
+        // then
+        assertThat(summary.getChannels()).containsExactly(Map.entry(20L, 2L));
+        assertThat(summary.getWorkspaces()).containsExactly(Map.entry(200L, 2L));
+    }
+
+    /**
+     * channels / channel_members / messages 테이블 모형 (즉시 반영 모드)
+     * 기대값은 WorkspaceRepository.findWorkspacesWithUnreadByUserId와 같은 식으로 계산한다.
+     */
+    private static class Database {
+
+        private final Random random;
+        private final long[] lastMessageIds = new long[CHANNELS + 1];
+        private final long[] lastMessageSeqs = new long[CHANNELS + 1];
+        private final Map<Long, List<Long>> channelMessages = new HashMap<>();
+        private final Map<Long, Long> messageSeqs = new HashMap<>();
+        private final Map<Long, Long> messageChannels = new HashMap<>();
+        // userId → (channelId → 읽은 메시지 ID, 순번)
+        private final Map<Long, Map<Long, long[]>> members = new HashMap<>();
+        private long nextMessageId = 1;
+
+        Database(Random random) {
+            this.random = random;
+            for (long userId = 1; userId <= USERS; userId++) {
+                Map<Long, long[]> channels = new HashMap<>();
+                for (long channelId = 1; channelId <= CHANNELS; channelId++) {
+                    if (random.nextBoolean()) {
+                        channels.put(channelId, new long[]{0, 0});
+                    }
+                }
+                members.put(userId, channels);
+            }
+        }
+
+        void send(UnreadSummaryStore store) {
+            long channelId = 1L + random.nextInt(CHANNELS);
+            long messageId = nextMessageId++;
+            long seq = ++lastMessageSeqs[(int) channelId];
+            lastMessageIds[(int) channelId] = messageId;
+            messageSeqs.put(messageId, seq);
+            messageChannels.put(messageId, channelId);
+            channelMessages.computeIfAbsent(channelId, id -> new ArrayList<>()).add(messageId);
+
+            MessageResponse response = new MessageResponse(messageId, channelId, 1L, "홍길동", "안녕하세요",
+                    null, LocalDateTime.now(), null, null, false, "CREATED");
+            store.onMessageChanged(new MessageChangedEvent(channelId, response, seq));
+        }
+
+        void read(UnreadSummaryStore store) {
+            long userId = 1L + random.nextInt(USERS);
+            List<Long> channelIds = new ArrayList<>(members.get(userId).keySet());
+            if (channelIds.isEmpty()) {
+                return;
+            }
+            long channelId = channelIds.get(random.nextInt(channelIds.size()));
+            List<Long> messages = channelMessages.getOrDefault(channelId, List.of());
+            if (messages.isEmpty()) {
+                return;
+            }
+            // 절반은 마지막 메시지, 나머지는 중간 위치
+            long messageId = random.nextBoolean()
+                    ? messages.get(messages.size() - 1)
+                    : messages.get(random.nextInt(messages.size()));
+
+            long[] marker = members.get(userId).get(channelId);
+            if (messageId > marker[0]) {
+                marker[0] = messageId;
+                marker[1] = messageSeqs.get(messageId);
+            }
+            store.markRead(channelId, userId, messageId);
+        }
+
+        void join(UnreadSummaryStore store) {
+            long userId = 1L + random.nextInt(USERS);
+            long channelId = 1L + random.nextInt(CHANNELS);
+            if (members.get(userId).putIfAbsent(channelId, new long[]{0, 0}) == null) {
+                store.evictUser(userId);
+            }
+        }
+
+        // (channelId, workspaceId, lastMessageId, lastMessageSeq, lastReadSeq)
+        List<Object[]> unreadStates(Long userId) {
+            List<Object[]> rows = new ArrayList<>();
+            members.get(userId).forEach((channelId, marker) -> rows.add(new Object[]{
+                    channelId,
+                    workspaceId(channelId),
+                    nullIfZero(lastMessageIds[channelId.intValue()]),
+                    nullIfZero(lastMessageSeqs[channelId.intValue()]),
+                    nullIfZero(marker[1])
+            }));
+            return rows;
+        }
+
+        // (id, channelId, seq)
+        List<Object[]> seqs(Collection<Long> messageIds) {
+            return messageIds.stream()
+                    .map(id -> new Object[]{id, messageChannels.get(id), messageSeqs.get(id)})
+                    .toList();
+        }
+
+        // SUM(c.lastMessageSeq - COALESCE(cm.lastReadSeq, 0)) WHERE c.lastMessageSeq > COALESCE(cm.lastReadSeq, 0)
+        Map<Long, Long> workspaceUnreadCounts(long userId) {
+            Map<Long, Long> counts = new HashMap<>();
+            channelUnreadCounts(userId).forEach((channelId, count) -> counts.merge(workspaceId(channelId), count, Long::sum));
+            return counts;
+        }
+
+        Map<Long, Long> channelUnreadCounts(long userId) {
+            Map<Long, Long> counts = new HashMap<>();
+            members.get(userId).forEach((channelId, marker) -> {
+                long unread = lastMessageSeqs[channelId.intValue()] - marker[1];
+                if (unread > 0) {
+                    counts.put(channelId, unread);
+                }
+            });
+            return counts;
+        }
+
+        private static Long workspaceId(Long channelId) {
+            return 100L + channelId % WORKSPACES;
+        }
+
+        private static Long nullIfZero(long value) {
+            return value == 0 ? null : value;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.pulsespace.backend.cache;
+
+import com.pulsespace.backend.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserProfileCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("캐시에 없는 ID만 IN 쿼리 한 번으로 조회")
+    void loadsMissesInOneQuery() {
+        // given
+        UserProfileCache cache = new UserProfileCache(userRepository, new SimpleMeterRegistry());
+        given(userRepository.findNameById(1L)).willReturn(Optional.of("홍길동"));
+        given(userRepository.findNamesByIdIn(anyCollection()))
+                .willReturn(List.of(new Object[]{2L, "김철수"}, new Object[]{3L, "이영희"}));
+        cache.getName(1L);
+
+        // when
+        Map<Long, String> result = cache.getNames(Set.of(1L, 2L, 3L));
+
+        // then
+        assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of(1L, "홍길동", 2L, "김철수", 3L, "이영희"));
+        verify(userRepository, times(1)).findNamesByIdIn(Set.of(2L, 3L));
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터 DB 없이 응답하고 적중률을 기록")
+    void servesFromCache() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UserProfileCache cache = new UserProfileCache(userRepository, meterRegistry);
+        given(userRepository.findNameById(1L)).willReturn(Optional.of("홍길동"));
+
+        // when
+        cache.getName(1L);
+        String name = cache.getName(1L);
+
+        // then
+        assertThat(name).isEqualTo("홍길동");
+        verify(userRepository, times(1)).findNameById(1L);
+        assertThat(meterRegistry.get("pulsespace.cache.user_profiles.hit_ratio").gauge().value()).isEqualTo(0.5);
+    }
+}
@@ -0,0 +1,104 @@
+package com.pulsespace.backend.config;
+
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.OrderedMessageChannelDecorator;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class WebSocketConfigTest {
+
+    @Test
+    @DisplayName("가상 스레드 모드에서만 세션별 수신 순서 보장 설정")
+    void preservesReceiveOrderWithVirtualThreads() {
+        // given
+        StompEndpointRegistry virtualRegistry = mock(StompEndpointRegistry.class, RETURNS_DEEP_STUBS);
+        StompEndpointRegistry platformRegistry = mock(StompEndpointRegistry.class, RETURNS_DEEP_STUBS);
+
+        // when
+        new WebSocketConfig(null, null, null, true).registerStompEndpoints(virtualRegistry);
+        new WebSocketConfig(null, null, null, false).registerStompEndpoints(platformRegistry);
+
+        // then
+        verify(virtualRegistry).setPreserveReceiveOrder(true);
+        verify(platformRegistry, never()).setPreserveReceiveOrder(true);
+    }
+
+    @Test
+    @DisplayName("가상 스레드 인바운드 채널에서도 세션별 처리 순서 유지")
+    void keepsPerSessionOrderOnVirtualThreads() throws InterruptedException {
+        // given - configureClientInboundChannel + setPreserveReceiveOrder(true)와 같은 구성
+        ExecutorSubscribableChannel inbound = new ExecutorSubscribableChannel(new VirtualThreadTaskExecutor("ws-inbound-"));
+        OrderedMessageChannelDecorator.configureInterceptor(inbound, true);
+
+        int sessions = 4;
+        int messagesPerSession = 200;
+        CountDownLatch done = new CountDownLatch(sessions * messagesPerSession);
+        Map<String, List<Integer>> handled = new ConcurrentHashMap<>();
+        inbound.subscribe(message -> {
+            // 처리 시간이 제각각이어도 같은 세션의 다음 메시지는 기다린다
+            sleepRandomly();
+            handled.computeIfAbsent(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()),
+                            id -> Collections.synchronizedList(new ArrayList<>()))
+                    .add((Integer) message.getPayload());
+            done.countDown();
+        });
+
+        // when
+        List<OrderedMessageChannelDecorator> sessionChannels = new ArrayList<>();
+        for (int s = 0; s < sessions; s++) {
+            sessionChannels.add(new OrderedMessageChannelDecorator(inbound, LogFactory.getLog(WebSocketConfigTest.class)));
+        }
+        for (int i = 0; i < messagesPerSession; i++) {
+            for (int s = 0; s < sessions; s++) {
+                sessionChannels.get(s).send(message("session-" + s, i));
+            }
+        }
+
+        // then
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < messagesPerSession; i++) {
+            expected.add(i);
+        }
+        for (int s = 0; s < sessions; s++) {
+            assertThat(handled.get("session-" + s)).containsExactlyElementsOf(expected);
+        }
+    }
+
+    private Message<Integer> message(String sessionId, int sequence) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(sequence, accessor.getMessageHeaders());
+    }
+
+    private static void sleepRandomly() {
+        try {
+            TimeUnit.MICROSECONDS.sleep(ThreadLocalRandom.current().nextInt(500));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.pulsespace.backend.messaging;
+
+import com.pulsespace.backend.exception.BusinessException;
+import com.pulsespace.backend.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChannelSequencerTest {
+
+    @Test
+    @DisplayName("같은 채널의 작업은 제출 순서대로 실행")
+    void preservesOrderPerChannel() throws InterruptedException {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ChannelSequencer sequencer = new ChannelSequencer(meterRegistry, true, 4, 1000);
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(100);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            int order = i;
+            sequencer.submit(1L, () -> {
+                executed.add(order);
+                latch.countDown();
+                return null;
+            });
+        }
+
+        // then
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).isSorted().hasSize(100);
+        assertThat(meterRegistry.get("pulsespace.sequencer.workers").gauge().value()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("커밋을 기다리는 채널이 있어도 다른 채널은 바로 실행")
+    void blockedChannelDoesNotDelayOthers() throws Exception {
+        // given
+        ChannelSequencer sequencer = new ChannelSequencer(new SimpleMeterRegistry(), true, 2, 1000);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<String> blocked = sequencer.submit(1L, () -> {
+            await(commit);
+            return "channel-1";
+        });
+
+        // when
+        CompletableFuture<String> other = sequencer.submit(2L, () -> "channel-2");
+
+        // then
+        assertThat(other.get(1, TimeUnit.SECONDS)).isEqualTo("channel-2");
+        assertThat(blocked).isNotDone();
+        commit.countDown();
+        assertThat(blocked.get(1, TimeUnit.SECONDS)).isEqualTo("channel-1");
+    }
+
+    @Test
+    @DisplayName("작업 예외는 future로 전달되고 다음 작업은 계속 실행")
+    void propagatesFailure() throws Exception {
+        // given
+        ChannelSequencer sequencer = new ChannelSequencer(new SimpleMeterRegistry(), true, 2, 1000);
+
+        // when
+        CompletableFuture<Object> failed = sequencer.submit(1L, () -> {
+            throw new BusinessException(ErrorCode.NOT_MEMBER);
+        });
+        CompletableFuture<String> next = sequencer.submit(1L, () -> "next");
+
+        // then
+        assertThatThrownBy(() -> failed.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(BusinessException.class);
+        assertThat(next.get(1, TimeUnit.SECONDS)).isEqualTo("next");
+    }
+
+    @Test
+    @DisplayName("대기 작업이 가득 차면 MESSAGE_QUEUE_FULL")
+    void rejectsWhenFull() {
+        // given
+        ChannelSequencer sequencer = new ChannelSequencer(new SimpleMeterRegistry(), true, 1, 1);
+        CountDownLatch commit = new CountDownLatch(1);
+        sequencer.submit(1L, () -> {
+            await(commit);
+            return null;
+        });
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> sequencer.submit(2L, () -> null))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.MESSAGE_QUEUE_FULL);
+        } finally {
+            commit.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("비활성화 시 호출 스레드에서 바로 실행")
+    void runsInlineWhenDisabled() {
+        // given
+        ChannelSequencer sequencer = new ChannelSequencer(new SimpleMeterRegistry(), false, 4, 1000);
+        Thread caller = Thread.currentThread();
+        List<Thread> threads = new ArrayList<>();
+
+        // when
+        CompletableFuture<Boolean> result = sequencer.submit(1L, () -> threads.add(Thread.currentThread()));
+
+        // then
+        assertThat(threads).containsExactly(caller);
+        assertThat(result).isCompletedWithValue(true);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
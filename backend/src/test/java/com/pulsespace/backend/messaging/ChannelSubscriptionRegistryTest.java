@@ -0,0 +1,165 @@
+package com.pulsespace.backend.messaging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MultiValueMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChannelSubscriptionRegistryTest {
+
+    private final ChannelSubscriptionRegistry registry = new ChannelSubscriptionRegistry();
+
+    @Test
+    @DisplayName("채널 구독자 조회")
+    void findsChannelSubscribers() {
+        // given
+        registry.registerSubscription(subscribe("session-1", "sub-1", "/topic/channels/1"));
+        registry.registerSubscription(subscribe("session-2", "sub-7", "/topic/channels/1"));
+        registry.registerSubscription(subscribe("session-3", "sub-1", "/topic/channels/2"));
+
+        // when
+        MultiValueMap<String, String> result = registry.findSubscriptions(send("/topic/channels/1"));
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(result.get("session-1")).containsExactly("sub-1");
+        assertThat(result.get("session-2")).containsExactly("sub-7");
+    }
+
+    @Test
+    @DisplayName("구독 변경이 없으면 같은 조회 결과를 재사용 (할당 없음)")
+    void reusesLookupResult() {
+        // given
+        registry.registerSubscription(subscribe("session-1", "sub-1", "/topic/channels/1"));
+
+        // when & then
+        assertThat(registry.findSubscriptions(send("/topic/channels/1")))
+                .isSameAs(registry.findSubscriptions(send("/topic/channels/1")));
+    }
+
+    @Test
+    @DisplayName("구독 추가/해제는 채널 전체를 다시 만들지 않고 같은 조회 결과에 바로 반영")
+    void updatesInPlace() {
+        // given
+        registry.registerSubscription(subscribe("session-1", "sub-1", "/topic/channels/1"));
+        MultiValueMap<String, String> view = registry.findSubscriptions(send("/topic/channels/1"));
+
+        // when
+        registry.registerSubscription(subscribe("session-2", "sub-1", "/topic/channels/1"));
+        registry.registerSubscription(subscribe("session-2", "sub-2", "/topic/channels/1"));
+        registry.unregisterSubscription(unsubscribe("session-1", "sub-1"));
+
+        // then
+        assertThat(registry.findSubscriptions(send("/topic/channels/1"))).isSameAs(view);
+        assertThat(view).containsOnlyKeys("session-2");
+        assertThat(view.get("session-2")).containsExactly("sub-1", "sub-2");
+        assertThat(registry.getSubscriberCount(1L)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("selector 헤더가 있는 채널 구독은 selector와 일치하는 메시지에만 포함")
+    void appliesSelector() {
+        // given
+        registry.registerSubscription(subscribe("session-1", "sub-1", "/topic/channels/1"));
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId("session-2");
+        accessor.setSubscriptionId("sub-1");
+        accessor.setDestination("/topic/channels/1");
+        accessor.setNativeHeader("selector", "headers['priority'] == 'high'");
+        registry.registerSubscription(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+
+        // when
+        MultiValueMap<String, String> normal = registry.findSubscriptions(send("/topic/channels/1"));
+        MultiValueMap<String, String> urgent = registry.findSubscriptions(send("/topic/channels/1", "high"));
+
+        // then
+        assertThat(normal).containsOnlyKeys("session-1");
+        assertThat(urgent).containsOnlyKeys("session-1", "session-2");
+
+        // 해제하면 selector 구독도 빠진다
+        registry.unregisterAllSubscriptions("session-2");
+        assertThat(registry.findSubscriptions(send("/topic/channels/1", "high"))).containsOnlyKeys("session-1");
+        assertThat(registry.getSubscriberCount(1L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("구독 해제 및 세션 종료 시 제거")
+    void unregisters() {
+        // given
+        registry.registerSubscription(subscribe("session-1", "sub-1", "/topic/channels/1"));
+        registry.registerSubscription(subscribe("session-1", "sub-2", "/topic/channels/2"));
+        registry.registerSubscription(subscribe("session-2", "sub-1", "/topic/channels/1"));
+
+        // when
+        registry.unregisterSubscription(unsubscribe("session-2", "sub-1"));
+        registry.unregisterAllSubscriptions("session-1");
+
+        // then
+        assertThat(registry.findSubscriptions(send("/topic/channels/1"))).isEmpty();
+        assertThat(registry.findSubscriptions(send("/topic/channels/2"))).isEmpty();
+        assertThat(registry.getSubscriberCount(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("채널 토픽이 아닌 목적지는 기본 레지스트리로 처리")
+    void delegatesOtherDestinations() {
+        // given
+        registry.registerSubscription(subscribe("session-1", "sub-1", "/topic/notice"));
+
+        // when
+        MultiValueMap<String, String> result = registry.findSubscriptions(send("/topic/notice"));
+
+        // then
+        assertThat(result.get("session-1")).containsExactly("sub-1");
+    }
+
+    @Test
+    @DisplayName("5천 채널 / 5만 세션 규모에서도 채널별로 정확히 조회")
+    void largeFanOut() {
+        // given
+        int channelCount = 5_000;
+        int sessionCount = 50_000;
+        for (int i = 0; i < sessionCount; i++) {
+            registry.registerSubscription(subscribe("session-" + i, "sub-0", "/topic/channels/" + (i % channelCount + 1)));
+        }
+
+        // when & then
+        for (long channelId = 1; channelId <= channelCount; channelId++) {
+            assertThat(registry.getSubscriberCount(channelId)).isEqualTo(sessionCount / channelCount);
+        }
+        assertThat(registry.findSubscriptions(send("/topic/channels/1"))).containsKey("session-0");
+    }
+
+    private Message<byte[]> subscribe(String sessionId, String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> unsubscribe(String sessionId, String subscriptionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> send(String destination) {
+        return send(destination, null);
+    }
+
+    private Message<byte[]> send(String destination, String priority) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        if (priority != null) {
+            accessor.setHeader("priority", priority);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,216 @@
+package com.pulsespace.backend.messaging;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테스트용 프로세스 내 Redis 대체 (RESP2, Pub/Sub에 필요한 명령만)
+ * PING, SELECT, CLIENT, QUIT, PUBLISH, SUBSCRIBE, UNSUBSCRIBE 를 처리하고
+ * HELLO 는 거부해 클라이언트가 RESP2로 내려오게 한다.
+ */
+class InProcessRedisServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final Set<Client> clients = ConcurrentHashMap.newKeySet();
+    // Redis 채널 → 구독 중인 연결
+    private final Map<String, Set<Client>> subscribers = new ConcurrentHashMap<>();
+
+    InProcessRedisServer() throws IOException {
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread.ofPlatform().daemon().name("in-process-redis-accept").start(this::acceptLoop);
+    }
+
+    int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Redis 채널을 구독 중인 연결 수 (= 그 채널을 구독한 노드 수)
+     */
+    int subscriberCount(String channel) {
+        return subscribers.getOrDefault(channel, Set.of()).size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        for (Client client : clients) {
+            client.close();
+        }
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Client client = new Client(serverSocket.accept());
+                clients.add(client);
+                Thread.ofPlatform().daemon().name("in-process-redis-client").start(client::serve);
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private class Client {
+
+        private final Socket socket;
+        private final OutputStream out;
+        private final Set<String> channels = ConcurrentHashMap.newKeySet();
+
+        Client(Socket socket) throws IOException {
+            this.socket = socket;
+            this.out = socket.getOutputStream();
+        }
+
+        void serve() {
+            try (InputStream in = new BufferedInputStream(socket.getInputStream())) {
+                List<String> command;
+                while ((command = readCommand(in)) != null) {
+                    if (!handle(command)) {
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                // 연결 종료
+            } finally {
+                close();
+            }
+        }
+
+        // 처리 후 연결을 유지하면 true
+        private boolean handle(List<String> command) throws IOException {
+            String name = command.get(0).toUpperCase();
+            List<String> args = command.subList(1, command.size());
+            switch (name) {
+                case "PING" -> {
+                    if (channels.isEmpty()) {
+                        write("+PONG\r\n");
+                    } else {
+                        write(array(bulk("pong"), bulk("")));
+                    }
+                }
+                case "SELECT", "CLIENT" -> write("+OK\r\n");
+                case "QUIT" -> {
+                    write("+OK\r\n");
+                    return false;
+                }
+                case "PUBLISH" -> write(":" + publish(args.get(0), args.get(1)) + "\r\n");
+                case "SUBSCRIBE" -> {
+                    for (String channel : args) {
+                        channels.add(channel);
+                        subscribers.computeIfAbsent(channel, id -> ConcurrentHashMap.newKeySet()).add(this);
+                        write(array(bulk("subscribe"), bulk(channel), ":" + channels.size() + "\r\n"));
+                    }
+                }
+                case "UNSUBSCRIBE" -> {
+                    List<String> targets = args.isEmpty() ? List.copyOf(channels) : args;
+                    if (targets.isEmpty()) {
+                        write(array(bulk("unsubscribe"), "$-1\r\n", ":0\r\n"));
+                    }
+                    for (String channel : targets) {
+                        unsubscribe(channel);
+                        write(array(bulk("unsubscribe"), bulk(channel), ":" + channels.size() + "\r\n"));
+                    }
+                }
+                default -> write("-ERR unknown command '" + command.get(0) + "'\r\n");
+            }
+            return true;
+        }
+
+        private void unsubscribe(String channel) {
+            channels.remove(channel);
+            subscribers.computeIfPresent(channel, (id, subscribed) -> {
+                subscribed.remove(this);
+                return subscribed.isEmpty() ? null : subscribed;
+            });
+        }
+
+        synchronized void write(String frame) throws IOException {
+            out.write(frame.getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+
+        void close() {
+            List.copyOf(channels).forEach(this::unsubscribe);
+            clients.remove(this);
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // 이미 닫힘
+            }
+        }
+    }
+
+    private int publish(String channel, String message) {
+        int delivered = 0;
+        for (Client client : subscribers.getOrDefault(channel, Set.of())) {
+            try {
+                client.write(array(bulk("message"), bulk(channel), bulk(message)));
+                delivered++;
+            } catch (IOException e) {
+                client.close();
+            }
+        }
+        return delivered;
+    }
+
+    /**
+     * RESP 배열 명령 하나 읽기 (연결이 끝났으면 null)
+     */
+    private static List<String> readCommand(InputStream in) throws IOException {
+        String header = readLine(in);
+        if (header == null) {
+            return null;
+        }
+        if (!header.startsWith("*")) {
+            throw new SocketException("RESP 배열이 아님: " + header);
+        }
+
+        int count = Integer.parseInt(header.substring(1));
+        List<String> command = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String length = readLine(in);
+            if (length == null || !length.startsWith("$")) {
+                throw new SocketException("RESP bulk string이 아님: " + length);
+            }
+            byte[] data = in.readNBytes(Integer.parseInt(length.substring(1)));
+            readLine(in);
+            command.add(new String(data, StandardCharsets.UTF_8));
+        }
+        return command;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\r') {
+                in.read();
+                return line.toString(StandardCharsets.UTF_8);
+            }
+            line.write(b);
+        }
+        return null;
+    }
+
+    private static String bulk(String value) {
+        return "$" + value.getBytes(StandardCharsets.UTF_8).length + "\r\n" + value + "\r\n";
+    }
+
+    private static String array(String... elements) {
+        return "*" + elements.length + "\r\n" + String.join("", elements);
+    }
+}
@@ -0,0 +1,163 @@
+package com.pulsespace.backend.messaging;
+
+import com.pulsespace.backend.cache.ChannelMembershipCache;
+import com.pulsespace.backend.cache.UserProfileCache;
+import com.pulsespace.backend.dto.response.MessageResponse;
+import com.pulsespace.backend.exception.BusinessException;
+import com.pulsespace.backend.exception.ErrorCode;
+import com.pulsespace.backend.repository.ChannelSequenceRepository;
+import com.pulsespace.backend.repository.MessageBatchRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MessageBatchWriterTest {
+
+    private static final long DELETED_CHANNEL_ID = 99L;
+
+    @Mock
+    private ChannelMembershipCache channelMembershipCache;
+
+    @Mock
+    private UserProfileCache userProfileCache;
+
+    @Mock
+    private ChannelSequenceRepository channelSequenceRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private MessageBatchRepository messageBatchRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    private MessageBatchWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        given(channelMembershipCache.isMember(anyLong(), anyLong())).willReturn(true);
+        // 저장까지 가지 않는 테스트(종료 처리)도 있으므로 저장 쪽 stub은 lenient
+        lenient().when(userProfileCache.getName(anyLong())).thenReturn("홍길동");
+        lenient().when(channelSequenceRepository.allocate(anyLong(), anyInt()))
+                .thenAnswer(invocation -> invocation.<Integer>getArgument(1).longValue());
+
+        // 삭제된 채널의 메시지가 섞이면 배치 전체가 FK 위반으로 실패
+        lenient().when(messageBatchRepository.insert(anyList())).thenAnswer(invocation -> {
+            List<MessageBatchRepository.NewMessage> rows = invocation.getArgument(0);
+            batchSizes.add(rows.size());
+            if (rows.stream().anyMatch(row -> row.channelId() == DELETED_CHANNEL_ID)) {
+                throw new DataIntegrityViolationException("messages_channel_id_fkey");
+            }
+            return rows.stream().mapToLong(row -> nextId.getAndIncrement()).toArray();
+        });
+
+        writer = new MessageBatchWriter(channelMembershipCache, userProfileCache, channelSequenceRepository,
+                eventPublisher, messageBatchRepository, transactionManager, 100, 200);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.stop();
+    }
+
+    @Test
+    @DisplayName("대기 중인 메시지는 한 배치로 저장하고 요청 순서대로 완료")
+    void batchesAndCompletesInOrder() throws Exception {
+        // given - flusher 시작 전에 쌓아 둔 요청은 한 번에 묶인다
+        List<Long> completed = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<MessageResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            CompletableFuture<MessageResponse> future = writer.submit(1L, 10L, "메시지" + i, null);
+            future.thenAccept(response -> completed.add(response.getId()));
+            futures.add(future);
+        }
+
+        // when
+        writer.start();
+
+        // then
+        for (CompletableFuture<MessageResponse> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        assertThat(batchSizes).containsExactly(3);
+        assertThat(completed).containsExactly(1L, 2L, 3L);
+        assertThat(futures.get(2).get().getContent()).isEqualTo("메시지2");
+        verify(channelSequenceRepository, times(1)).allocate(10L, 3);
+        verify(channelSequenceRepository, times(1)).updateLastMessageIds(Map.of(10L, 3L));
+    }
+
+    @Test
+    @DisplayName("한 건이 실패하면 한 건씩 다시 저장해 그 메시지만 실패")
+    void isolatesFailedMessage() throws Exception {
+        // given
+        CompletableFuture<MessageResponse> first = writer.submit(1L, 10L, "첫 번째", null);
+        CompletableFuture<MessageResponse> broken = writer.submit(1L, DELETED_CHANNEL_ID, "삭제된 채널", null);
+        CompletableFuture<MessageResponse> third = writer.submit(2L, 11L, "세 번째", null);
+
+        // when
+        writer.start();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS).getContent()).isEqualTo("첫 번째");
+        assertThat(third.get(5, TimeUnit.SECONDS).getContent()).isEqualTo("세 번째");
+        assertThatThrownBy(() -> broken.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(DataIntegrityViolationException.class);
+
+        // 배치 1회(실패) + 한 건씩 3회
+        assertThat(batchSizes).containsExactly(3, 1, 1, 1);
+        verify(transactionManager, times(2)).rollback(any());
+    }
+
+    @Test
+    @DisplayName("flusher가 끝난 뒤 큐에 남은 요청은 저장하지 않고 실패로 완료")
+    void failsRequestsLeftAfterFlusherExit() throws InterruptedException {
+        // given - flusher가 이미 끝난 상태에서 종료 확인을 통과한 요청 (시작하지 않은 writer로 재현)
+        CompletableFuture<MessageResponse> orphan = writer.submit(1L, 10L, "종료 직전", null);
+
+        // when
+        assertThat(orphan).isNotDone();
+        writer.stop();
+
+        // then
+        assertThatThrownBy(() -> orphan.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> writer.submit(1L, 10L, "종료 후", null))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.MESSAGE_QUEUE_FULL);
+        assertThat(batchSizes).isEmpty();
+    }
+}
@@ -0,0 +1,242 @@
+package com.pulsespace.backend.messaging;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MessageBroadcasterTest {
+
+    private InMemoryClusterBus bus;
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() {
+        // 같은 버스를 공유하는 두 노드
+        bus = new InMemoryClusterBus();
+        nodeA = new Node(bus);
+        nodeB = new Node(bus);
+    }
+
+    @Test
+    @DisplayName("로컬 구독자가 있는 노드만 채널을 구독하고 전달받음")
+    void deliversOnlyToNodesWithLocalSubscribers() {
+        // given - A 노드에만 채널 1 구독자
+        nodeA.broadcaster.onSubscribe(subscribeEvent("session-1", "sub-1", "/topic/channels/1"));
+        nodeA.drain();
+
+        // when - B 노드에서 브로드캐스트
+        nodeB.broadcaster.broadcast(1L, "hello");
+
+        // then
+        assertThat(bus.subscriberCount(1L)).isEqualTo(1);
+        assertThat(nodeA.sent).hasSize(1);
+        assertThat(SimpMessageHeaderAccessor.getDestination(nodeA.sent.get(0).getHeaders())).isEqualTo("/topic/channels/1");
+        assertThat(new String((byte[]) nodeA.sent.get(0).getPayload(), StandardCharsets.UTF_8)).isEqualTo("hello");
+        assertThat(nodeB.sent).isEmpty();
+    }
+
+    @Test
+    @DisplayName("마지막 로컬 구독자가 나가면 채널 구독 해제")
+    void unsubscribesWhenLastLocalSubscriberLeaves() {
+        // given
+        nodeA.broadcaster.onSubscribe(subscribeEvent("session-1", "sub-1", "/topic/channels/1"));
+        nodeA.broadcaster.onSubscribe(subscribeEvent("session-2", "sub-1", "/topic/channels/1"));
+
+        // when
+        nodeA.broadcaster.onDisconnect(disconnectEvent("session-1"));
+        nodeA.drain();
+
+        // then - 아직 구독자 남아 있음
+        assertThat(bus.subscriberCount(1L)).isEqualTo(1);
+
+        // when
+        nodeA.broadcaster.onDisconnect(disconnectEvent("session-2"));
+        nodeA.drain();
+
+        // then
+        assertThat(bus.subscriberCount(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("첫 구독과 마지막 해제가 동시에 일어나도 남은 구독자가 있으면 채널 구독 유지")
+    void keepsClusterSubscriptionUnderConcurrentChurn() throws InterruptedException {
+        // given - 대부분의 세션은 구독 직후 나가고, 100개 중 하나만 남는다
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        int sessions = 2000;
+        CountDownLatch done = new CountDownLatch(sessions);
+
+        // when
+        for (int i = 0; i < sessions; i++) {
+            String sessionId = "session-" + i;
+            boolean stays = i % 100 == 0;
+            executor.execute(() -> {
+                nodeA.broadcaster.onSubscribe(subscribeEvent(sessionId, "sub-1", "/topic/channels/1"));
+                if (!stays) {
+                    nodeA.broadcaster.onDisconnect(disconnectEvent(sessionId));
+                }
+                done.countDown();
+            });
+        }
+
+        // then
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        nodeA.drain();
+        assertThat(bus.subscriberCount(1L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("느린 클러스터 구독 중에도 다른 채널의 구독/해제 처리는 막히지 않음")
+    void doesNotBlockOnSlowClusterSubscribe() throws InterruptedException {
+        // given - 채널 1 구독이 Redis 응답을 기다리는 중
+        CountDownLatch release = new CountDownLatch(1);
+        bus.blockSubscribe(1L, release);
+        nodeA.broadcaster.onSubscribe(subscribeEvent("session-1", "sub-1", "/topic/channels/1"));
+
+        // when - 다른 스레드에서 채널 2 구독 후 세션 종료
+        CountDownLatch handled = new CountDownLatch(1);
+        Thread other = Thread.ofPlatform().start(() -> {
+            nodeA.broadcaster.onSubscribe(subscribeEvent("session-2", "sub-1", "/topic/channels/2"));
+            nodeA.broadcaster.onDisconnect(disconnectEvent("session-2"));
+            handled.countDown();
+        });
+
+        // then
+        assertThat(handled.await(1, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+        other.join();
+        nodeA.drain();
+        assertThat(bus.subscriberCount(1L)).isEqualTo(1);
+        assertThat(bus.subscriberCount(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("채널 토픽이 아닌 구독은 무시")
+    void ignoresNonChannelDestinations() {
+        // when
+        nodeA.broadcaster.onSubscribe(subscribeEvent("session-1", "sub-1", "/topic/other"));
+        nodeA.drain();
+
+        // then
+        assertThat(bus.subscriberCount(1L)).isZero();
+    }
+
+    private SessionSubscribeEvent subscribeEvent(String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return new SessionSubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+
+    private SessionDisconnectEvent disconnectEvent(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        return new SessionDisconnectEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), sessionId, CloseStatus.NORMAL);
+    }
+
+    /**
+     * 브로커로 보낸 메시지를 기록하는 노드
+     */
+    private static class Node {
+
+        private final List<Message<?>> sent = new CopyOnWriteArrayList<>();
+        private final ExecutorService subscriptionExecutor = Executors.newSingleThreadExecutor();
+        private final MessageBroadcaster broadcaster;
+
+        Node(InMemoryClusterBus bus) {
+            SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate((message, timeout) -> sent.add(message));
+            messagingTemplate.setMessageConverter(new StringMessageConverter());
+
+            this.broadcaster = new MessageBroadcaster(messagingTemplate, bus.newTransport(), subscriptionExecutor);
+        }
+
+        /**
+         * 등록된 클러스터 구독/해제 작업이 끝날 때까지 대기
+         */
+        void drain() {
+            try {
+                subscriptionExecutor.submit(() -> { }).get(5, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * 프로세스 내 Pub/Sub 버스 (Redis 대체)
+     */
+    private static class InMemoryClusterBus {
+
+        private final Map<Long, List<Consumer<byte[]>>> subscribers = new ConcurrentHashMap<>();
+        private final Map<Long, CountDownLatch> blocked = new ConcurrentHashMap<>();
+
+        /**
+         * 채널 구독 응답 지연 (latch가 풀릴 때까지)
+         */
+        void blockSubscribe(Long channelId, CountDownLatch latch) {
+            blocked.put(channelId, latch);
+        }
+
+        int subscriberCount(Long channelId) {
+            return subscribers.getOrDefault(channelId, List.of()).size();
+        }
+
+        ClusterTransport newTransport() {
+            Map<Long, Consumer<byte[]>> own = new ConcurrentHashMap<>();
+
+            return new ClusterTransport() {
+                @Override
+                public void publish(Long channelId, byte[] payload) {
+                    subscribers.getOrDefault(channelId, List.of()).forEach(listener -> listener.accept(payload));
+                }
+
+                @Override
+                public void subscribe(Long channelId, Consumer<byte[]> listener) {
+                    CountDownLatch latch = blocked.get(channelId);
+                    if (latch != null) {
+                        try {
+                            latch.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                    own.put(channelId, listener);
+                    subscribers.computeIfAbsent(channelId, id -> new CopyOnWriteArrayList<>()).add(listener);
+                }
+
+                @Override
+                public void unsubscribe(Long channelId) {
+                    Consumer<byte[]> listener = own.remove(channelId);
+                    if (listener != null) {
+                        subscribers.get(channelId).remove(listener);
+                    }
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.pulsespace.backend.messaging;
+
+import com.pulsespace.backend.dto.response.MessageResponse;
+import com.pulsespace.backend.dto.response.MessageResyncResponse;
+import com.pulsespace.backend.exception.BusinessException;
+import com.pulsespace.backend.exception.ErrorCode;
+import com.pulsespace.backend.service.MessageService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MessageResyncInterceptorTest {
+
+    private static final long USER_ID = 7L;
+    private static final long CHANNEL_ID = 1L;
+
+    @Mock
+    private MessageService messageService;
+
+    @Mock
+    private ObjectProvider<SimpMessagingTemplate> messagingTemplateProvider;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private final SimpleBrokerMessageHandler broker = mock(SimpleBrokerMessageHandler.class);
+    private final MessageChannel inbound = mock(MessageChannel.class);
+    private MessageResyncInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        // page-size 2, max-gap 10
+        interceptor = new MessageResyncInterceptor(messageService, messagingTemplateProvider, 2, 10, 1, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        interceptor.shutdown();
+    }
+
+    @Test
+    @DisplayName("마지막 메시지 이후를 페이지로 보내고 COMPLETE로 마무리")
+    void replaysMissedMessages() {
+        // given
+        given(messagingTemplateProvider.getObject()).willReturn(messagingTemplate);
+        given(messageService.getMessagesAfter(USER_ID, CHANNEL_ID, 10L, 2)).willReturn(List.of(message(11L), message(12L)));
+        given(messageService.getMessagesAfter(USER_ID, CHANNEL_ID, 12L, 2)).willReturn(List.of(message(13L)));
+
+        // when
+        interceptor.afterMessageHandled(subscribe("10"), inbound, broker, null);
+
+        // then
+        List<MessageResyncResponse> sent = sent(3);
+        assertThat(sent).extracting(MessageResyncResponse::getType).containsExactly("BATCH", "BATCH", "COMPLETE");
+        assertThat(sent.get(2).getLastMessageId()).isEqualTo(13L);
+    }
+
+    @Test
+    @DisplayName("멤버가 아니면 누락 개수 조회 단계에서 거부되고 아무것도 보내지 않음")
+    void deniesNonMember() {
+        // given
+        given(messageService.hasMoreMessagesAfter(USER_ID, CHANNEL_ID, 10L, 10))
+                .willThrow(new BusinessException(ErrorCode.NOT_MEMBER));
+
+        // when
+        interceptor.afterMessageHandled(subscribe("10"), inbound, broker, null);
+
+        // then
+        verify(messageService, timeout(1000)).hasMoreMessagesAfter(USER_ID, CHANNEL_ID, 10L, 10);
+        verify(messageService, after(100).never()).getMessagesAfter(anyLong(), anyLong(), anyLong(), anyInt());
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any(), anyMap());
+    }
+
+    @Test
+    @DisplayName("누락이 max-gap을 넘으면 RELOAD")
+    void reloadsOnLargeGap() {
+        // given
+        given(messagingTemplateProvider.getObject()).willReturn(messagingTemplate);
+        given(messageService.hasMoreMessagesAfter(USER_ID, CHANNEL_ID, 10L, 10)).willReturn(true);
+
+        // when
+        interceptor.afterMessageHandled(subscribe("10"), inbound, broker, null);
+
+        // then
+        List<MessageResyncResponse> sent = sent(1);
+        assertThat(sent.get(0).getType()).isEqualTo("RELOAD");
+        assertThat(sent.get(0).getReason()).isEqualTo("gap");
+    }
+
+    @Test
+    @DisplayName("last-message-id 헤더가 없거나 브로커가 아닌 핸들러면 무시")
+    void ignoresPlainSubscribe() {
+        // when
+        interceptor.afterMessageHandled(subscribe(null), inbound, broker, null);
+        interceptor.afterMessageHandled(subscribe("10"), inbound, mock(MessageHandler.class), null);
+
+        // then
+        verify(messageService, after(100).never()).hasMoreMessagesAfter(anyLong(), anyLong(), anyLong(), anyInt());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<MessageResyncResponse> sent(int expected) {
+        ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate, timeout(1000).times(expected))
+                .convertAndSendToUser(eq(String.valueOf(USER_ID)), eq(MessageResyncInterceptor.RESYNC_DESTINATION),
+                        payloads.capture(), any(Map.class));
+        return payloads.getAllValues().stream().map(MessageResyncResponse.class::cast).toList();
+    }
+
+    private Message<byte[]> subscribe(String lastMessageId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId("session-1");
+        accessor.setSubscriptionId("sub-1");
+        accessor.setDestination("/topic/channels/" + CHANNEL_ID);
+        accessor.setUser(new UsernamePasswordAuthenticationToken(USER_ID, null, List.of()));
+        if (lastMessageId != null) {
+            accessor.setNativeHeader(MessageResyncInterceptor.LAST_MESSAGE_ID_HEADER, lastMessageId);
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private MessageResponse message(Long id) {
+        return new MessageResponse(id, CHANNEL_ID, 2L, "홍길동", "내용 " + id, null, null, null, null, false, "CREATED");
+    }
+}
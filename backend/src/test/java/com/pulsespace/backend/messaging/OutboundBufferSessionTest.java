@@ -0,0 +1,204 @@
+package com.pulsespace.backend.messaging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class OutboundBufferSessionTest {
+
+    private final WebSocketSession delegate = mock(WebSocketSession.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // drain 작업을 바로 실행하지 않고 모아 둔다 (소켓이 막힌 상황)
+    private final List<Runnable> pendingDrains = new ArrayList<>();
+    private final Executor manualExecutor = pendingDrains::add;
+
+    @Test
+    @DisplayName("DROP_OLDEST: 한도를 넘으면 가장 오래된 프레임부터 버림")
+    void dropsOldest() throws Exception {
+        // given
+        OutboundBufferSession session = session(OutboundBufferPolicy.DROP_OLDEST, 2);
+
+        // when
+        session.sendMessage(frame(1L, "CREATED"));
+        session.sendMessage(frame(2L, "CREATED"));
+        session.sendMessage(frame(3L, "CREATED"));
+        runDrains();
+
+        // then
+        assertThat(sentIds(2)).containsExactly(2L, 3L);
+        assertThat(meterRegistry.get("pulsespace.ws.outbound.dropped").tag("reason", "drop_oldest").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("COALESCE: 같은 메시지의 수정/삭제 이벤트는 마지막 것만 전송")
+    void coalescesUpdates() throws Exception {
+        // given
+        OutboundBufferSession session = session(OutboundBufferPolicy.COALESCE, 2);
+
+        // when
+        session.sendMessage(frame(1L, "UPDATED"));
+        session.sendMessage(frame(2L, "CREATED"));
+        session.sendMessage(frame(1L, "DELETED"));
+        runDrains();
+
+        // then
+        ArgumentCaptor<WebSocketMessage<?>> captor = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(delegate, times(2)).sendMessage(captor.capture());
+        assertThat(captor.getAllValues()).extracting(message -> (String) message.getPayload())
+                .satisfiesExactly(
+                        first -> assertThat(first).contains("\"id\":2"),
+                        second -> assertThat(second).contains("\"type\":\"DELETED\""));
+        verify(delegate, never()).close(any());
+    }
+
+    @Test
+    @DisplayName("DISCONNECT: 한도를 넘으면 resync 사유로 연결 종료")
+    void disconnectsWithResyncHint() throws Exception {
+        // given
+        OutboundBufferSession session = session(OutboundBufferPolicy.DISCONNECT, 1);
+
+        // when
+        session.sendMessage(frame(1L, "CREATED"));
+        session.sendMessage(frame(2L, "CREATED"));
+
+        // then
+        verify(delegate).close(OutboundBufferSession.RESYNC_STATUS);
+        assertThat(session.getQueueDepth()).isZero();
+        assertThat(meterRegistry.get("pulsespace.ws.outbound.disconnected").tag("reason", "buffer_limit").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST: RECEIPT/ERROR 프레임은 버리지 않음")
+    void keepsControlFrames() throws Exception {
+        // given
+        OutboundBufferSession session = session(OutboundBufferPolicy.DROP_OLDEST, 2);
+        TextMessage receipt = new TextMessage("RECEIPT\nreceipt-id:r-1\n\n\u0000");
+
+        // when
+        session.sendMessage(receipt);
+        session.sendMessage(frame(1L, "CREATED"));
+        session.sendMessage(frame(2L, "CREATED"));
+        runDrains();
+
+        // then
+        ArgumentCaptor<WebSocketMessage<?>> captor = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(delegate, times(2)).sendMessage(captor.capture());
+        assertThat(captor.getAllValues()).first().isSameAs(receipt);
+        assertThat((String) captor.getAllValues().get(1).getPayload()).contains("\"id\":2");
+    }
+
+    @Test
+    @DisplayName("전송 실패 시 버퍼를 비우고 소켓도 닫음")
+    void closesOnSendFailure() throws Exception {
+        // given
+        OutboundBufferSession session = session(OutboundBufferPolicy.DISCONNECT, 10);
+        doThrow(new IOException("broken pipe")).when(delegate).sendMessage(any());
+
+        // when
+        session.sendMessage(frame(1L, "CREATED"));
+        session.sendMessage(frame(2L, "CREATED"));
+        runDrains();
+
+        // then
+        verify(delegate, times(1)).sendMessage(any());
+        verify(delegate).close(OutboundBufferSession.RESYNC_STATUS);
+        assertThat(session.getQueueDepth()).isZero();
+        assertThat(meterRegistry.get("pulsespace.ws.outbound.disconnected").tag("reason", "send_failed").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("새 메시지가 없어도 쓰기가 제한 시간을 넘겨 멈추면 연결 종료")
+    void detectsStalledSocketWithoutNewMessages() throws Exception {
+        // given - 소켓 쓰기가 돌아오지 않는 상황
+        CountDownLatch stuck = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            stuck.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(delegate).sendMessage(any());
+        OutboundBufferSession.Limits limits = new OutboundBufferSession.Limits(OutboundBufferPolicy.DISCONNECT, 10, 1_000_000, 50);
+        OutboundBufferSession session = new OutboundBufferSession(delegate, limits,
+                command -> Thread.ofVirtual().start(command), new OutboundBufferMetrics(meterRegistry));
+
+        try {
+            // when
+            session.sendMessage(frame(1L, "CREATED"));
+            verify(delegate, timeout(1000)).sendMessage(any());
+            Thread.sleep(100);
+            boolean stalled = session.isStalled();
+            session.disconnectIfStalled();
+
+            // then
+            assertThat(stalled).isTrue();
+            verify(delegate).close(OutboundBufferSession.RESYNC_STATUS);
+            assertThat(session.isStalled()).isFalse();
+        } finally {
+            stuck.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("수정/삭제 프레임에서만 합치기 키 추출")
+    void extractsCoalesceKey() {
+        assertThat(OutboundBufferSession.coalesceKey(frame(42L, "UPDATED"))).isEqualTo(42L);
+        assertThat(OutboundBufferSession.coalesceKey(frame(42L, "DELETED"))).isEqualTo(42L);
+        assertThat(OutboundBufferSession.coalesceKey(frame(42L, "CREATED"))).isNull();
+        assertThat(OutboundBufferSession.coalesceKey(new TextMessage("\n"))).isNull();
+
+        // 채널 브로드캐스트는 BinaryMessage
+        assertThat(OutboundBufferSession.coalesceKey(new BinaryMessage(frame(7L, "UPDATED").asBytes()))).isEqualTo(7L);
+    }
+
+    private OutboundBufferSession session(OutboundBufferPolicy policy, int maxMessages) {
+        OutboundBufferSession.Limits limits = new OutboundBufferSession.Limits(policy, maxMessages, 1_000_000, 10_000);
+        return new OutboundBufferSession(delegate, limits, manualExecutor, new OutboundBufferMetrics(meterRegistry));
+    }
+
+    private void runDrains() {
+        List<Runnable> drains = new ArrayList<>(pendingDrains);
+        pendingDrains.clear();
+        drains.forEach(Runnable::run);
+    }
+
+    private List<Long> sentIds(int expected) throws Exception {
+        ArgumentCaptor<WebSocketMessage<?>> captor = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(delegate, times(expected)).sendMessage(captor.capture());
+        return captor.getAllValues().stream()
+                .map(message -> {
+                    String frame = (String) message.getPayload();
+                    int start = frame.indexOf("\"id\":") + 5;
+                    return Long.parseLong(frame.substring(start, frame.indexOf(',', start)));
+                })
+                .toList();
+    }
+
+    private static TextMessage frame(Long messageId, String type) {
+        return new TextMessage("MESSAGE\nsubscription:sub-0\nmessage-id:m-" + messageId + "\ndestination:/topic/channels/1\n\n"
+                + "{\"channelId\":1,\"content\":\"hi\",\"id\":" + messageId + ",\"type\":\"" + type + "\"}\u0000");
+    }
+}
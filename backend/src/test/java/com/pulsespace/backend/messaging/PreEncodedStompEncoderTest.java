@@ -0,0 +1,148 @@
+package com.pulsespace.backend.messaging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompDecoder;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PreEncodedStompEncoderTest {
+
+    private final PreEncodedStompEncoder encoder = new PreEncodedStompEncoder();
+    private final StompDecoder decoder = new StompDecoder();
+
+    @Test
+    @DisplayName("구독별 헤더만 다르고 나머지는 기본 인코더와 동일한 프레임 (content-type은 원래 값)")
+    void sameFrameAsDefaultEncoder() {
+        // given
+        byte[] payload = "{\"id\":1,\"content\":\"안녕\"}".getBytes(StandardCharsets.UTF_8);
+        Message<byte[]> broadcast = broadcast(payload);
+
+        for (String subscription : List.of("sub-0", "sub-1", "sub-22")) {
+            Map<String, Object> headers = subscriberHeaders(broadcast, subscription, "m-" + subscription);
+
+            // when
+            Message<byte[]> actual = decode(encoder.encode(headers, payload));
+            Message<byte[]> expected = decode(new StompEncoder().encode(headers, payload));
+
+            // then
+            StompHeaderAccessor actualAccessor = StompHeaderAccessor.wrap(actual);
+            StompHeaderAccessor expectedAccessor = StompHeaderAccessor.wrap(expected);
+            assertThat(actualAccessor.getCommand()).isEqualTo(StompCommand.MESSAGE);
+            assertThat(actualAccessor.getSubscriptionId()).isEqualTo(subscription);
+            assertThat(actualAccessor.getDestination()).isEqualTo(expectedAccessor.getDestination());
+            assertThat(actualAccessor.getMessageId()).isEqualTo(expectedAccessor.getMessageId());
+            assertThat(actualAccessor.getContentType()).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+            assertThat(actual.getPayload()).isEqualTo(payload);
+        }
+    }
+
+    @Test
+    @DisplayName("공통 부분은 메시지에 한 번만 인코딩되어 다른 스레드에서도 재사용")
+    void sharesCommonPartAcrossThreads() throws Exception {
+        // given
+        byte[] payload = "{}".getBytes(StandardCharsets.UTF_8);
+        Message<byte[]> broadcast = broadcast(payload);
+        PreEncodedStompEncoder.SharedFrame shared =
+                (PreEncodedStompEncoder.SharedFrame) broadcast.getHeaders().get(PreEncodedStompEncoder.SHARED_FRAME_HEADER);
+        encoder.encode(subscriberHeaders(broadcast, "sub-0", "m-0"), payload);
+        byte[] first = shared.cached();
+
+        // when - 가상 스레드마다 ThreadLocal이 새로 생기던 경우
+        Message<byte[]> result = CompletableFuture
+                .supplyAsync(() -> decode(encoder.encode(subscriberHeaders(broadcast, "sub-1", "m-1"), payload)),
+                        command -> Thread.ofVirtual().start(command))
+                .get();
+
+        // then
+        assertThat(first).isNotNull();
+        assertThat(shared.cached()).isSameAs(first);
+        assertThat(StompHeaderAccessor.wrap(result).getSubscriptionId()).isEqualTo("sub-1");
+    }
+
+    @Test
+    @DisplayName("브로드캐스트 메시지는 바이너리 전송으로 표시")
+    void marksBroadcastAsBinary() {
+        // given
+        Message<byte[]> broadcast = broadcast("{}".getBytes(StandardCharsets.UTF_8));
+
+        // when & then
+        assertThat(SimpMessageHeaderAccessor.getContentType(broadcast.getHeaders())).isEqualTo(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+    }
+
+    @Test
+    @DisplayName("escape가 필요한 구독 ID는 기본 인코딩으로 처리")
+    void escapesSubscriptionId() {
+        // given
+        byte[] payload = "{}".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        Message<byte[]> result = decode(encoder.encode(subscriberHeaders(broadcast(payload), "sub:1", "m-0"), payload));
+
+        // then
+        assertThat(StompHeaderAccessor.wrap(result).getSubscriptionId()).isEqualTo("sub:1");
+    }
+
+    @Test
+    @DisplayName("공통 부분 캐시가 없는 메시지는 기본 인코딩")
+    void encodesPlainMessage() {
+        // given
+        byte[] payload = "{}".getBytes(StandardCharsets.UTF_8);
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setSubscriptionId("sub-0");
+        accessor.setMessageId("m-0");
+        accessor.setDestination("/user/queue/unread");
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+
+        // when
+        byte[] frame = encoder.encode(accessor.getMessageHeaders(), payload);
+
+        // then
+        assertThat(frame).isEqualTo(new StompEncoder().encode(accessor.getMessageHeaders(), payload));
+    }
+
+    /**
+     * MessageBroadcaster가 브로커로 보내는 메시지
+     */
+    private Message<byte[]> broadcast(byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination("/topic/channels/1");
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        PreEncodedStompEncoder.share(accessor);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+    /**
+     * SimpleBroker가 구독자별로 헤더를 복사하고, StompSubProtocolHandler가 STOMP 헤더로 바꾼 결과
+     */
+    private Map<String, Object> subscriberHeaders(Message<byte[]> broadcast, String subscription, String messageId) {
+        SimpMessageHeaderAccessor copy = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        copy.setSubscriptionId(subscription);
+        copy.copyHeadersIfAbsent(broadcast.getHeaders());
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(MessageBuilder.createMessage(broadcast.getPayload(), copy.getMessageHeaders()));
+        accessor.setCommand(StompCommand.MESSAGE);
+        accessor.setMessageId(messageId);
+        return accessor.getMessageHeaders();
+    }
+
+    private Message<byte[]> decode(byte[] frame) {
+        List<Message<byte[]>> messages = decoder.decode(ByteBuffer.wrap(frame));
+        assertThat(messages).hasSize(1);
+        return messages.get(0);
+    }
+}
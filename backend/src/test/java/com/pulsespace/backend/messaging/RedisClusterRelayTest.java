@@ -0,0 +1,275 @@
+package com.pulsespace.backend.messaging;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.protocol.ProtocolVersion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 JVM의 세 애플리케이션 컨텍스트(노드 A, B, C)가 프로세스 내 Redis 대체를 공유하며 STOMP 브로드캐스트를 주고받는지 확인
+ * 각 노드는 MessageBroadcaster + RedisClusterTransport(relay=redis) + SimpleBroker 로 구성되고,
+ * STOMP 구독은 StompSubProtocolHandler처럼 SessionSubscribeEvent 발행 + 브로커 SUBSCRIBE 로 흉내 낸다.
+ */
+class RedisClusterRelayTest {
+
+    private static final long CHANNEL_ID = 1L;
+    private static final String REDIS_CHANNEL = "pulsespace:channel:" + CHANNEL_ID;
+    private static final String DESTINATION = MessageBroadcaster.CHANNEL_TOPIC_PREFIX + CHANNEL_ID;
+
+    private InProcessRedisServer redis;
+    private Node nodeA;
+    private Node nodeB;
+    private Node nodeC;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = new InProcessRedisServer();
+        nodeA = new Node(redis.port());
+        nodeB = new Node(redis.port());
+        nodeC = new Node(redis.port());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (Node node : new Node[]{nodeA, nodeB, nodeC}) {
+            if (node != null) {
+                node.context.close();
+            }
+        }
+        redis.close();
+    }
+
+    @Test
+    @DisplayName("A 노드의 브로드캐스트가 B 노드의 STOMP 구독자에게 전달되고, 로컬 구독자가 없는 노드는 채널을 구독하지 않음")
+    void relaysToNodesWithLocalSubscribers() throws InterruptedException {
+        // given - B 노드에만 채널 1 구독자
+        nodeB.subscribe("session-b", "sub-1", DESTINATION);
+        await(() -> redis.subscriberCount(REDIS_CHANNEL) == 1);
+
+        // when
+        nodeA.broadcaster().broadcast(CHANNEL_ID, "{\"id\":10}");
+
+        // then
+        await(() -> nodeB.received.size() == 1);
+        Message<?> delivered = nodeB.received.get(0);
+        assertThat(SimpMessageHeaderAccessor.getDestination(delivered.getHeaders())).isEqualTo(DESTINATION);
+        assertThat(SimpMessageHeaderAccessor.getSessionId(delivered.getHeaders())).isEqualTo("session-b");
+        assertThat(new String((byte[]) delivered.getPayload(), StandardCharsets.UTF_8)).isEqualTo("{\"id\":10}");
+
+        Thread.sleep(200);
+        assertThat(redis.subscriberCount(REDIS_CHANNEL)).isEqualTo(1);
+        assertThat(nodeA.received).isEmpty();
+        assertThat(nodeC.received).isEmpty();
+    }
+
+    @Test
+    @DisplayName("마지막 로컬 구독자가 끊기면 채널 구독을 해제하고 더 이상 전달받지 않음")
+    void unsubscribesAfterLastLocalSubscriberLeaves() throws InterruptedException {
+        // given
+        nodeB.subscribe("session-b1", "sub-1", DESTINATION);
+        nodeB.subscribe("session-b2", "sub-1", DESTINATION);
+        await(() -> redis.subscriberCount(REDIS_CHANNEL) == 1);
+
+        // when - 한 세션만 끊김
+        nodeB.disconnect("session-b1");
+        nodeA.broadcaster().broadcast(CHANNEL_ID, "first");
+
+        // then
+        await(() -> nodeB.received.size() == 1);
+        assertThat(SimpMessageHeaderAccessor.getSessionId(nodeB.received.get(0).getHeaders())).isEqualTo("session-b2");
+
+        // when - 마지막 세션도 끊김
+        nodeB.disconnect("session-b2");
+        await(() -> redis.subscriberCount(REDIS_CHANNEL) == 0);
+        nodeA.broadcaster().broadcast(CHANNEL_ID, "late");
+        Thread.sleep(200);
+
+        // then
+        assertThat(nodeB.received).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 발행한 채널 메시지를 발행 순서대로 한 dispatch 스레드에서 전달")
+    void deliversInPublishOrder() {
+        // given
+        nodeB.subscribe("session-b", "sub-1", DESTINATION);
+        await(() -> redis.subscriberCount(REDIS_CHANNEL) == 1);
+
+        // when
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            expected.add(String.valueOf(i));
+            nodeA.broadcaster().broadcast(CHANNEL_ID, String.valueOf(i));
+        }
+
+        // then
+        await(() -> nodeB.received.size() == expected.size());
+        assertThat(nodeB.received)
+                .extracting(message -> new String((byte[]) message.getPayload(), StandardCharsets.UTF_8))
+                .containsExactlyElementsOf(expected);
+        assertThat(nodeB.threads).containsExactly("redis-relay-dispatch");
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        assertThat(condition.getAsBoolean()).as("5초 안에 조건 충족").isTrue();
+    }
+
+    /**
+     * 애플리케이션 컨텍스트 하나 = 노드 하나, 클라이언트로 나가는 메시지를 기록
+     */
+    private static class Node {
+
+        private final ConfigurableApplicationContext context;
+        private final List<Message<?>> received = new CopyOnWriteArrayList<>();
+        private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        Node(int redisPort) {
+            this.context = new SpringApplicationBuilder(RelayNodeConfig.class)
+                    .web(WebApplicationType.NONE)
+                    .properties(
+                            "spring.main.banner-mode=off",
+                            "pulsespace.cluster.relay=redis",
+                            "test.redis.port=" + redisPort)
+                    .run();
+            // 브로커의 DISCONNECT_ACK 등은 제외하고 구독자에게 가는 MESSAGE만
+            context.getBean("clientOutboundChannel", ExecutorSubscribableChannel.class).subscribe(message -> {
+                if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+                    received.add(message);
+                    threads.add(Thread.currentThread().getName());
+                }
+            });
+        }
+
+        MessageBroadcaster broadcaster() {
+            return context.getBean(MessageBroadcaster.class);
+        }
+
+        /**
+         * STOMP SUBSCRIBE 한 건 (StompSubProtocolHandler처럼 이벤트 발행 후 브로커로 전달)
+         */
+        void subscribe(String sessionId, String subscriptionId, String destination) {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+            accessor.setSessionId(sessionId);
+            accessor.setSubscriptionId(subscriptionId);
+            accessor.setDestination(destination);
+            Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+            context.publishEvent(new SessionSubscribeEvent(this, message));
+            context.getBean("clientInboundChannel", ExecutorSubscribableChannel.class).send(message);
+        }
+
+        /**
+         * 세션 종료 (브로커 구독 정리 후 이벤트 발행)
+         */
+        void disconnect(String sessionId) {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+            accessor.setSessionId(sessionId);
+            Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+            context.getBean("clientInboundChannel", ExecutorSubscribableChannel.class).send(message);
+            context.publishEvent(new SessionDisconnectEvent(this, message, sessionId, CloseStatus.NORMAL));
+        }
+    }
+
+    /**
+     * 노드 구성: 운영과 같은 MessageBroadcaster/RedisClusterTransport, 채널 ID 구독 레지스트리를 쓰는 SimpleBroker
+     * 채널은 모두 동기 실행 (전달 스레드 = Redis dispatch 스레드)
+     */
+    @Configuration(proxyBeanMethods = false)
+    @Import({MessageBroadcaster.class, RedisClusterTransport.class})
+    static class RelayNodeConfig {
+
+        @Bean
+        LettuceConnectionFactory redisConnectionFactory(@Value("${test.redis.port}") int port) {
+            // Redis 대체는 HELLO를 지원하지 않으므로 RESP2 고정
+            LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                    .clientOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP2).build())
+                    .build();
+            return new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", port), clientConfiguration);
+        }
+
+        @Bean
+        StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
+            return new StringRedisTemplate(connectionFactory);
+        }
+
+        @Bean
+        ExecutorSubscribableChannel clientInboundChannel() {
+            return new ExecutorSubscribableChannel();
+        }
+
+        @Bean
+        ExecutorSubscribableChannel clientOutboundChannel() {
+            return new ExecutorSubscribableChannel();
+        }
+
+        @Bean
+        ExecutorSubscribableChannel brokerChannel() {
+            return new ExecutorSubscribableChannel();
+        }
+
+        @Bean
+        SimpleBrokerMessageHandler simpleBrokerMessageHandler(
+                ExecutorSubscribableChannel clientInboundChannel,
+                ExecutorSubscribableChannel clientOutboundChannel,
+                ExecutorSubscribableChannel brokerChannel) {
+            SimpleBrokerMessageHandler handler = new SimpleBrokerMessageHandler(
+                    clientInboundChannel, clientOutboundChannel, brokerChannel, List.of("/topic"));
+            handler.setSubscriptionRegistry(new ChannelSubscriptionRegistry());
+            return handler;
+        }
+
+        @Bean
+        SimpMessagingTemplate brokerMessagingTemplate(ExecutorSubscribableChannel brokerChannel) {
+            SimpMessagingTemplate template = new SimpMessagingTemplate(brokerChannel);
+            template.setMessageConverter(new StringMessageConverter());
+            return template;
+        }
+    }
+}
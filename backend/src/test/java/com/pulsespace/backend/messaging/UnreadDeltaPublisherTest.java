@@ -0,0 +1,246 @@
+package com.pulsespace.backend.messaging;
+
+import com.pulsespace.backend.cache.UnreadSummaryStore;
+import com.pulsespace.backend.domain.message.MessageChangedEvent;
+import com.pulsespace.backend.dto.response.MessageResponse;
+import com.pulsespace.backend.dto.response.UnreadDeltaResponse;
+import com.pulsespace.backend.dto.response.UnreadSummaryResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UnreadDeltaPublisherTest {
+
+    @Mock
+    private UnreadSummaryStore unreadSummaryStore;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private UserSessionRegistry userSessionRegistry;
+    private UnreadDeltaPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("messagingTemplate", messagingTemplate);
+
+        userSessionRegistry = new UserSessionRegistry(new SimpleMeterRegistry());
+        publisher = new UnreadDeltaPublisher(unreadSummaryStore, userSessionRegistry,
+                beanFactory.getBeanProvider(SimpMessagingTemplate.class), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("바쁜 채널의 메시지 여러 건은 주기마다 변경분 한 번으로 전송")
+    void debouncesPerUser() {
+        // given
+        given(unreadSummaryStore.isEnabled()).willReturn(true);
+        given(unreadSummaryStore.getSummarizedUserIds(10L)).willReturn(List.of(7L));
+        given(unreadSummaryStore.hasSummary(7L)).willReturn(true);
+        given(unreadSummaryStore.getSummary(7L)).willReturn(summary(Map.of(100L, 50L), Map.of(10L, 50L)));
+        userSessionRegistry.onConnected(connectedEvent("session-1", 7L));
+
+        // when
+        for (long messageId = 1; messageId <= 50; messageId++) {
+            publisher.onMessageChanged(createdEvent(10L, messageId));
+        }
+        publisher.flush();
+        publisher.flush();
+
+        // then
+        ArgumentCaptor<UnreadDeltaResponse> delta = ArgumentCaptor.forClass(UnreadDeltaResponse.class);
+        verify(messagingTemplate, times(1)).convertAndSendToUser(eq("7"), eq("/queue/unread"), delta.capture());
+        assertThat(delta.getValue().getChannels()).containsExactly(Map.entry(10L, 50L));
+        assertThat(delta.getValue().getWorkspaces()).containsExactly(Map.entry(100L, 50L));
+        assertThat(delta.getValue().isFull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("요약이 없는 접속 사용자는 새 메시지로 요약을 다시 만들지 않음")
+    void skipsUsersWithoutSummary() {
+        // given - 접속했지만 아직 구독 전이라 요약이 없음
+        given(unreadSummaryStore.isEnabled()).willReturn(true);
+        given(unreadSummaryStore.getSummarizedUserIds(10L)).willReturn(List.of());
+        userSessionRegistry.onConnected(connectedEvent("session-1", 8L));
+
+        // when
+        publisher.onMessageChanged(createdEvent(10L, 1L));
+        publisher.flush();
+
+        // then
+        verify(unreadSummaryStore, never()).getSummary(anyLong());
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("다른 기기에서 읽으면 바뀐 채널만 0으로 전송")
+    void sendsOnlyChangedEntries() {
+        // given
+        given(unreadSummaryStore.isEnabled()).willReturn(true);
+        given(unreadSummaryStore.getSummary(7L)).willReturn(
+                summary(Map.of(100L, 5L), Map.of(10L, 3L, 11L, 2L)),
+                summary(Map.of(100L, 2L), Map.of(11L, 2L)));
+        userSessionRegistry.onConnected(connectedEvent("session-1", 7L));
+        userSessionRegistry.onConnected(connectedEvent("session-2", 7L));
+        given(unreadSummaryStore.hasSummary(7L)).willReturn(true);
+        publisher.markDirty(7L);
+        publisher.flush();
+
+        // when
+        publisher.markDirty(7L);
+        publisher.flush();
+
+        // then
+        ArgumentCaptor<UnreadDeltaResponse> delta = ArgumentCaptor.forClass(UnreadDeltaResponse.class);
+        verify(messagingTemplate, times(2)).convertAndSendToUser(eq("7"), eq("/queue/unread"), delta.capture());
+        assertThat(delta.getValue().getChannels()).containsExactly(Map.entry(10L, 0L));
+        assertThat(delta.getValue().getWorkspaces()).containsExactly(Map.entry(100L, 2L));
+        assertThat(delta.getValue().isFull()).isFalse();
+    }
+
+    @Test
+    @DisplayName("구독하면 전체 상태를 다시 전송")
+    void resendsFullStateOnSubscribe() {
+        // given
+        given(unreadSummaryStore.isEnabled()).willReturn(true);
+        given(unreadSummaryStore.getSummary(7L)).willReturn(summary(Map.of(100L, 1L), Map.of(10L, 1L)));
+        userSessionRegistry.onConnected(connectedEvent("session-1", 7L));
+        publisher.markDirty(7L);
+        publisher.flush();
+
+        // when - 새 탭이 구독
+        userSessionRegistry.onConnected(connectedEvent("session-2", 7L));
+        publisher.onSubscribe(subscribeEvent("session-2", 7L, "/user/queue/unread"));
+        publisher.flush();
+
+        // then
+        ArgumentCaptor<UnreadDeltaResponse> delta = ArgumentCaptor.forClass(UnreadDeltaResponse.class);
+        verify(messagingTemplate, times(2)).convertAndSendToUser(eq("7"), eq("/queue/unread"), delta.capture());
+        assertThat(delta.getAllValues()).allMatch(UnreadDeltaResponse::isFull);
+    }
+
+    @Test
+    @DisplayName("안 읽은 메시지가 없어도 구독 직후 빈 전체 상태를 전송")
+    void sendsEmptyFullState() {
+        // given
+        given(unreadSummaryStore.isEnabled()).willReturn(true);
+        given(unreadSummaryStore.getSummary(7L)).willReturn(summary(Map.of(), Map.of()));
+        userSessionRegistry.onConnected(connectedEvent("session-1", 7L));
+
+        // when
+        publisher.onSubscribe(subscribeEvent("session-1", 7L, "/user/queue/unread"));
+        publisher.flush();
+
+        // then
+        ArgumentCaptor<UnreadDeltaResponse> delta = ArgumentCaptor.forClass(UnreadDeltaResponse.class);
+        verify(messagingTemplate).convertAndSendToUser(eq("7"), eq("/queue/unread"), delta.capture());
+        assertThat(delta.getValue().isFull()).isTrue();
+        assertThat(delta.getValue().getChannels()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("구독 중인 사용자의 요약이 캐시에서 빠지면 다시 계산해 바뀐 항목만 전송")
+    void recomputesEvictedSummary() {
+        // given
+        given(unreadSummaryStore.isEnabled()).willReturn(true);
+        given(unreadSummaryStore.getSummary(7L)).willReturn(
+                summary(Map.of(100L, 1L), Map.of(10L, 1L)),
+                summary(Map.of(100L, 3L), Map.of(10L, 3L)));
+        userSessionRegistry.onConnected(connectedEvent("session-1", 7L));
+        publisher.markDirty(7L);
+        publisher.flush();
+
+        // when - 요약 만료 (그 사이 메시지는 채널 인덱스에 없어 표시되지 않음)
+        given(unreadSummaryStore.hasSummary(7L)).willReturn(false);
+        publisher.flush();
+
+        // then
+        ArgumentCaptor<UnreadDeltaResponse> delta = ArgumentCaptor.forClass(UnreadDeltaResponse.class);
+        verify(messagingTemplate, times(2)).convertAndSendToUser(eq("7"), eq("/queue/unread"), delta.capture());
+        assertThat(delta.getValue().getChannels()).containsExactly(Map.entry(10L, 3L));
+        assertThat(delta.getValue().isFull()).isFalse();
+    }
+
+    @Test
+    @DisplayName("접속하지 않은 사용자는 계산하지 않음")
+    void skipsOfflineUsers() {
+        // given
+        given(unreadSummaryStore.isEnabled()).willReturn(true);
+        userSessionRegistry.onConnected(connectedEvent("session-1", 7L));
+        userSessionRegistry.onDisconnect(disconnectEvent("session-1", 7L));
+
+        // when
+        publisher.onMessageChanged(createdEvent(10L, 1L));
+        publisher.markDirty(7L);
+        publisher.flush();
+
+        // then
+        assertThat(userSessionRegistry.isOnline(7L)).isFalse();
+        verify(unreadSummaryStore, never()).getSummary(anyLong());
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any());
+    }
+
+    private static UnreadSummaryResponse summary(Map<Long, Long> workspaces, Map<Long, Long> channels) {
+        return new UnreadSummaryResponse(workspaces, channels);
+    }
+
+    private static MessageChangedEvent createdEvent(Long channelId, Long messageId) {
+        MessageResponse response = new MessageResponse(messageId, channelId, 1L, "홍길동", "안녕하세요",
+                null, LocalDateTime.now(), null, null, false, "CREATED");
+        return new MessageChangedEvent(channelId, response, messageId);
+    }
+
+    private SessionConnectedEvent connectedEvent(String sessionId, Long userId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECTED);
+        accessor.setSessionId(sessionId);
+        return new SessionConnectedEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), user(userId));
+    }
+
+    private SessionSubscribeEvent subscribeEvent(String sessionId, Long userId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId("sub-1");
+        accessor.setDestination(destination);
+        return new SessionSubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), user(userId));
+    }
+
+    private SessionDisconnectEvent disconnectEvent(String sessionId, Long userId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        return new SessionDisconnectEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()),
+                sessionId, CloseStatus.NORMAL, user(userId));
+    }
+
+    private static UsernamePasswordAuthenticationToken user(Long userId) {
+        return new UsernamePasswordAuthenticationToken(userId, null, Collections.emptyList());
+    }
+}
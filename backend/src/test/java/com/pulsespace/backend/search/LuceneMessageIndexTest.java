@@ -0,0 +1,165 @@
+package com.pulsespace.backend.search;
+
+import com.pulsespace.backend.domain.channel.ChannelsDeletedEvent;
+import com.pulsespace.backend.domain.message.MessageChangedEvent;
+import com.pulsespace.backend.dto.response.MessageResponse;
+import com.pulsespace.backend.repository.ChannelMemberRepository;
+import com.pulsespace.backend.repository.MessageCursorReader;
+import com.pulsespace.backend.repository.MessageSearchHit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LuceneMessageIndexTest {
+
+    @TempDir
+    Path indexPath;
+
+    @Mock
+    private MessageCursorReader messageCursorReader;
+
+    @Mock
+    private ChannelMemberRepository channelMemberRepository;
+
+    private LuceneMessageIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = newIndex(1000);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    @DisplayName("이벤트로 색인한 메시지는 refresh 후 속한 채널에서만 검색")
+    void filtersByMembership() throws IOException {
+        // given
+        given(channelMemberRepository.findChannelIdsByUserId(1L)).willReturn(List.of(1L));
+        index.onMessageChanged(event(1L, 10L, "오늘 배포 일정", "CREATED"));
+        index.onMessageChanged(event(2L, 11L, "배포 완료", "CREATED"));
+        index.refresh();
+
+        // when
+        List<MessageSearchHit> hits = index.search(1L, null, "배포", null, null, 10);
+
+        // then
+        assertThat(hits).extracting(hit -> hit.row().id()).containsExactly(10L);
+        assertThat(hits.get(0).row().content()).isEqualTo("오늘 배포 일정");
+    }
+
+    @Test
+    @DisplayName("수정은 문서를 교체하고 삭제는 제거")
+    void updatesAndDeletes() throws IOException {
+        // given
+        index.onMessageChanged(event(1L, 10L, "배포 일정", "CREATED"));
+        index.onMessageChanged(event(1L, 11L, "배포 완료", "CREATED"));
+        index.onMessageChanged(event(1L, 10L, "회의 일정", "UPDATED"));
+        index.onMessageChanged(new MessageChangedEvent(1L, new MessageResponse(11L, 1L, 2L, "홍길동", "배포 완료", null,
+                null, null, LocalDateTime.now(), true, "DELETED")));
+        index.refresh();
+
+        // when & then
+        assertThat(index.search(1L, 1L, "배포", null, null, 10)).isEmpty();
+        assertThat(index.search(1L, 1L, "회의", null, null, 10)).extracting(hit -> hit.row().id()).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("채널 삭제 이벤트로 그 채널의 문서를 지우고 채널 집합 필터도 다시 조회")
+    void deletesChannelDocuments() throws IOException {
+        // given
+        given(channelMemberRepository.findChannelIdsByUserId(1L)).willReturn(List.of(1L, 2L), List.of(2L));
+        index.onMessageChanged(event(1L, 10L, "배포 일정", "CREATED"));
+        index.onMessageChanged(event(2L, 11L, "배포 완료", "CREATED"));
+        index.refresh();
+        assertThat(index.search(1L, null, "배포", null, null, 10)).hasSize(2);
+
+        // when
+        index.onChannelsDeleted(new ChannelsDeletedEvent(List.of(1L)));
+        index.refresh();
+
+        // then
+        assertThat(index.search(1L, 1L, "배포", null, null, 10)).isEmpty();
+        assertThat(index.search(1L, null, "배포", null, null, 10)).extracting(hit -> hit.row().id()).containsExactly(11L);
+        verify(channelMemberRepository, times(2)).findChannelIdsByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("점수 → ID 내림차순 keyset으로 다음 페이지 조회")
+    void pagesAfterCursor() throws IOException {
+        // given
+        for (long id = 1; id <= 5; id++) {
+            index.onMessageChanged(event(1L, id, "배포", "CREATED"));
+        }
+        index.refresh();
+
+        // when
+        List<MessageSearchHit> first = index.search(1L, 1L, "배포", null, null, 2);
+        MessageSearchHit last = first.get(first.size() - 1);
+        List<MessageSearchHit> second = index.search(1L, 1L, "배포", last.rank(), last.row().id(), 10);
+
+        // then
+        assertThat(first).extracting(hit -> hit.row().id()).containsExactly(5L, 4L);
+        assertThat(second).extracting(hit -> hit.row().id()).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("재시작 시 커밋된 워터마크보다 overlap 만큼 앞에서 다시 이어받기")
+    void catchesUpWithOverlap() throws Exception {
+        // given - 빈 인덱스에서 시작해 메시지 5까지 색인 후 종료 (워터마크 5 커밋)
+        index.start();
+        awaitReady(index);
+        for (long id = 1; id <= 5; id++) {
+            index.onMessageChanged(event(1L, id, "배포", "CREATED"));
+        }
+        index.close();
+        index = newIndex(2);
+
+        // when
+        index.start();
+        awaitReady(index);
+
+        // then - 워터마크 직전의 메시지 4, 5도 다시 읽는다
+        verify(messageCursorReader).forEach(eq(0L), any());
+        verify(messageCursorReader).forEach(eq(3L), any());
+    }
+
+    private LuceneMessageIndex newIndex(long catchUpOverlap) {
+        return new LuceneMessageIndex(messageCursorReader, channelMemberRepository, new SimpleMeterRegistry(),
+                indexPath.toString(), false, catchUpOverlap);
+    }
+
+    private static void awaitReady(LuceneMessageIndex index) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!index.isReady() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(index.isReady()).isTrue();
+    }
+
+    private static MessageChangedEvent event(Long channelId, Long id, String content, String type) {
+        return new MessageChangedEvent(channelId, new MessageResponse(id, channelId, 2L, "홍길동", content, null,
+                LocalDateTime.of(2026, 1, 1, 12, 0), null, null, false, type));
+    }
+}
@@ -1,10 +1,17 @@
 package com.pulsespace.backend.service;
 
+import com.pulsespace.backend.cache.ChannelMembershipCache;
+import com.pulsespace.backend.cache.ReadMarkerBuffer;
+import com.pulsespace.backend.cache.RecentMessageCache;
+import com.pulsespace.backend.cache.SharedRecentMessageCache;
+import com.pulsespace.backend.cache.UnreadSummaryStore;
 import com.pulsespace.backend.domain.channel.Channel;
 import com.pulsespace.backend.domain.channel.ChannelMember;
+import com.pulsespace.backend.domain.channel.ChannelsDeletedEvent;
 import com.pulsespace.backend.domain.user.User;
 import com.pulsespace.backend.domain.workspace.Workspace;
 import com.pulsespace.backend.domain.workspace.WorkspaceMember;
+import com.pulsespace.backend.dto.response.ChannelResponse;
 import com.pulsespace.backend.exception.BusinessException;
 import com.pulsespace.backend.exception.ErrorCode;
 import com.pulsespace.backend.repository.*;
@@ -15,9 +22,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -47,6 +57,24 @@ class ChannelServiceTest {
     @Mock
     private MessageRepository messageRepository;
 
+    @Mock
+    private ChannelMembershipCache channelMembershipCache;
+
+    @Mock
+    private ReadMarkerBuffer readMarkerBuffer;
+
+    @Mock
+    private UnreadSummaryStore unreadSummaryStore;
+
+    @Mock
+    private RecentMessageCache recentMessageCache;
+
+    @Mock
+    private SharedRecentMessageCache sharedRecentMessageCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Nested
     @DisplayName("채널 생성")
     class CreateChannel {
@@ -101,6 +129,81 @@ class ChannelServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("워크스페이스 채널 목록 조회")
+    class GetWorkspaceChannels {
+
+        private Channel channel() {
+            User user = User.builder().id(1L).email("test@test.com").passwordHash("test123").name("홍길동").build();
+            Workspace workspace = Workspace.builder().id(1L).name("테스트워크스페이스").owner(user).build();
+            return Channel.builder()
+                    .id(10L)
+                    .workspace(workspace)
+                    .name("general")
+                    .visibility(Channel.ChannelVisibility.PUBLIC)
+                    .lastMessageId(500L)
+                    .lastMessageSeq(42L)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("안 읽은 수는 쿼리의 순번 차이를 그대로 사용")
+        void unreadCountFromSequence() {
+            // given
+            given(workspaceMemberRepository.existsByWorkspaceIdAndUserId(1L, 1L)).willReturn(true);
+            // (Channel, hasUnread, isMember, lastReadMessageId, unreadCount)
+            given(channelRepository.findVisibleChannelsWithUnreadByWorkspaceIdAndUserId(1L, 1L))
+                    .willReturn(List.<Object[]>of(new Object[]{channel(), true, true, 400L, 7L}));
+
+            // when
+            List<ChannelResponse> result = channelService.getWorkspaceChannels(1L, 1L);
+
+            // then
+            assertThat(result).singleElement().satisfies(response -> {
+                assertThat(response.isHasUnread()).isTrue();
+                assertThat(response.getUnreadCount()).isEqualTo(7L);
+            });
+        }
+
+        @Test
+        @DisplayName("반영 전 읽음 위치가 마지막 메시지까지면 안 읽은 수 0")
+        void pendingReadMarkerClearsCount() {
+            // given
+            given(workspaceMemberRepository.existsByWorkspaceIdAndUserId(1L, 1L)).willReturn(true);
+            given(channelRepository.findVisibleChannelsWithUnreadByWorkspaceIdAndUserId(1L, 1L))
+                    .willReturn(List.<Object[]>of(new Object[]{channel(), true, true, 400L, 7L}));
+            given(readMarkerBuffer.getPending(10L, 1L)).willReturn(500L);
+
+            // when
+            List<ChannelResponse> result = channelService.getWorkspaceChannels(1L, 1L);
+
+            // then
+            assertThat(result).singleElement().satisfies(response -> {
+                assertThat(response.isHasUnread()).isFalse();
+                assertThat(response.getUnreadCount()).isZero();
+            });
+        }
+
+        @Test
+        @DisplayName("반영 전 읽음 위치가 중간이면 DB 순번 차이 유지 (채널 마지막 메시지는 DB 값)")
+        void pendingReadMarkerBeforeLastMessage() {
+            // given
+            given(workspaceMemberRepository.existsByWorkspaceIdAndUserId(1L, 1L)).willReturn(true);
+            given(channelRepository.findVisibleChannelsWithUnreadByWorkspaceIdAndUserId(1L, 1L))
+                    .willReturn(List.<Object[]>of(new Object[]{channel(), true, true, 400L, 7L}));
+            given(readMarkerBuffer.getPending(10L, 1L)).willReturn(450L);
+
+            // when
+            List<ChannelResponse> result = channelService.getWorkspaceChannels(1L, 1L);
+
+            // then
+            assertThat(result).singleElement().satisfies(response -> {
+                assertThat(response.isHasUnread()).isTrue();
+                assertThat(response.getUnreadCount()).isEqualTo(7L);
+            });
+        }
+    }
+
     @Nested
     @DisplayName("채널 멤버 추가")
     class AddMember {
@@ -344,6 +447,9 @@ class ChannelServiceTest {
             verify(messageRepository, times(1)).deleteByChannelId(1L);
             verify(channelMemberRepository, times(1)).deleteByChannelId(1L);
             verify(channelRepository, times(1)).delete(channel);
+            verify(recentMessageCache).evictChannels(List.of(1L));
+            verify(sharedRecentMessageCache).evictChannels(List.of(1L));
+            verify(eventPublisher).publishEvent(new ChannelsDeletedEvent(List.of(1L)));
         }
 
         @Test
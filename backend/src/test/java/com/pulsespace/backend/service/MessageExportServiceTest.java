@@ -0,0 +1,150 @@
+package com.pulsespace.backend.service;
+
+import com.pulsespace.backend.cache.ChannelMembershipCache;
+import com.pulsespace.backend.cache.UserProfileCache;
+import com.pulsespace.backend.exception.BusinessException;
+import com.pulsespace.backend.exception.ErrorCode;
+import com.pulsespace.backend.repository.MessageCursorReader;
+import com.pulsespace.backend.repository.MessageRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class MessageExportServiceTest {
+
+    @Mock
+    private MessageCursorReader messageCursorReader;
+
+    @Mock
+    private ChannelMembershipCache channelMembershipCache;
+
+    @Mock
+    private UserProfileCache userProfileCache;
+
+    private MessageExportService messageExportService;
+
+    @BeforeEach
+    void setUp() {
+        messageExportService = new MessageExportService(messageCursorReader, channelMembershipCache, userProfileCache,
+                JsonMapper.builder().build(), 1);
+    }
+
+    @Test
+    @DisplayName("afterId 이후 메시지를 한 줄에 하나씩 기록")
+    void writesJsonLines() throws IOException {
+        // given
+        givenRows(5L, row(6L), row(7L));
+        given(channelMembershipCache.isMember(1L, 1L)).willReturn(true);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        MessageExportService.Permit permit = messageExportService.begin(1L, 1L);
+        messageExportService.export(permit, 1L, 5L, false, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"id\":6").contains("\"senderName\":\"홍길동\"");
+        assertThat(lines[1]).contains("\"id\":7");
+    }
+
+    @Test
+    @DisplayName("gzip 형식은 압축을 풀면 같은 JSON Lines")
+    void writesGzip() throws IOException {
+        // given
+        givenRows(0L, row(1L));
+        given(channelMembershipCache.isMember(1L, 1L)).willReturn(true);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        MessageExportService.Permit permit = messageExportService.begin(1L, 1L);
+        messageExportService.export(permit, 1L, 0L, true, out);
+
+        // then
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).startsWith("{").endsWith("}\n");
+        }
+    }
+
+    @Test
+    @DisplayName("동시 내보내기 수를 넘으면 EXPORT_BUSY 예외 발생")
+    void rejectsWhenBusy() {
+        // given
+        given(channelMembershipCache.isMember(1L, 1L)).willReturn(true);
+        messageExportService.begin(1L, 1L);
+
+        // when & then
+        assertThatThrownBy(() -> messageExportService.begin(1L, 1L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EXPORT_BUSY);
+    }
+
+    @Test
+    @DisplayName("스트리밍이 시작되지 못해도 자리를 반납하면 다음 내보내기 가능 (중복 반납은 무시)")
+    void releasesPermitWithoutExport() {
+        // given
+        given(channelMembershipCache.isMember(1L, 1L)).willReturn(true);
+        MessageExportService.Permit permit = messageExportService.begin(1L, 1L);
+
+        // when - 비동기 완료 콜백이 두 번 불려도 한 자리만 반납
+        permit.release();
+        permit.release();
+
+        // then
+        MessageExportService.Permit next = messageExportService.begin(1L, 1L);
+        assertThat(next).isNotNull();
+        assertThatThrownBy(() -> messageExportService.begin(1L, 1L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EXPORT_BUSY);
+    }
+
+    @Test
+    @DisplayName("채널 멤버가 아니면 NOT_MEMBER 예외 발생")
+    void notMember() {
+        // given
+        given(channelMembershipCache.isMember(1L, 1L)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> messageExportService.begin(1L, 1L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_MEMBER);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRows(long afterId, MessageRow... rows) {
+        given(userProfileCache.getNames(anyCollection())).willReturn(Map.of(2L, "홍길동"));
+        willAnswer(invocation -> {
+            Consumer<MessageRow> consumer = invocation.getArgument(2);
+            for (MessageRow row : rows) {
+                consumer.accept(row);
+            }
+            return null;
+        }).given(messageCursorReader).forEachInChannel(eq(1L), eq(afterId), any(Consumer.class));
+    }
+
+    private static MessageRow row(Long id) {
+        return new MessageRow(id, 1L, 2L, "내용 " + id, null, LocalDateTime.of(2026, 1, 1, 12, 0), null, null);
+    }
+}
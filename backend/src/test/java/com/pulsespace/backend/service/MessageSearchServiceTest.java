@@ -0,0 +1,139 @@
+package com.pulsespace.backend.service;
+
+import com.pulsespace.backend.cache.ChannelMembershipCache;
+import com.pulsespace.backend.cache.UserProfileCache;
+import com.pulsespace.backend.dto.response.MessageResponse;
+import com.pulsespace.backend.dto.response.MessageSearchResponse;
+import com.pulsespace.backend.exception.BusinessException;
+import com.pulsespace.backend.exception.ErrorCode;
+import com.pulsespace.backend.repository.MessageRow;
+import com.pulsespace.backend.repository.MessageSearchHit;
+import com.pulsespace.backend.repository.MessageSearchRepository;
+import com.pulsespace.backend.search.LuceneMessageIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class MessageSearchServiceTest {
+
+    @Mock
+    private MessageSearchRepository messageSearchRepository;
+
+    @Mock
+    private ObjectProvider<LuceneMessageIndex> luceneMessageIndex;
+
+    @Mock
+    private ChannelMembershipCache channelMembershipCache;
+
+    @Mock
+    private UserProfileCache userProfileCache;
+
+    private MessageSearchService messageSearchService;
+
+    @BeforeEach
+    void setUp() {
+        messageSearchService = new MessageSearchService(messageSearchRepository, luceneMessageIndex, channelMembershipCache, userProfileCache,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("한 건 더 읽히면 마지막 결과의 순위:ID를 다음 커서로")
+    void nextCursorFromLastHit() {
+        // given
+        given(messageSearchRepository.search(1L, null, "배포", null, null, 3))
+                .willReturn(List.of(hit(30L, 0.9f), hit(20L, 0.5f), hit(10L, 0.5f)));
+        given(userProfileCache.getNames(Set.of(2L))).willReturn(Map.of(2L, "홍길동"));
+
+        // when
+        MessageSearchResponse result = messageSearchService.search(1L, "  배포 ", null, null, 2);
+
+        // then
+        assertThat(result.getMessages()).extracting(MessageResponse::getId).containsExactly(30L, 20L);
+        assertThat(result.getMessages()).extracting(MessageResponse::getSenderName).containsOnly("홍길동");
+        assertThat(result.getNextCursor()).isEqualTo("0.5:20");
+    }
+
+    @Test
+    @DisplayName("커서의 순위와 ID로 다음 페이지 조회, 마지막 페이지면 커서 없음")
+    void pagesWithCursor() {
+        // given
+        given(messageSearchRepository.search(1L, null, "배포", 0.5f, 20L, 3)).willReturn(List.of(hit(10L, 0.5f)));
+        given(userProfileCache.getNames(Set.of(2L))).willReturn(Map.of(2L, "홍길동"));
+
+        // when
+        MessageSearchResponse result = messageSearchService.search(1L, "배포", null, "0.5:20", 2);
+
+        // then
+        assertThat(result.getMessages()).extracting(MessageResponse::getId).containsExactly(10L);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("검색어가 비었거나 커서 형식이 틀리면 INVALID_SEARCH_REQUEST 예외 발생")
+    void rejectsInvalidRequest() {
+        // when & then
+        assertThatThrownBy(() -> messageSearchService.search(1L, "  ", null, null, null))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_SEARCH_REQUEST);
+        assertThatThrownBy(() -> messageSearchService.search(1L, "배포", null, "abc", null))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_SEARCH_REQUEST);
+        verifyNoInteractions(messageSearchRepository);
+    }
+
+    @Test
+    @DisplayName("채널을 지정했는데 멤버가 아니면 NOT_MEMBER 예외 발생")
+    void notMember() {
+        // given
+        given(channelMembershipCache.isMember(5L, 1L)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> messageSearchService.search(1L, "배포", 5L, null, null))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_MEMBER);
+        verifyNoInteractions(messageSearchRepository);
+    }
+
+    @Test
+    @DisplayName("Lucene 인덱스가 준비되면 우선 사용, 실패하면 PostgreSQL로 처리")
+    void prefersLuceneWhenReady() throws Exception {
+        // given
+        LuceneMessageIndex index = mock(LuceneMessageIndex.class);
+        given(luceneMessageIndex.getIfAvailable()).willReturn(index);
+        given(index.isReady()).willReturn(true);
+        given(index.search(1L, null, "배포", null, null, 21))
+                .willReturn(List.of(hit(30L, 2.5f)))
+                .willThrow(new IOException("closed"));
+        given(messageSearchRepository.search(1L, null, "배포", null, null, 21)).willReturn(List.of(hit(10L, 0.1f)));
+        given(userProfileCache.getNames(Set.of(2L))).willReturn(Map.of(2L, "홍길동"));
+
+        // when
+        MessageSearchResponse fromLucene = messageSearchService.search(1L, "배포", null, null, null);
+        MessageSearchResponse fallback = messageSearchService.search(1L, "배포", null, null, null);
+
+        // then
+        assertThat(fromLucene.getMessages()).extracting(MessageResponse::getId).containsExactly(30L);
+        assertThat(fallback.getMessages()).extracting(MessageResponse::getId).containsExactly(10L);
+    }
+
+    private static MessageSearchHit hit(Long id, float rank) {
+        return new MessageSearchHit(new MessageRow(id, 1L, 2L, "배포 " + id, null, null, null, null), rank);
+    }
+}
@@ -0,0 +1,196 @@
+package com.pulsespace.backend.service;
+
+import com.pulsespace.backend.cache.ChannelMembershipCache;
+import com.pulsespace.backend.cache.UserProfileCache;
+import com.pulsespace.backend.domain.channel.Channel;
+import com.pulsespace.backend.domain.channel.ChannelMember;
+import com.pulsespace.backend.domain.user.User;
+import com.pulsespace.backend.domain.workspace.Workspace;
+import com.pulsespace.backend.dto.response.MessageResponse;
+import com.pulsespace.backend.repository.ChannelMemberRepository;
+import com.pulsespace.backend.repository.ChannelRepository;
+import com.pulsespace.backend.repository.UserRepository;
+import com.pulsespace.backend.repository.WorkspaceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 PostgreSQL(local 프로필, localhost:5432)에서 메시지 한 건 전송 시 실행되는 JDBC 문장 수 확인
+ * DataSource를 감싸 Statement 실행을 모두 기록하고, DB가 없으면 건너뜀 (테스트 데이터는 롤백)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.password=${DB_PASSWORD:}",
+        "jwt.secret=${JWT_SECRET:pulsespace-test-secret-pulsespace-test-secret-0123456789}",
+        "jwt.expiration=${JWT_EXPIRATION:3600000}",
+        "jwt.refresh-expiration=${JWT_REFRESH_EXPIRATION:1209600000}"
+})
+@ActiveProfiles("local")
+@EnabledIf("isDatabaseAvailable")
+@Transactional
+class MessageServiceStatementCountTest {
+
+    private static final String URL = "jdbc:postgresql://localhost:5432/pulsespace";
+
+    // 실행된 SQL (Statement.execute* 호출마다 한 건)
+    private static final List<String> EXECUTED = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private MessageService messageService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private ChannelRepository channelRepository;
+
+    @Autowired
+    private ChannelMemberRepository channelMemberRepository;
+
+    @Autowired
+    private ChannelMembershipCache channelMembershipCache;
+
+    @Autowired
+    private UserProfileCache userProfileCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    static boolean isDatabaseAvailable() {
+        try (Connection ignored = DriverManager.getConnection(URL, "pulsespace", System.getenv().getOrDefault("DB_PASSWORD", ""))) {
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    @Test
+    @DisplayName("메시지 전송은 쓰기 문장 한 번 (멤버십/발신자 이름은 캐시)")
+    void sendIsOneWriteStatement() {
+        // given - 멤버십과 이름 캐시를 먼저 채움
+        User user = userRepository.save(User.builder()
+                .email("statement-" + System.nanoTime() + "@test.com")
+                .passwordHash("test123")
+                .name("홍길동")
+                .build());
+        Workspace workspace = workspaceRepository.save(Workspace.builder().name("워크스페이스").owner(user).build());
+        Channel channel = channelRepository.save(Channel.builder()
+                .workspace(workspace)
+                .name("채널")
+                .visibility(Channel.ChannelVisibility.PUBLIC)
+                .build());
+        channelMemberRepository.save(ChannelMember.builder()
+                .channel(channel)
+                .user(user)
+                .role(ChannelMember.ChannelRole.MEMBER)
+                .build());
+        channelMemberRepository.flush();
+        channelMembershipCache.isMember(channel.getId(), user.getId());
+        userProfileCache.getName(user.getId());
+        EXECUTED.clear();
+
+        // when
+        MessageResponse response = messageService.sendMessage(user.getId(), channel.getId(), "안녕하세요", null);
+
+        // then
+        List<String> statements = List.copyOf(EXECUTED);
+        assertThat(statements).as("executed=%s", statements).hasSize(1);
+        assertThat(statements.get(0)).contains("UPDATE channels").contains("INSERT INTO messages");
+        assertThat(response.getSenderName()).isEqualTo("홍길동");
+        assertThat(jdbcTemplate.queryForObject("SELECT last_message_id FROM channels WHERE id = ?", Long.class, channel.getId()))
+                .isEqualTo(response.getId());
+    }
+
+    @TestConfiguration
+    static class StatementCountingConfig {
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && !(bean instanceof CountingDataSource)
+                            ? new CountingDataSource(dataSource)
+                            : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * Connection/Statement를 프록시로 감싸 execute* 호출을 기록하는 DataSource
+     */
+    static class CountingDataSource extends DelegatingDataSource {
+
+        CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return connection(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return connection(super.getConnection(username, password));
+        }
+
+        private static Connection connection(Connection target) {
+            return (Connection) Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        Object result = invoke(target, method, args);
+                        if (result instanceof Statement statement && method.getName().startsWith("prepare")) {
+                            return statement(statement, method.getReturnType(), (String) args[0]);
+                        }
+                        if (result instanceof Statement statement) {
+                            return statement(statement, method.getReturnType(), null);
+                        }
+                        return result;
+                    });
+        }
+
+        private static Object statement(Statement target, Class<?> type, String preparedSql) {
+            return Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(),
+                    new Class<?>[]{type}, (proxy, method, args) -> {
+                        if (method.getName().startsWith("execute")) {
+                            EXECUTED.add(preparedSql != null ? preparedSql : String.valueOf(args != null ? args[0] : null));
+                        }
+                        return invoke(target, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
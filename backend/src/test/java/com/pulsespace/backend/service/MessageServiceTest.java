@@ -1,11 +1,22 @@
 package com.pulsespace.backend.service;
 
+import com.pulsespace.backend.cache.ChannelMembershipCache;
+import com.pulsespace.backend.cache.ChannelPageVersions;
+import com.pulsespace.backend.cache.ReadMarkerBuffer;
+import com.pulsespace.backend.cache.UnreadSummaryStore;
+import com.pulsespace.backend.cache.RecentMessageCache;
+import com.pulsespace.backend.cache.SharedRecentMessageCache;
+import com.pulsespace.backend.cache.UserProfileCache;
 import com.pulsespace.backend.domain.channel.Channel;
 import com.pulsespace.backend.domain.message.Message;
+import com.pulsespace.backend.domain.message.MessageChangedEvent;
 import com.pulsespace.backend.domain.user.User;
 import com.pulsespace.backend.domain.workspace.Workspace;
+import com.pulsespace.backend.dto.response.MessageResponse;
+import com.pulsespace.backend.dto.response.ReplyPreviewResponse;
 import com.pulsespace.backend.exception.BusinessException;
 import com.pulsespace.backend.exception.ErrorCode;
+import com.pulsespace.backend.messaging.UnreadDeltaPublisher;
 import com.pulsespace.backend.repository.*;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,10 +25,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -37,12 +54,42 @@ class MessageServiceTest {
     @Mock
     private ChannelRepository channelRepository;
 
+    @Mock
+    private ChannelSequenceRepository channelSequenceRepository;
+
     @Mock
     private ChannelMemberRepository channelMemberRepository;
 
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ChannelMembershipCache channelMembershipCache;
+
+    @Mock
+    private ReadMarkerBuffer readMarkerBuffer;
+
+    @Mock
+    private UnreadSummaryStore unreadSummaryStore;
+
+    @Mock
+    private UnreadDeltaPublisher unreadDeltaPublisher;
+
+    @Mock
+    private UserProfileCache userProfileCache;
+
+    @Mock
+    private RecentMessageCache recentMessageCache;
+
+    @Mock
+    private SharedRecentMessageCache sharedRecentMessageCache;
+
+    @Mock
+    private ChannelPageVersions channelPageVersions;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Nested
     @DisplayName("메시지 전송")
     class SendMessage {
@@ -51,57 +98,51 @@ class MessageServiceTest {
         @DisplayName("정상 전송")
         void success() {
             // given
-            User user = User.builder()
-                    .id(1L)
-                    .email("test@test.com")
-                    .passwordHash("test123")
-                    .name("홍길동")
-                    .build();
+            given(channelMembershipCache.isMember(1L, 1L)).willReturn(true);
+            given(channelSequenceRepository.append(eq(1L), eq(1L), eq("안녕하세요"), isNull(), any(LocalDateTime.class)))
+                    .willReturn(new ChannelSequenceRepository.Appended(10L, 8L));
+            given(userProfileCache.getName(1L)).willReturn("홍길동");
 
-            Workspace workspace = Workspace.builder()
-                    .id(1L)
-                    .name("테스트워크스페이스")
-                    .owner(user)
-                    .build();
-
-            Channel channel = Channel.builder()
-                    .id(1L)
-                    .name("테스트채널")
-                    .workspace(workspace)
-                    .visibility(Channel.ChannelVisibility.PUBLIC)
-                    .build();
+            // when
+            MessageResponse response = messageService.sendMessage(1L, 1L, "안녕하세요", null);
 
-            Message message = Message.builder()
-                    .id(1L)
-                    .channel(channel)
-                    .sender(user)
-                    .content("안녕하세요")
-                    .build();
+            // then
+            assertThat(response.getId()).isEqualTo(10L);
+            assertThat(response.getSenderName()).isEqualTo("홍길동");
+            assertThat(response.getType()).isEqualTo("CREATED");
+            verify(eventPublisher).publishEvent(new MessageChangedEvent(1L, response, 8L));
+        }
 
-            given(channelMemberRepository.existsByChannelIdAndUserId(1L, 1L)).willReturn(true);
-            given(userRepository.findById(1L)).willReturn(Optional.of(user));
-            given(channelRepository.findById(1L)).willReturn(Optional.of(channel));
-            given(messageRepository.save(any(Message.class))).willReturn(message);
+        @Test
+        @DisplayName("전송은 순번/마지막 메시지/INSERT를 합친 한 문장만 호출")
+        void appendsInOneStatement() {
+            // given
+            given(channelMembershipCache.isMember(1L, 1L)).willReturn(true);
+            given(channelSequenceRepository.append(eq(1L), eq(1L), eq("안녕하세요"), eq(5L), any(LocalDateTime.class)))
+                    .willReturn(new ChannelSequenceRepository.Appended(10L, 8L));
+            given(userProfileCache.getName(1L)).willReturn("홍길동");
 
             // when
-            messageService.sendMessage(1L, 1L, "안녕하세요", null);
+            messageService.sendMessage(1L, 1L, "안녕하세요", 5L);
 
-            // then
-            verify(messageRepository, times(1)).save(any(Message.class));
+            // then - 엔티티 조회/저장, 별도 채널 UPDATE 없음
+            verify(channelSequenceRepository, times(1)).append(eq(1L), eq(1L), eq("안녕하세요"), eq(5L), any(LocalDateTime.class));
+            verifyNoMoreInteractions(channelSequenceRepository);
+            verifyNoInteractions(messageRepository, channelRepository, userRepository, channelMemberRepository);
         }
 
         @Test
         @DisplayName("채널 멤버가 아닌 사람이 전송 시 NOT_MEMBER 예외 발생")
         void notMember() {
             // given
-            given(channelMemberRepository.existsByChannelIdAndUserId(1L, 1L)).willReturn(false);
+            given(channelMembershipCache.isMember(1L, 1L)).willReturn(false);
 
             // when & then
             assertThatThrownBy(() -> messageService.sendMessage(1L, 1L, "안녕하세요", null))
                     .isInstanceOf(BusinessException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_MEMBER);
 
-            verify(messageRepository, never()).save(any());
+            verifyNoInteractions(channelSequenceRepository);
         }
     }
 
@@ -110,26 +151,46 @@ class MessageServiceTest {
     class GetChannelMessages {
 
         @Test
-        @DisplayName("cursorId 없으면 최신 50개 조회")
+        @DisplayName("cursorId 없으면 최신 50개 조회 (캐시 미스 시 DB)")
         void withoutCursor() {
             // given
-            given(channelMemberRepository.existsByChannelIdAndUserId(1L, 1L)).willReturn(true);
-            given(messageRepository.findTop50WithSenderByChannelId(eq(1L), any(Pageable.class))).willReturn(List.of());
+            given(channelMembershipCache.isMember(1L, 1L)).willReturn(true);
+            given(recentMessageCache.getLatest(eq(1L), any()))
+                    .willAnswer(invocation -> invocation.<Supplier<List<MessageResponse>>>getArgument(1).get());
+            given(sharedRecentMessageCache.getLatest(eq(1L), any()))
+                    .willAnswer(invocation -> invocation.<Supplier<List<MessageResponse>>>getArgument(1).get());
+            given(messageRepository.findRowsByChannelId(eq(1L), any(Pageable.class))).willReturn(List.of());
 
             // when
             messageService.getChannelMessages(1L, 1L, null);
 
             // then
-            verify(messageRepository, times(1)).findTop50WithSenderByChannelId(eq(1L), any(Pageable.class));
-            verify(messageRepository, never()).findTop50WithSenderByChannelIdAndIdLessThan(any(), any(), any());
+            verify(messageRepository, times(1)).findRowsByChannelId(eq(1L), any(Pageable.class));
+            verify(messageRepository, never()).findRowsByChannelIdAndIdLessThan(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("캐시 적중 시 SQL 없이 응답")
+        void cacheHit() {
+            // given
+            MessageResponse cached = new MessageResponse(10L, 1L, 1L, "홍길동", "안녕하세요", null, null, null, null, false, null);
+            given(channelMembershipCache.isMember(1L, 1L)).willReturn(true);
+            given(recentMessageCache.getLatest(eq(1L), any())).willReturn(List.of(cached));
+
+            // when
+            List<MessageResponse> result = messageService.getChannelMessages(1L, 1L, null);
+
+            // then
+            assertThat(result).containsExactly(cached);
+            verifyNoInteractions(messageRepository, channelMemberRepository);
         }
 
         @Test
         @DisplayName("cursorId 있으면 cursor 이전 50개 조회")
         void withCursor() {
             // given
-            given(channelMemberRepository.existsByChannelIdAndUserId(1L, 1L)).willReturn(true);
-            given(messageRepository.findTop50WithSenderByChannelIdAndIdLessThan(
+            given(channelMembershipCache.isMember(1L, 1L)).willReturn(true);
+            given(messageRepository.findRowsByChannelIdAndIdLessThan(
                     eq(1L), eq(10L), any(Pageable.class))).willReturn(List.of());
 
             // when
@@ -137,15 +198,41 @@ class MessageServiceTest {
 
             // then
             verify(messageRepository, times(1))
-                    .findTop50WithSenderByChannelIdAndIdLessThan(eq(1L), eq(10L), any(Pageable.class));
-            verify(messageRepository, never()).findTop50WithSenderByChannelId(any(), any(Pageable.class));
+                    .findRowsByChannelIdAndIdLessThan(eq(1L), eq(10L), any(Pageable.class));
+            verify(messageRepository, never()).findRowsByChannelId(any(), any(Pageable.class));
+            verifyNoInteractions(recentMessageCache);
+        }
+
+        @Test
+        @DisplayName("프로젝션 행을 엔티티 로딩 없이 응답으로 변환")
+        void mapsProjection() {
+            // given
+            LocalDateTime deletedAt = LocalDateTime.now();
+            MessageRow row = new MessageRow(9L, 1L, 2L, "안녕하세요", 3L, deletedAt.minusDays(1), null, deletedAt);
+            given(channelMembershipCache.isMember(1L, 1L)).willReturn(true);
+            given(messageRepository.findRowsByChannelIdAndIdLessThan(eq(1L), eq(10L), any(Pageable.class)))
+                    .willReturn(List.of(row));
+            given(userProfileCache.getNames(Set.of(2L))).willReturn(Map.of(2L, "홍길동"));
+
+            // when
+            List<MessageResponse> result = messageService.getChannelMessages(1L, 1L, 10L);
+
+            // then
+            assertThat(result).singleElement().satisfies(response -> {
+                assertThat(response.getId()).isEqualTo(9L);
+                assertThat(response.getSenderName()).isEqualTo("홍길동");
+                assertThat(response.getReplyToId()).isEqualTo(3L);
+                assertThat(response.getIsDeleted()).isTrue();
+                assertThat(response.getType()).isNull();
+            });
+            verifyNoInteractions(userRepository);
         }
 
         @Test
         @DisplayName("채널 멤버가 아닌 사람이 조회 시 NOT_MEMBER 예외 발생")
         void notMember() {
             // given
-            given(channelMemberRepository.existsByChannelIdAndUserId(1L, 1L)).willReturn(false);
+            given(channelMembershipCache.isMember(1L, 1L)).willReturn(false);
 
             // when & then
             assertThatThrownBy(() -> messageService.getChannelMessages(1L, 1L, null))
@@ -154,6 +241,296 @@ class MessageServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("메시지 창 조회 (after / around / size)")
+    class GetMessageWindow {
+
+        @Test
+        @DisplayName("after: 이후 메시지를 오름차순으로 읽어 내림차순으로 반환")
+        void pagesForward() {
+            // given
+            given(channelMembershipCache.isMember(1L, 1L)).willReturn(true);
+            given(messageRepository.findRowsByChannelIdAndIdGreaterThan(1L, 10L, PageRequest.of(0, 20)))
+                    .willReturn(List.of(row(11L), row(12L), row(13L)));
+
+            // when
+            List<MessageResponse> result = messageService.getChannelMessages(1L, 1L, null, 10L, null, 20);
+
+            // then
+            assertThat(result).extracting(MessageResponse::getId).containsExactly(13L, 12L, 11L);
+            verifyNoInteractions(recentMessageCache);
+        }
+
+        @Test
+        @DisplayName("around: 대상 메시지를 포함해 앞뒤 절반씩 반환")
+        void windowAround() {
+            // given
+            given(channelMembershipCache.isMember(1L, 1L)).willReturn(true);
+            given(messageRepository.findRowsByChannelIdAndIdGreaterThan(1L, 10L, PageRequest.of(0, 2)))
+                    .willReturn(List.of(row(11L), row(12L)));
+            given(messageRepository.findRowsByChannelIdAndIdLessThan(1L, 11L, PageRequest.of(0, 3)))
+                    .willReturn(List.of(row(10L), row(9L), row(8L)));
+
+            // when
+            List<MessageResponse> result = messageService.getChannelMessages(1L, 1L, null, null, 10L, 5);
+
+            // then
+            assertThat(result).extracting(MessageResponse::getId).containsExactly(12L, 11L, 10L, 9L, 8L);
+        }
+
+        @Test
+        @DisplayName("size는 1~100으로 제한")
+        void clampsSize() {
+            // given
+            given(channelMembershipCache.isMember(1L, 1L)).willReturn(true);
+            given(messageRepository.findRowsByChannelIdAndIdLessThan(eq(1L), eq(10L), any(Pageable.class))).willReturn(List.of());
+
+            // when
+            messageService.getChannelMessages(1L, 1L, 10L, null, null, 1000);
+            messageService.getChannelMessages(1L, 1L, 10L, null, null, 0);
+
+            // then
+            verify(messageRepository).findRowsByChannelIdAndIdLessThan(1L, 10L, PageRequest.of(0, 100));
+            verify(messageRepository).findRowsByChannelIdAndIdLessThan(1L, 10L, PageRequest.of(0, 1));
+        }
+
+        @Test
+        @DisplayName("기준을 두 개 이상 주면 INVALID_PAGE_REQUEST 예외 발생")
+        void rejectsMultipleAnchors() {
+            // given
+            given(channelMembershipCache.isMember(1L, 1L)).willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> messageService.getChannelMessages(1L, 1L, 10L, 5L, null, null))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_PAGE_REQUEST);
+        }
+
+        private MessageRow row(Long id) {
+            return new MessageRow(id, 1L, 1L, "내용", null, null, null, null);
+        }
+    }
+
+    @Nested
+    @DisplayName("답장 미리보기")
+    class ReplyPreviews {
+
+        @Test
+        @DisplayName("원본이 같은 페이지에 있으면 추가 조회 없이 미리보기")
+        void resolvedFromSamePage() {
+            // given
+            given(channelMembershipCache.isMember(1L, 1L)).willReturn(true);
+            given(messageRepository.findRowsByChannelIdAndIdLessThan(eq(1L), eq(20L), any(Pageable.class)))
+                    .willReturn(List.of(reply(12L, 11L, 1L), reply(11L, null, 1L)));
+            given(userProfileCache.getNames(Set.of(1L))).willReturn(Map.of(1L, "홍길동"));
+
+            // when
+            List<MessageResponse> result = messageService.getChannelMessages(1L, 1L, 20L);
+
+            // then
+            assertThat(result.get(0).getReplyPreview().getMessageId()).isEqualTo(11L);
+            assertThat(result.get(0).getReplyPreview().getSenderName()).isEqualTo("홍길동");
+            assertThat(result.get(0).getReplyPreview().getSnippet()).isEqualTo("내용 11");
+            assertThat(result.get(1).getReplyPreview()).isNull();
+            verify(messageRepository, never()).findRowsByChannelIdAndIdIn(any(), any());
+            verifyNoInteractions(recentMessageCache);
+        }
+
+        @Test
+        @DisplayName("페이지 밖 원본은 최신 페이지 캐시 확인 후 남은 ID만 한 번에 조회")
+        void batchesMissingTargets() {
+            // given
+            String longContent = "가".repeat(150);
+            LocalDateTime deletedAt = LocalDateTime.now();
+            given(channelMembershipCache.isMember(1L, 1L)).willReturn(true);
+            given(messageRepository.findRowsByChannelIdAndIdLessThan(eq(1L), eq(30L), any(Pageable.class)))
+                    .willReturn(List.of(reply(23L, 8L, 1L), reply(22L, 7L, 1L), reply(21L, 6L, 1L), reply(20L, 5L, 1L)));
+            given(recentMessageCache.peek(1L)).willReturn(List.of(
+                    new MessageResponse(5L, 1L, 2L, "김철수", "캐시 원본", null, null, null, null, false, null)));
+            given(messageRepository.findRowsByChannelIdAndIdIn(eq(1L), argThat(ids -> Set.copyOf(ids).equals(Set.of(6L, 7L, 8L)))))
+                    .willReturn(List.of(
+                            new MessageRow(6L, 1L, 2L, longContent, null, null, null, null),
+                            new MessageRow(7L, 1L, 2L, "삭제된 원본", null, null, null, deletedAt)));
+            given(userProfileCache.getNames(Set.of(1L))).willReturn(Map.of(1L, "홍길동"));
+            given(userProfileCache.getNames(Set.of(2L))).willReturn(Map.of(2L, "김철수"));
+
+            // when
+            List<MessageResponse> result = messageService.getChannelMessages(1L, 1L, 30L);
+
+            // then
+            assertThat(result.get(3).getReplyPreview().getSnippet()).isEqualTo("캐시 원본");
+            assertThat(result.get(2).getReplyPreview().getSnippet())
+                    .hasSize(ReplyPreviewResponse.SNIPPET_LENGTH + 1)
+                    .endsWith("…");
+            assertThat(result.get(1).getReplyPreview().getIsDeleted()).isTrue();
+            assertThat(result.get(1).getReplyPreview().getSnippet()).isNull();
+            assertThat(result.get(1).getReplyPreview().getSenderName()).isEqualTo("김철수");
+            assertThat(result.get(0).getReplyPreview().getIsDeleted()).isTrue();
+            assertThat(result.get(0).getReplyPreview().getSenderId()).isNull();
+            verify(messageRepository, times(1)).findRowsByChannelIdAndIdIn(eq(1L), any());
+        }
+
+        private MessageRow reply(Long id, Long replyToId, Long senderId) {
+            return new MessageRow(id, 1L, senderId, "내용 " + id, replyToId, null, null, null);
+        }
+    }
+
+    @Nested
+    @DisplayName("메시지 페이지 ETag")
+    class GetPageTag {
+
+        @Test
+        @DisplayName("채널 버전과 조회 조건으로 만들고 DB는 조회하지 않음")
+        void noDatabaseAccess() {
+            // given
+            given(channelMembershipCache.isMember(1L, 1L)).willReturn(true);
+            given(channelPageVersions.getTag(1L)).willReturn("a1-10-0");
+
+            // when
+            String eTag = messageService.getPageTag(1L, 1L, null, null, null, 500);
+
+            // then
+            assertThat(eTag).isEqualTo("\"m1-a1-10-0-null-null-null-100\"");
+            verifyNoInteractions(messageRepository, channelMemberRepository, userRepository);
+        }
+
+        @Test
+        @DisplayName("채널 멤버가 아니면 NOT_MEMBER 예외 발생")
+        void notMember() {
+            // given
+            given(channelMembershipCache.isMember(1L, 1L)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> messageService.getPageTag(1L, 1L, null, null, null, null))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_MEMBER);
+        }
+    }
+
+    @Nested
+    @DisplayName("재연결 동기화 조회")
+    class GetMessagesAfter {
+
+        @Test
+        @DisplayName("마지막으로 본 메시지 이후를 페이지 크기만큼 조회")
+        void pagesAfterLastSeen() {
+            // given
+            given(channelMembershipCache.isMember(1L, 1L)).willReturn(true);
+            given(messageRepository.findRowsByChannelIdAndIdGreaterThan(eq(1L), eq(10L), any(Pageable.class)))
+                    .willReturn(List.of());
+
+            // when
+            List<MessageResponse> result = messageService.getMessagesAfter(1L, 1L, 10L, 100);
+
+            // then
+            assertThat(result).isEmpty();
+            verify(messageRepository).findRowsByChannelIdAndIdGreaterThan(1L, 10L, PageRequest.of(0, 100));
+        }
+
+        @Test
+        @DisplayName("누락 개수 상한은 limit 위치의 ID 하나로 확인")
+        void checksGapWithSingleRow() {
+            // given
+            given(channelMembershipCache.isMember(1L, 1L)).willReturn(true);
+            given(messageRepository.findIdsByChannelIdAndIdGreaterThan(1L, 10L, PageRequest.of(1000, 1)))
+                    .willReturn(List.of(1011L));
+
+            // when & then
+            assertThat(messageService.hasMoreMessagesAfter(1L, 1L, 10L, 1000)).isTrue();
+        }
+
+        @Test
+        @DisplayName("멤버가 아니면 누락 개수 확인 전에 NOT_MEMBER 예외 (DB 조회 없음)")
+        void checksMembershipBeforeGap() {
+            // given
+            given(channelMembershipCache.isMember(1L, 1L)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> messageService.hasMoreMessagesAfter(1L, 1L, 10L, 1000))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_MEMBER);
+            verifyNoInteractions(messageRepository);
+        }
+
+        @Test
+        @DisplayName("채널 멤버가 아니면 NOT_MEMBER 예외 발생")
+        void notMember() {
+            // given
+            given(channelMembershipCache.isMember(1L, 1L)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> messageService.getMessagesAfter(1L, 1L, 10L, 100))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_MEMBER);
+        }
+    }
+
+    @Nested
+    @DisplayName("읽음 처리")
+    class MarkAsRead {
+
+        @Test
+        @DisplayName("멤버 확인은 캐시로, 읽음 위치는 버퍼로 (SELECT 없음)")
+        void marksThroughBuffer() {
+            // given
+            given(channelMembershipCache.isMember(1L, 1L)).willReturn(true);
+            given(unreadSummaryStore.isLastMessage(1L, 10L)).willReturn(false);
+            given(messageRepository.existsByIdAndChannelId(10L, 1L)).willReturn(true);
+
+            // when
+            messageService.markAsRead(1L, 1L, 10L);
+
+            // then
+            verify(readMarkerBuffer).mark(1L, 1L, 10L);
+            verify(unreadSummaryStore).markRead(1L, 1L, 10L);
+            verify(unreadDeltaPublisher).markDirty(1L);
+            verifyNoInteractions(channelMemberRepository);
+        }
+
+        @Test
+        @DisplayName("채널의 마지막 메시지면 메시지 조회 생략")
+        void skipsLookupForLastMessage() {
+            // given
+            given(channelMembershipCache.isMember(1L, 1L)).willReturn(true);
+            given(unreadSummaryStore.isLastMessage(1L, 10L)).willReturn(true);
+
+            // when
+            messageService.markAsRead(1L, 1L, 10L);
+
+            // then
+            verify(readMarkerBuffer).mark(1L, 1L, 10L);
+            verifyNoInteractions(messageRepository);
+        }
+
+        @Test
+        @DisplayName("다른 채널이나 존재하지 않는 메시지면 MESSAGE_NOT_FOUND 예외 발생")
+        void messageNotInChannel() {
+            // given
+            given(channelMembershipCache.isMember(1L, 1L)).willReturn(true);
+            given(unreadSummaryStore.isLastMessage(1L, Long.MAX_VALUE)).willReturn(false);
+            given(messageRepository.existsByIdAndChannelId(Long.MAX_VALUE, 1L)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> messageService.markAsRead(1L, 1L, Long.MAX_VALUE))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.MESSAGE_NOT_FOUND);
+            verifyNoInteractions(readMarkerBuffer);
+        }
+
+        @Test
+        @DisplayName("채널 멤버가 아니면 NOT_MEMBER 예외 발생")
+        void notMember() {
+            // given
+            given(channelMembershipCache.isMember(1L, 1L)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> messageService.markAsRead(1L, 1L, 10L))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_MEMBER);
+            verifyNoInteractions(readMarkerBuffer);
+        }
+    }
+
     @Nested
     @DisplayName("메시지 수정")
     class UpdateMessage {
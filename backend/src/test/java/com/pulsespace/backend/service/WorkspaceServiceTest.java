@@ -1,10 +1,19 @@
 package com.pulsespace.backend.service;
 
+import com.pulsespace.backend.cache.ChannelMembershipCache;
+import com.pulsespace.backend.cache.ReadMarkerBuffer;
+import com.pulsespace.backend.cache.RecentMessageCache;
+import com.pulsespace.backend.cache.SharedRecentMessageCache;
+import com.pulsespace.backend.cache.UnreadSummaryStore;
+import com.pulsespace.backend.domain.channel.ChannelsDeletedEvent;
 import com.pulsespace.backend.domain.user.User;
 import com.pulsespace.backend.domain.workspace.Workspace;
 import com.pulsespace.backend.domain.workspace.WorkspaceMember;
+import com.pulsespace.backend.dto.response.UnreadSummaryResponse;
+import com.pulsespace.backend.dto.response.WorkspaceResponse;
 import com.pulsespace.backend.exception.BusinessException;
 import com.pulsespace.backend.exception.ErrorCode;
+import com.pulsespace.backend.messaging.UnreadDeltaPublisher;
 import com.pulsespace.backend.repository.*;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,12 +22,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -47,6 +60,30 @@ class WorkspaceServiceTest {
     @Mock
     private MessageRepository messageRepository;
 
+    @Mock
+    private ChannelMembershipCache channelMembershipCache;
+
+    @Mock
+    private ReadMarkerBuffer readMarkerBuffer;
+
+    @Mock
+    private UnreadSummaryStore unreadSummaryStore;
+
+    @Mock
+    private RecentMessageCache recentMessageCache;
+
+    @Mock
+    private SharedRecentMessageCache sharedRecentMessageCache;
+
+    @Mock
+    private ChannelReadRepository channelReadRepository;
+
+    @Mock
+    private UnreadDeltaPublisher unreadDeltaPublisher;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Nested
     @DisplayName("워크스페이스 생성")
     class CreateWorkspace {
@@ -92,6 +129,83 @@ class WorkspaceServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("나의 워크스페이스 조회")
+    class GetMyWorkspaces {
+
+        @Test
+        @DisplayName("안 읽은 요약이 있으면 unread 집계 쿼리 없이 응답")
+        void answersFromSummary() {
+            // given
+            User user = User.builder().id(1L).email("test@test.com").passwordHash("test123").name("홍길동").build();
+            Workspace workspace = Workspace.builder().id(100L).name("테스트워크스페이스").owner(user).build();
+            Workspace other = Workspace.builder().id(200L).name("다른워크스페이스").owner(user).build();
+
+            given(unreadSummaryStore.getSummary(1L))
+                    .willReturn(new UnreadSummaryResponse(Map.of(100L, 5L), Map.of(10L, 5L)));
+            given(workspaceMemberRepository.findByUserId(1L)).willReturn(List.of(
+                    WorkspaceMember.builder().workspace(workspace).user(user).role(WorkspaceMember.MemberRole.OWNER).build(),
+                    WorkspaceMember.builder().workspace(other).user(user).role(WorkspaceMember.MemberRole.MEMBER).build()));
+
+            // when
+            List<WorkspaceResponse> result = workspaceService.getMyWorkspaces(1L);
+
+            // then
+            assertThat(result).extracting(WorkspaceResponse::getId, WorkspaceResponse::isHasUnread, WorkspaceResponse::getUnreadCount)
+                    .containsExactly(tuple(100L, true, 5L), tuple(200L, false, 0L));
+            verifyNoInteractions(workspaceRepository, channelMemberRepository);
+        }
+
+        @Test
+        @DisplayName("DB 반영 전 읽음 위치도 함께 읽어 unread 판단")
+        void readsThroughPendingReadMarkers() {
+            // given
+            User user = User.builder().id(1L).email("test@test.com").passwordHash("test123").name("홍길동").build();
+            Workspace workspace = Workspace.builder().id(100L).name("테스트워크스페이스").owner(user).build();
+
+            given(readMarkerBuffer.getPendingChannelIds(1L)).willReturn(Set.of(10L));
+            given(workspaceRepository.findWorkspacesWithUnreadByUserIdExcludingChannels(1L, Set.of(10L)))
+                    .willReturn(List.<Object[]>of(new Object[]{workspace, 0L}));
+            // (channelId, workspaceId, lastMessageId, lastReadMessageId, lastMessageSeq, lastReadSeq) - DB 기준으로는 안 읽음
+            given(channelMemberRepository.findReadStatesByUserIdAndChannelIdIn(1L, Set.of(10L)))
+                    .willReturn(List.<Object[]>of(new Object[]{10L, 100L, 50L, 40L, 12L, 9L}));
+            given(readMarkerBuffer.getPending(10L, 1L)).willReturn(50L);
+
+            // when
+            List<WorkspaceResponse> result = workspaceService.getMyWorkspaces(1L);
+
+            // then
+            assertThat(result).singleElement().satisfies(response -> {
+                assertThat(response.isHasUnread()).isFalse();
+                assertThat(response.getUnreadCount()).isZero();
+            });
+        }
+
+        @Test
+        @DisplayName("반영 전 읽음 위치가 마지막 메시지 전이면 대기 채널의 순번 차이를 DB 집계에 더함")
+        void sumsPendingChannelCounts() {
+            // given
+            User user = User.builder().id(1L).email("test@test.com").passwordHash("test123").name("홍길동").build();
+            Workspace workspace = Workspace.builder().id(100L).name("테스트워크스페이스").owner(user).build();
+
+            given(readMarkerBuffer.getPendingChannelIds(1L)).willReturn(Set.of(10L));
+            given(workspaceRepository.findWorkspacesWithUnreadByUserIdExcludingChannels(1L, Set.of(10L)))
+                    .willReturn(List.<Object[]>of(new Object[]{workspace, 4L}));
+            given(channelMemberRepository.findReadStatesByUserIdAndChannelIdIn(1L, Set.of(10L)))
+                    .willReturn(List.<Object[]>of(new Object[]{10L, 100L, 50L, 40L, 12L, 9L}));
+            given(readMarkerBuffer.getPending(10L, 1L)).willReturn(45L);
+
+            // when
+            List<WorkspaceResponse> result = workspaceService.getMyWorkspaces(1L);
+
+            // then
+            assertThat(result).singleElement().satisfies(response -> {
+                assertThat(response.isHasUnread()).isTrue();
+                assertThat(response.getUnreadCount()).isEqualTo(7L);
+            });
+        }
+    }
+
     @Nested
     @DisplayName("워크스페이스 멤버 추가")
     class AddMember {
@@ -259,6 +373,9 @@ class WorkspaceServiceTest {
             verify(channelRepository, times(1)).deleteByWorkspaceId(1L);
             verify(workspaceMemberRepository, times(1)).deleteByWorkspaceId(1L);
             verify(workspaceRepository, times(1)).delete(workspace);
+            verify(recentMessageCache).evictChannels(List.of());
+            verify(sharedRecentMessageCache).evictChannels(List.of());
+            verify(eventPublisher).publishEvent(new ChannelsDeletedEvent(List.of()));
         }
 
         @Test
@@ -291,6 +408,47 @@ class WorkspaceServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("워크스페이스 전체 읽음 처리")
+    class MarkAllAsRead {
+
+        @Test
+        @DisplayName("UPDATE 한 번으로 읽음 처리 후 요약 반환 - 정상")
+        void success() {
+            // given
+            UnreadSummaryResponse summary = new UnreadSummaryResponse(Map.of(2L, 3L), Map.of(30L, 3L));
+            given(workspaceMemberRepository.existsByWorkspaceIdAndUserId(1L, 1L)).willReturn(true);
+            given(channelReadRepository.markWorkspaceRead(1L, 1L))
+                    .willReturn(Map.of(10L, 5L, 20L, 7L));
+            given(unreadSummaryStore.loadSummary(1L)).willReturn(summary);
+
+            // when
+            UnreadSummaryResponse result = workspaceService.markAllAsRead(1L, 1L);
+
+            // then
+            assertThat(result).isSameAs(summary);
+            verify(channelReadRepository, times(1)).markWorkspaceRead(1L, 1L);
+            verify(unreadSummaryStore).markReadSeqs(1L, Map.of(10L, 5L, 20L, 7L));
+            verify(unreadDeltaPublisher, times(1)).markDirty(1L);
+            verifyNoInteractions(readMarkerBuffer);
+        }
+
+        @Test
+        @DisplayName("워크스페이스 멤버가 아니면 NOT_MEMBER 예외 발생")
+        void notMember() {
+            // given
+            given(workspaceMemberRepository.existsByWorkspaceIdAndUserId(1L, 2L)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> workspaceService.markAllAsRead(2L, 1L))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_MEMBER);
+
+            verify(channelReadRepository, never()).markWorkspaceRead(any(), any());
+            verify(unreadDeltaPublisher, never()).markDirty(any());
+        }
+    }
+
     @Nested
     @DisplayName("워크스페이스 멤버 권한 수정")
     class UpdateMemberRole {
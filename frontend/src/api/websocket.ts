@@ -1,6 +1,6 @@
 import { Client } from '@stomp/stompjs';
 import { useAuthStore } from '../stores/authStore';
-import type { Message } from '../types';
+import type { Message, MessageResync, UnreadDelta } from '../types';
 
 const WS_BASE = import.meta.env.VITE_WS_BASE_URL as string;
 
@@ -47,13 +47,57 @@ export function subscribeChannel(
   channelId: number,
   onMessage: (message: Message) => void,
   client?: Client | null,
+  lastMessageId?: number | null,
 ): () => void {
   // Guard: only subscribe if client is actually connected
   if (!client?.connected) return () => {};
 
+  // With last-message-id the server replays missed messages on /user/queue/resync (subscribe that first)
+  const headers: Record<string, string> = lastMessageId ? { 'last-message-id': String(lastMessageId) } : {};
   const sub = client.subscribe(`/topic/channels/${channelId}`, (frame) => {
     const msg: Message = JSON.parse(frame.body);
     onMessage(msg);
+  }, headers);
+
+  return () => sub.unsubscribe();
+}
+
+export function subscribeResync(
+  onResync: (resync: MessageResync) => void,
+  client?: Client | null,
+): () => void {
+  if (!client?.connected) return () => {};
+
+  const sub = client.subscribe('/user/queue/resync', (frame) => {
+    onResync(JSON.parse(frame.body));
+  });
+
+  return () => sub.unsubscribe();
+}
+
+export function subscribeUnread(
+  onDelta: (delta: UnreadDelta) => void,
+  client?: Client | null,
+): () => void {
+  if (!client?.connected) return () => {};
+
+  // Server pushes debounced absolute counts for changed workspaces/channels (full state on subscribe)
+  const sub = client.subscribe('/user/queue/unread', (frame) => {
+    onDelta(JSON.parse(frame.body));
+  });
+
+  return () => sub.unsubscribe();
+}
+
+export function subscribeErrors(
+  onError: (error: { status: number; message: string }) => void,
+  client?: Client | null,
+): () => void {
+  if (!client?.connected) return () => {};
+
+  // Failed sends (not a member, queue full, save error) are reported only to the sender
+  const sub = client.subscribe('/user/queue/errors', (frame) => {
+    onError(JSON.parse(frame.body));
   });
 
   return () => sub.unsubscribe();
@@ -1,6 +1,6 @@
 import axios from 'axios';
 import { authHeaders } from './auth';
-import type { Workspace, WorkspaceMember } from '../types';
+import type { UnreadDelta, Workspace, WorkspaceMember } from '../types';
 
 const BASE = import.meta.env.VITE_API_BASE_URL;
 
@@ -57,3 +57,11 @@ export async function deleteWorkspace(workspaceId: number): Promise<void> {
     headers: authHeaders(),
   });
 }
+
+// Marks every channel of the workspace read; returns the user's updated unread summary (nonzero counts only, like a full delta)
+export async function markWorkspaceAsRead(workspaceId: number): Promise<UnreadDelta> {
+  const res = await axios.post(`${BASE}/api/workspaces/${workspaceId}/read`, null, {
+    headers: authHeaders(),
+  });
+  return res.data;
+}
@@ -1,18 +1,19 @@
 import { useEffect, useRef, useCallback } from 'react';
 import { Client } from '@stomp/stompjs';
-import { connectStomp, disconnectStomp, subscribeChannel, sendMessage } from '../api/websocket';
+import { connectStomp, disconnectStomp, subscribeChannel, subscribeResync, subscribeUnread, subscribeErrors, sendMessage } from '../api/websocket';
 import { getMessages } from '../api/channel';
 import { useChatStore } from '../stores/chatStore';
 import { useWorkspaceStore } from '../stores/workspaceStore';
-import type { Message } from '../types';
+import type { Message, MessageResync, UnreadDelta } from '../types';
 
 export function useWebSocket() {
   const clientRef = useRef<Client | null>(null);
   const unsubRef = useRef<(() => void) | null>(null);
   const reconnectCountRef = useRef(0);
   const maxReconnect = 5;
+  const resyncTimeoutMs = 10000;
 
-  const { addMessage, syncMessages, setConnectionStatus, updateMessage } = useChatStore();
+  const { addMessage, setMessages, syncMessages, setConnectionStatus, updateMessage } = useChatStore();
   const { currentChannelId, updateChannelLatestMessage, updateChannelUnread, updateChannelHasUnread, updateWorkspaceHasUnread, channels } = useWorkspaceStore();
 
   // Ref to always capture the latest currentChannelId inside async callbacks
@@ -24,21 +25,60 @@ export function useWebSocket() {
   const channelsRef = useRef(channels);
   useEffect(() => { channelsRef.current = channels; }, [channels]);
 
-  // Subscriptions for all channels in the current workspace (background unread tracking)
+  // Subscriptions for all channels in the current workspace (background latest-message previews)
   const allChannelUnsubsRef = useRef<Map<number, () => void>>(new Map());
+  const unreadUnsubRef = useRef<(() => void) | null>(null);
+  // Set once the unread queue answers; it stays silent when the server runs multi-node (relay != local)
+  const unreadQueueLiveRef = useRef(false);
+  const errorUnsubRef = useRef<(() => void) | null>(null);
+  const resyncUnsubRef = useRef<(() => void) | null>(null);
+
+  // While a reconnect resync is running, live messages for that channel are held until COMPLETE
+  const resyncRef = useRef<{ channelId: number; pending: Message[]; timer: ReturnType<typeof setTimeout> } | null>(null);
 
   function handleBackgroundMessage(channelId: number, msg: Message) {
     if (msg.type && msg.type !== 'CREATED') return;
+    updateChannelLatestMessage(channelId, msg.content, msg.createdAt);
+    if (unreadQueueLiveRef.current) return;
+
+    // No unread queue: count badges locally from the channel topics
     const { channels, currentWorkspace } = useWorkspaceStore.getState();
     const ch = channels.find((c) => c.id === channelId);
     updateChannelUnread(channelId, (ch?.unreadCount ?? 0) + 1);
     updateChannelHasUnread(channelId, true);
-    updateChannelLatestMessage(channelId, msg.content, msg.createdAt);
     if (currentWorkspace) {
       updateWorkspaceHasUnread(currentWorkspace.id, true);
     }
   }
 
+  // Unread badges come from the server-pushed per-user queue
+  function handleUnreadDelta(delta: UnreadDelta) {
+    unreadQueueLiveRef.current = true;
+    const activeId = currentChannelIdRef.current;
+    const { channels, workspaces } = useWorkspaceStore.getState();
+
+    // A full snapshot lists only nonzero counts, so everything else is read
+    const channelCounts = new Map(Object.entries(delta.channels).map(([id, count]) => [Number(id), count]));
+    const workspaceCounts = new Map(Object.entries(delta.workspaces).map(([id, count]) => [Number(id), count]));
+    if (delta.full) {
+      for (const ch of channels) {
+        if (ch.member && !channelCounts.has(ch.id)) channelCounts.set(ch.id, 0);
+      }
+      for (const w of workspaces) {
+        if (!workspaceCounts.has(w.id)) workspaceCounts.set(w.id, 0);
+      }
+    }
+
+    for (const [channelId, count] of channelCounts) {
+      if (channelId === activeId) continue;
+      updateChannelUnread(channelId, count);
+      updateChannelHasUnread(channelId, count > 0);
+    }
+    for (const [workspaceId, count] of workspaceCounts) {
+      updateWorkspaceHasUnread(workspaceId, count > 0);
+    }
+  }
+
   function syncAllChannelSubscriptions(client: Client) {
     const activeId = currentChannelIdRef.current;
 
@@ -66,6 +106,15 @@ export function useWebSocket() {
   }
 
   function handleMessage(msg: Message) {
+    const resync = resyncRef.current;
+    if (resync && resync.channelId === msg.channelId) {
+      resync.pending.push(msg);
+      return;
+    }
+    applyMessage(msg);
+  }
+
+  function applyMessage(msg: Message) {
     if (msg.type === 'UPDATED') {
       updateMessage(msg.id, msg);
     } else if (msg.type === 'DELETED') {
@@ -76,6 +125,51 @@ export function useWebSocket() {
     }
   }
 
+  function startResync(channelId: number) {
+    cancelResync();
+    // No answer (e.g. access revoked) — fall back to a REST reload so live messages are not held forever
+    const timer = setTimeout(() => reloadChannel(channelId), resyncTimeoutMs);
+    resyncRef.current = { channelId, pending: [], timer };
+  }
+
+  // Apply held live messages (BATCH ids are already in the store, addMessage skips them)
+  function finishResync() {
+    const resync = resyncRef.current;
+    if (!resync) return;
+    clearTimeout(resync.timer);
+    resyncRef.current = null;
+    resync.pending.forEach(applyMessage);
+  }
+
+  function cancelResync() {
+    if (resyncRef.current) clearTimeout(resyncRef.current.timer);
+    resyncRef.current = null;
+  }
+
+  function reloadChannel(channelId: number) {
+    getMessages(channelId, { limit: 50 })
+      .then((messages) => {
+        if (currentChannelIdRef.current === channelId) setMessages(messages);
+      })
+      .catch(() => {})
+      .finally(() => {
+        if (resyncRef.current?.channelId === channelId) finishResync();
+      });
+  }
+
+  function handleResync(resync: MessageResync) {
+    if (resyncRef.current?.channelId !== resync.channelId) return;
+
+    if (resync.type === 'BATCH') {
+      syncMessages(resync.messages);
+    } else if (resync.type === 'COMPLETE') {
+      finishResync();
+    } else {
+      // Too far behind or server busy
+      reloadChannel(resync.channelId);
+    }
+  }
+
   // Connect on mount
   useEffect(() => {
     const client = connectStomp((status) => {
@@ -84,23 +178,30 @@ export function useWebSocket() {
       if (status === 'CONNECTED' && client) {
         reconnectCountRef.current = 0;
 
-        // (Re)subscribe to the current channel immediately on connect/reconnect
+        // Resync replies go to this session's queue, so subscribe before the channel
+        resyncUnsubRef.current?.();
+        resyncUnsubRef.current = subscribeResync(handleResync, client);
+
+        // (Re)subscribe to the current channel immediately on connect/reconnect,
+        // asking the server to replay anything after the last message we have
         const chId = currentChannelIdRef.current;
         if (chId) {
+          const { lastReceivedMessageId } = useChatStore.getState();
+          if (lastReceivedMessageId) startResync(chId);
           unsubRef.current?.();
-          unsubRef.current = subscribeChannel(chId, handleMessage, client);
+          unsubRef.current = subscribeChannel(chId, handleMessage, client, lastReceivedMessageId);
         }
 
-        // Subscribe all workspace channels for unread tracking
+        // Subscribe all workspace channels for previews, and the unread queue for badges
         syncAllChannelSubscriptions(client);
-
-        // Sync missed messages on reconnect
-        const { lastReceivedMessageId } = useChatStore.getState();
-        if (chId && lastReceivedMessageId) {
-          getMessages(chId, { afterMessageId: lastReceivedMessageId, limit: 100 })
-            .then(syncMessages)
-            .catch(() => {});
-        }
+        unreadQueueLiveRef.current = false;
+        unreadUnsubRef.current?.();
+        unreadUnsubRef.current = subscribeUnread(handleUnreadDelta, client);
+        errorUnsubRef.current?.();
+        errorUnsubRef.current = subscribeErrors(
+          (error) => console.error('Message send failed:', error.status, error.message),
+          client,
+        );
       }
 
       if (status === 'RECONNECTING') {
@@ -117,6 +218,10 @@ export function useWebSocket() {
       disconnectStomp();
       allChannelUnsubsRef.current.forEach((unsub) => unsub());
       allChannelUnsubsRef.current.clear();
+      unreadUnsubRef.current = null;
+      errorUnsubRef.current = null;
+      resyncUnsubRef.current = null;
+      cancelResync();
     };
   // eslint-disable-next-line react-hooks/exhaustive-deps
   }, []);
@@ -125,6 +230,8 @@ export function useWebSocket() {
   useEffect(() => {
     if (!currentChannelId || !clientRef.current?.connected) return;
 
+    // A new channel is loaded over REST, so a resync for the previous one no longer applies
+    cancelResync();
     unsubRef.current?.();
     unsubRef.current = subscribeChannel(currentChannelId, handleMessage, clientRef.current);
 
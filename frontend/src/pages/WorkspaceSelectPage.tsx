@@ -1,8 +1,8 @@
 import { useEffect, useState, type FormEvent } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { motion } from 'framer-motion';
-import { Hash, Plus, Zap, Loader2, Trash2 } from 'lucide-react';
-import { getWorkspaces, createWorkspace, getWorkspaceMembers, getWorkspaceMyRole, deleteWorkspace } from '../api/workspace';
+import { Hash, Plus, Zap, Loader2, Trash2, CheckCheck } from 'lucide-react';
+import { getWorkspaces, createWorkspace, getWorkspaceMembers, getWorkspaceMyRole, deleteWorkspace, markWorkspaceAsRead } from '../api/workspace';
 import { getChannels } from '../api/channel';
 import { useWorkspaceStore } from '../stores/workspaceStore';
 import type { Workspace, Channel } from '../types';
@@ -59,6 +59,25 @@ export default function WorkspaceSelectPage() {
     setDeleteTarget(null);
   }
 
+  // The response is the user's whole unread summary (nonzero counts only)
+  async function handleMarkAllRead(wsId: number) {
+    try {
+      const summary = await markWorkspaceAsRead(wsId);
+      const updated = workspaces.map((w) => ({ ...w, hasUnread: (summary.workspaces[w.id] ?? 0) > 0 }));
+      setLocalWs(updated);
+      setStoreWs(updated);
+      setChannelMap((prev) => ({
+        ...prev,
+        [wsId]: (prev[wsId] ?? []).map((c) => {
+          const unreadCount = summary.channels[c.id] ?? 0;
+          return { ...c, unreadCount, hasUnread: unreadCount > 0 };
+        }),
+      }));
+    } catch (err) {
+      console.error('Mark all as read failed:', err);
+    }
+  }
+
   function getRecentChannels(wsId: number) {
     const channels = channelMap[wsId] ?? [];
     return channels
@@ -158,6 +177,15 @@ export default function WorkspaceSelectPage() {
                           <h3 className="text-lg font-semibold text-primary group-hover:text-accent transition-colors truncate flex-1">
                             {ws.name}
                           </h3>
+                          {(totalUnread > 0 || ws.hasUnread) && (
+                            <button
+                              onClick={(e) => { e.stopPropagation(); handleMarkAllRead(ws.id); }}
+                              className="opacity-0 group-hover:opacity-100 p-1 rounded-lg hover:bg-accent/10 text-muted hover:text-accent transition-all shrink-0"
+                              title="모두 읽음으로 표시"
+                            >
+                              <CheckCheck className="w-3.5 h-3.5" />
+                            </button>
+                          )}
                           {canDelete && (
                             <button
                               onClick={(e) => { e.stopPropagation(); setDeleteTarget(ws); }}
@@ -4,6 +4,23 @@ export interface User {
   name: string;
 }
 
+export interface UnreadDelta {
+  // id → unread count (0 means read)
+  workspaces: Record<string, number>;
+  channels: Record<string, number>;
+  // Full state (sent on subscribe): ids not listed have no unread messages
+  full?: boolean;
+}
+
+// /user/queue/resync: missed messages after reconnect (BATCH until COMPLETE, or RELOAD to refetch over REST)
+export interface MessageResync {
+  type: 'BATCH' | 'COMPLETE' | 'RELOAD';
+  channelId: number;
+  messages: Message[];
+  lastMessageId?: number;
+  reason?: string;
+}
+
 export interface Workspace {
   id: number;
   name: string;